@@ -6,12 +6,18 @@ package ArenaGame;
  * 
  * Responsibilities:
  * - Start the game by launching GameMenu
+ * - Switch to turbo pacing (no pauses) with --turbo, for scripted play
  */
 public class ARENA {
      /**
      * Main method, starts the Arena game.
+     *
+     * @param args "--turbo" to skip all pauses
      */
     public static void main(String[] args) {
+        if (java.util.Arrays.asList(args).contains("--turbo")) {
+            Pacing.set(Pacing.TURBO);
+        }
         GameMenu menu = new GameMenu();
         menu.run();
     }
@@ -1,25 +1,31 @@
 package ArenaGame;
 
-import java.util.*;
+import ArenaGame.storage.BattleLogRepository;
+import ArenaGame.storage.Repositories;
 
 /**
  * Handles battles between the player and an enemy gladiator.
  * 
  * Responsibilities: - Runs game until either party is defeated.
- * Logs result of combat to files for FileManager class to handle
+ * Logs each action and the result of combat to the battle log repository
+ * and scores wins, the same rows the GUI writes.
  * Shows combat updates in real-time.
  */
 public class BattleManager {
 
     private PlayerGladiator player;
     private Gladiator enemy;
+    private final Repositories repositories;
 
     /**
      * Create a new BattleManager with a player and an enemy.
+     *
+     * @param repositories where the score and battle log are recorded
      */
-    public BattleManager(PlayerGladiator player, Gladiator enemy) {
+    public BattleManager(PlayerGladiator player, Gladiator enemy, Repositories repositories) {
         this.player = player;
         this.enemy = enemy;
+        this.repositories = repositories;
     }
 
     /**
@@ -29,11 +35,12 @@ public class BattleManager {
      * @return true if the player won, false if lost
      */
     public boolean startBattle() {
+        BattleLogRepository log = repositories.logs();
         while (player.isAlive() && enemy.isAlive() && GameMenu.running) {
             clearScreen();
             showStats();
 
-            player.takeTurn(enemy);
+            player.takeTurn(enemy, log);
             if (!GameMenu.running) {
                 return false;
             }
@@ -43,16 +50,17 @@ public class BattleManager {
                 break;
             }
 
-            enemy.takeTurn(player);
+            enemy.takeTurn(player, log);
             pause(300);
         }
+        ConsoleRenderer.get().endFrame();
 
         if (!GameMenu.running) {
             return false;
         }
 
         boolean playerWon = player.isAlive();
-        System.out.println(playerWon ? "\nYou stand victorious." : "\nYou lose the battle");
+        ConsoleRenderer.get().println(playerWon ? "\nYou stand victorious." : "\nYou lose the battle");
         recordResult(playerWon);
         return playerWon;
     }
@@ -61,56 +69,34 @@ public class BattleManager {
      * Saves the result of the battle to scores and logs.
      */
     private void recordResult(boolean playerWon) {
-        String result = player.isAlive()
-                ? player.getName() + " won against " + enemy.getName()
-                : player.getName() + " lost to " + enemy.getName();
-
-        Map<String, Integer> scores = FileManager.readScores();
-        if (player.isAlive()) {
-            scores.put(player.getName(), scores.getOrDefault(player.getName(), 0) + 1);
+        if (playerWon) {
+            repositories.players().incrementScore(player.getName());
         }
-        FileManager.writeScores(scores);
-        FileManager.writeBattleLog(result);
+        repositories.logs().addBattleLog(player.getName(), enemy.getName(), playerWon ? "WIN" : "LOSS");
     }
 
     /**
      * Shows player and enemy status on screen.
      */
     private void showStats() {
-        System.out.println("======= ARENA STATUS =======");
-        System.out.printf("%-10s HP: %-4d/%-4d%n", player.getName(), player.getHealth(), player.getMaxHealth());
-        System.out.printf("%-10s HP: %-4d %s%n", enemy.getName(), enemy.getHealth(),
+        ConsoleRenderer.get().println("======= ARENA STATUS =======");
+        ConsoleRenderer.get().printf("%-10s HP: %-4d/%-4d%n", player.getName(), player.getHealth(), player.getMaxHealth());
+        ConsoleRenderer.get().printf("%-10s HP: %-4d %s%n", enemy.getName(), enemy.getHealth(),
                 enemy.isBlocking() ? "(Guarding)" : "");
-        System.out.println("============================");
+        ConsoleRenderer.get().println("============================");
     }
 
     /**
-     * Clears the console screen.
+     * Starts a new frame for the turn, replacing the previous one on screen.
      */
     private void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
-    }
-
-    /**
-     * Adds an action to the battle log.
-     */
-    public static void logAction(String actor, String action, int damage) {
-        String entry = actor + " " + action;
-        if (damage > 0) {
-            entry += " for " + damage + " damage.";
-        }
-        FileManager.writeBattleLog(entry);
+        ConsoleRenderer.get().beginFrame();
     }
 
     /**
-     * Pauses the game for a short time.
+     * Pauses the game for a short time, following the current pacing.
      */
     private void pause(int ms) {
-        try {
-            Thread.sleep(ms);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pacing.pause(ms);
     }
 }
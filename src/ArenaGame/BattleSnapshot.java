@@ -0,0 +1,30 @@
+package ArenaGame;
+
+/**
+ * Immutable state of a whole battle after a turn, published by the thread
+ * running the battle through a single volatile reference. Readers get both
+ * gladiators from the same turn without taking a lock.
+ *
+ * @param turn   number of player turns resolved, 0 before the first
+ * @param player the player's stats
+ * @param enemy  the enemy's stats
+ */
+public record BattleSnapshot(int turn, GladiatorSnapshot player, GladiatorSnapshot enemy) {
+
+    /**
+     * @param turn   number of player turns resolved
+     * @param player the player gladiator
+     * @param enemy  the enemy gladiator
+     * @return a snapshot of both gladiators, taken on the thread running the battle
+     */
+    public static BattleSnapshot of(int turn, Gladiator player, Gladiator enemy) {
+        return new BattleSnapshot(turn, player.snapshot(), enemy.snapshot());
+    }
+
+    /**
+     * @return true once either gladiator is defeated
+     */
+    public boolean isOver() {
+        return !player.isAlive() || !enemy.isAlive();
+    }
+}
@@ -0,0 +1,320 @@
+package ArenaGame;
+
+import ArenaGame.ai.WeightedRandomStrategy;
+import java.io.*;
+import java.util.*;
+
+/**
+ * CombatRules holds the balance numbers of one rule set, loaded once from
+ * rules.properties in the working directory (built-in defaults are used for
+ * anything missing) so designers can tune combat without recompiling.
+ * <p>
+ * There are two rule sets, "console" (CLI, server, tournaments) and "gui"
+ * (BattleFrame). Keys are "&lt;set&gt;.&lt;rule&gt;", and hits dealt by the enemy
+ * can override any damage rule with "&lt;set&gt;.enemy.&lt;rule&gt;". The defaults
+ * reproduce the original hardcoded rules of both frontends.
+ * <p>
+ * Damage rules are compiled into flat lookup tables when loaded: a hit with
+ * attack and defense below 128 is a single array read, with no formula or
+ * rule branches left to evaluate per hit.
+ *
+ * Rules:
+ * - damage.formula: scaled (attack * scale / (defense + scale)), subtractive (attack - defense, at least 1) or flat (attack)
+ * - damage.scale: the scale of the scaled formula
+ * - guard.rounding: up or down, how a guarded hit is halved
+ * - damage.minimum: least damage a hit can do after guarding
+ * - taunt.chance: percent chance a taunt lowers the target's stats
+ * - taunt.debuff: percent of attack and defense a landed taunt removes
+ * - ai.weights: attack, guard and taunt weights of the default enemy 'ai'
+ * - ai.cautious: enemy guards below 30% health and attacks an opponent below 30%
+ */
+public final class CombatRules {
+
+    public static final String RULES_FILE = "rules.properties";
+    public static final String CONSOLE = "console";
+    public static final String GUI = "gui";
+
+    static final int TABLE_BITS = 7; // tables cover attack and defense 0-127
+    private static final int TABLE_MASK = ~((1 << TABLE_BITS) - 1);
+
+    private static final int SCALED = 0;
+    private static final int SUBTRACTIVE = 1;
+    private static final int FLAT = 2;
+    private static final List<String> FORMULAS = List.of("scaled", "subtractive", "flat");
+
+    private static final Properties DEFAULTS = new Properties();
+
+    static {
+        DEFAULTS.setProperty("console.damage.formula", "scaled");
+        DEFAULTS.setProperty("console.damage.scale", "50");
+        DEFAULTS.setProperty("console.guard.rounding", "up");
+        DEFAULTS.setProperty("console.damage.minimum", "1");
+        DEFAULTS.setProperty("console.taunt.chance", "0");
+        DEFAULTS.setProperty("console.taunt.debuff", "20");
+        DEFAULTS.setProperty("console.ai.weights", "5,4,1");
+        DEFAULTS.setProperty("console.ai.cautious", "true");
+
+        DEFAULTS.setProperty("gui.damage.formula", "subtractive");
+        DEFAULTS.setProperty("gui.enemy.damage.formula", "flat");
+        DEFAULTS.setProperty("gui.damage.scale", "50");
+        DEFAULTS.setProperty("gui.guard.rounding", "down");
+        DEFAULTS.setProperty("gui.damage.minimum", "0");
+        DEFAULTS.setProperty("gui.enemy.damage.minimum", "1");
+        DEFAULTS.setProperty("gui.taunt.chance", "70");
+        DEFAULTS.setProperty("gui.taunt.debuff", "20");
+        DEFAULTS.setProperty("gui.ai.weights", "6,2,2");
+        DEFAULTS.setProperty("gui.ai.cautious", "false");
+    }
+
+    private static final Properties FILE_RULES = readRulesFile();
+    private static final CombatRules CONSOLE_RULES = compile(FILE_RULES, CONSOLE);
+    private static final CombatRules GUI_RULES = compile(FILE_RULES, GUI);
+
+    /**
+     * Stats removed by a landed taunt.
+     */
+    public record Taunt(int attackLoss, int defenseLoss) { }
+
+    private final Hit playerHits;
+    private final Hit enemyHits;
+    private final int tauntChance;
+    private final int tauntDebuff;
+    private final int[] aiWeights;
+    private final boolean aiCautious;
+
+    private CombatRules(Hit playerHits, Hit enemyHits, int tauntChance, int tauntDebuff, int[] aiWeights, boolean aiCautious) {
+        this.playerHits = playerHits;
+        this.enemyHits = enemyHits;
+        this.tauntChance = tauntChance;
+        this.tauntDebuff = tauntDebuff;
+        this.aiWeights = aiWeights;
+        this.aiCautious = aiCautious;
+    }
+
+    /**
+     * @return rules used by the CLI, server and tournaments
+     */
+    public static CombatRules console() {
+        return CONSOLE_RULES;
+    }
+
+    /**
+     * @return rules used by the GUI
+     */
+    public static CombatRules gui() {
+        return GUI_RULES;
+    }
+
+    /**
+     * Compiles one rule set.
+     *
+     * @param rules values that override the defaults (may be empty)
+     * @param set   CONSOLE or GUI
+     * @return the compiled rules
+     */
+    public static CombatRules compile(Properties rules, String set) {
+        Hit playerHits = new Hit(
+                choice(rules, set, "", "damage.formula"),
+                number(rules, set, "", "damage.scale", 1, 10_000),
+                "up".equalsIgnoreCase(text(rules, set, "", "guard.rounding")),
+                number(rules, set, "", "damage.minimum", 0, 100));
+        Hit enemyHits = new Hit(
+                choice(rules, set, "enemy.", "damage.formula"),
+                number(rules, set, "enemy.", "damage.scale", 1, 10_000),
+                "up".equalsIgnoreCase(text(rules, set, "enemy.", "guard.rounding")),
+                number(rules, set, "enemy.", "damage.minimum", 0, 100));
+        int[] weights = weights(rules, set);
+        return new CombatRules(playerHits, enemyHits,
+                number(rules, set, "", "taunt.chance", 0, 100),
+                number(rules, set, "", "taunt.debuff", 0, 100),
+                weights,
+                Boolean.parseBoolean(text(rules, set, "", "ai.cautious")));
+    }
+
+    // ========== COMBAT ==========
+
+    /**
+     * @return damage a hit by the player does
+     */
+    public int playerHit(int attack, int defense, boolean blocking) {
+        return playerHits.damage(attack, defense, blocking);
+    }
+
+    /**
+     * @return damage a hit by the enemy does
+     */
+    public int enemyHit(int attack, int defense, boolean blocking) {
+        return enemyHits.damage(attack, defense, blocking);
+    }
+
+    /**
+     * Rolls a taunt against the target and lowers its stats if it lands.
+     * Uses no random numbers when taunts cannot land.
+     *
+     * @param target gladiator being taunted
+     * @param random random generator for the roll
+     * @return stats removed, or null if the taunt had no effect
+     */
+    public Taunt taunt(Gladiator target, Random random) {
+        if (tauntChance <= 0 || random.nextInt(100) >= tauntChance) {
+            return null;
+        }
+        int attackLoss = target.getAttack() * tauntDebuff / 100; // relative to current stats, not a fixed value
+        int defenseLoss = target.getDefense() * tauntDebuff / 100;
+        target.setAttack(Math.max(1, target.getAttack() - attackLoss));
+        target.setDefense(Math.max(0, target.getDefense() - defenseLoss));
+        return new Taunt(attackLoss, defenseLoss);
+    }
+
+    /**
+     * @return true if a taunt can change stats under these rules
+     */
+    public boolean tauntsHaveEffect() {
+        return tauntChance > 0 && tauntDebuff > 0;
+    }
+
+    /**
+     * @param random random generator for decisions
+     * @return the default enemy 'ai' with these rules' weights
+     */
+    public WeightedRandomStrategy strategy(Random random) {
+        return new WeightedRandomStrategy(random, aiWeights[0], aiWeights[1], aiWeights[2], aiCautious);
+    }
+
+    /**
+     * Damage rules for hits dealt by one side, compiled into a table.
+     */
+    private static final class Hit {
+
+        private final int formula;
+        private final int scale;
+        private final boolean roundGuardUp;
+        private final int minimum;
+        private final byte[] table = new byte[1 << (2 * TABLE_BITS + 1)];
+
+        Hit(int formula, int scale, boolean roundGuardUp, int minimum) {
+            this.formula = formula;
+            this.scale = scale;
+            this.roundGuardUp = roundGuardUp;
+            this.minimum = minimum;
+            for (int attack = 0; attack < 1 << TABLE_BITS; attack++) {
+                for (int defense = 0; defense < 1 << TABLE_BITS; defense++) {
+                    table[index(attack, defense, false)] = (byte) compute(attack, defense, false);
+                    table[index(attack, defense, true)] = (byte) compute(attack, defense, true);
+                }
+            }
+        }
+
+        private static int index(int attack, int defense, boolean blocking) {
+            return (attack << (TABLE_BITS + 1)) | (defense << 1) | (blocking ? 1 : 0);
+        }
+
+        int damage(int attack, int defense, boolean blocking) {
+            if (((attack | defense) & TABLE_MASK) == 0) {
+                return table[index(attack, defense, blocking)];
+            }
+            return compute(attack, defense, blocking);
+        }
+
+        /**
+         * Evaluates the rules directly, used to fill the table and for
+         * stats outside it.
+         */
+        int compute(int attack, int defense, boolean blocking) {
+            if (formula == SCALED && scale == 50 && roundGuardUp && minimum == 1) {
+                return DamageTable.damage(attack, defense, blocking); // the original console rule, integer only
+            }
+            int damage = switch (formula) {
+                case SCALED -> (int) Math.round(attack * (1 - ((double) defense / (defense + scale))));
+                case SUBTRACTIVE -> defense < attack ? attack - defense : 1;
+                default -> attack;
+            };
+            if (blocking) {
+                damage = roundGuardUp ? (damage + 1) >> 1 : damage >> 1;
+            }
+            return Math.max(damage, minimum);
+        }
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Reads rules.properties from the working directory, empty if missing.
+     */
+    private static Properties readRulesFile() {
+        Properties rules = new Properties();
+        File file = new File(RULES_FILE);
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file)) {
+                rules.load(reader);
+            } catch (IOException error) {
+                System.err.println("Error reading " + RULES_FILE + ", using default rules: " + error.getMessage());
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Looks a rule up: enemy override, then the set's rule, first in the
+     * given rules and then in the defaults.
+     */
+    private static String text(Properties rules, String set, String side, String key) {
+        for (Properties source : new Properties[]{rules, DEFAULTS}) {
+            String value = source.getProperty(set + "." + side + key);
+            if (value == null) {
+                value = source.getProperty(set + "." + key);
+            }
+            if (value != null) {
+                return value.trim();
+            }
+        }
+        throw new IllegalArgumentException("Unknown rule set: " + set);
+    }
+
+    private static String defaultText(String set, String side, String key) {
+        return text(new Properties(), set, side, key);
+    }
+
+    private static int choice(Properties rules, String set, String side, String key) {
+        int formula = FORMULAS.indexOf(text(rules, set, side, key).toLowerCase());
+        if (formula < 0) {
+            System.err.println("Unknown " + set + "." + side + key + " in " + RULES_FILE + ", using default.");
+            formula = FORMULAS.indexOf(defaultText(set, side, key));
+        }
+        return formula;
+    }
+
+    private static int number(Properties rules, String set, String side, String key, int min, int max) {
+        String value = text(rules, set, side, key);
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= min && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException error) {
+            // reported below
+        }
+        System.err.println("Invalid " + set + "." + side + key + " '" + value + "' in " + RULES_FILE
+                + " (expected " + min + "-" + max + "), using default.");
+        return Integer.parseInt(defaultText(set, side, key));
+    }
+
+    private static int[] weights(Properties rules, String set) {
+        String value = text(rules, set, "", "ai.weights");
+        String[] parts = value.split(",");
+        try {
+            int[] weights = new int[3];
+            for (int i = 0; i < 3; i++) {
+                weights[i] = Integer.parseInt(parts[i].trim());
+            }
+            if (parts.length == 3 && weights[0] >= 0 && weights[1] >= 0 && weights[2] >= 0
+                    && weights[0] + weights[1] + weights[2] > 0) {
+                return weights;
+            }
+        } catch (RuntimeException error) { // NumberFormatException or too few parts
+            // reported below
+        }
+        System.err.println("Invalid " + set + ".ai.weights '" + value + "' in " + RULES_FILE + ", using default.");
+        return weights(new Properties(), set);
+    }
+}
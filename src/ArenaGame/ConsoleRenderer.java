@@ -0,0 +1,222 @@
+package ArenaGame;
+
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * ConsoleRenderer is the single, buffered path for all console game output.
+ * <p>
+ * Text is collected in memory and written in one go when the game waits
+ * for input, pauses, or exits. During a battle each turn is drawn as a frame:
+ * on an ANSI terminal the next frame overwrites the previous one in place
+ * and only rows that changed are rewritten, instead of clearing the whole
+ * screen. Output of a frame that was never shown (e.g. in turbo pacing) is
+ * simply replaced by the next frame.
+ * When output is not a terminal (piped or scripted runs) no ANSI codes are
+ * written at all. Set the "arena.console" system property to "ansi" or
+ * "plain" to override the detection.
+ */
+public final class ConsoleRenderer {
+
+    /**
+     * Frames taller than this are written as plain text, the terminal may
+     * scroll and rows could no longer be addressed.
+     */
+    static final int MAX_FRAME_ROWS = 20;
+
+    private static final String ESC = "\033[";
+    private static final ConsoleRenderer INSTANCE = create();
+
+    private final PrintStream out;
+    private final boolean ansi;
+
+    // Rows of the current frame (or stream), null marks a row holding the player's typed input
+    private final List<String> rows = new ArrayList<>();
+    private final StringBuilder current = new StringBuilder();
+    private int writtenRows;
+    private int writtenPartial;
+
+    private boolean framed;
+    private boolean clearPending;
+    private List<String> previous = List.of(); // rows on screen from the last frame
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * @param out  where finished output is written
+     * @param ansi true to draw frames with ANSI cursor codes
+     */
+    ConsoleRenderer(PrintStream out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+    }
+
+    private static ConsoleRenderer create() {
+        String mode = System.getProperty("arena.console", "");
+        boolean ansi = mode.equalsIgnoreCase("ansi") || (!mode.equalsIgnoreCase("plain") && System.console() != null);
+        ConsoleRenderer renderer = new ConsoleRenderer(System.out, ansi);
+        Runtime.getRuntime().addShutdownHook(new Thread(renderer::flush));
+        return renderer;
+    }
+
+    /**
+     * @return the renderer used by the console game
+     */
+    public static ConsoleRenderer get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return true if frames are drawn with ANSI codes
+     */
+    public boolean isAnsi() {
+        return ansi;
+    }
+
+    public synchronized void print(String text) {
+        int start = 0;
+        int newline;
+        while ((newline = text.indexOf('\n', start)) >= 0) {
+            current.append(text, start, newline);
+            rows.add(current.toString());
+            current.setLength(0);
+            start = newline + 1;
+        }
+        current.append(text, start, text.length());
+    }
+
+    public void println(String text) {
+        print(text + "\n");
+    }
+
+    public void println() {
+        print("\n");
+    }
+
+    public void printf(String format, Object... args) {
+        print(String.format(format, args));
+    }
+
+    /**
+     * Starts a new frame that replaces the previous one on screen.
+     * Replaces clearing the screen.
+     */
+    public synchronized void beginFrame() {
+        if (!ansi) {
+            return;
+        }
+        if (framed && rows.size() < MAX_FRAME_ROWS) {
+            List<String> shown = new ArrayList<>(rows.subList(0, writtenRows));
+            if (writtenPartial > 0) {
+                shown.add(current.substring(0, writtenPartial));
+            }
+            previous = shown;
+        } else {
+            flush(); // text outside a frame is kept, the clear follows it
+            previous = List.of();
+            clearPending = true;
+        }
+        framed = true;
+        rows.clear();
+        current.setLength(0);
+        writtenRows = 0;
+        writtenPartial = 0;
+    }
+
+    /**
+     * Shows the last frame and goes back to plain, scrolling output.
+     */
+    public synchronized void endFrame() {
+        flush();
+        framed = false;
+        rows.clear();
+        writtenRows = 0;
+    }
+
+    /**
+     * Writes everything pending and marks the row holding the prompt as the
+     * player's input. Call right before reading from the console.
+     */
+    public synchronized void awaitInput() {
+        flush();
+        rows.add(null);
+        current.setLength(0);
+        writtenRows = rows.size();
+        writtenPartial = 0;
+    }
+
+    /**
+     * Writes all pending output with a single write.
+     */
+    public synchronized void flush() {
+        if (framed) {
+            renderFrame();
+        } else {
+            renderStream();
+        }
+        if (buffer.length() > 0) {
+            out.print(buffer);
+            out.flush();
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Appends unwritten rows as plain text.
+     */
+    private void renderStream() {
+        for (int i = writtenRows; i < rows.size(); i++) {
+            String row = rows.get(i);
+            if (row != null) { // a typed row is already on screen
+                buffer.append(row, i == writtenRows ? Math.min(writtenPartial, row.length()) : 0, row.length()).append('\n');
+            }
+        }
+        int from = rows.size() == writtenRows ? writtenPartial : 0;
+        buffer.append(current, from, current.length());
+        rows.clear();
+        writtenRows = 0;
+        writtenPartial = current.length();
+    }
+
+    /**
+     * Draws unwritten rows at their place in the frame, skipping rows that
+     * match what the previous frame left on screen, then clears below.
+     */
+    private void renderFrame() {
+        if (clearPending) {
+            buffer.append(ESC).append("H").append(ESC).append("2J");
+            clearPending = false;
+        }
+        if (rows.size() >= MAX_FRAME_ROWS) { // too tall, carry on from the cursor as plain text
+            framed = false;
+            renderStream();
+            return;
+        }
+        int from = rows.size() == writtenRows ? writtenPartial : 0;
+        if (writtenRows == rows.size() && from == current.length() && writtenRows + from > 0) {
+            return; // nothing new
+        }
+        for (int i = writtenRows; i < rows.size(); i++) {
+            String row = rows.get(i);
+            if (row == null) {
+                continue; // the player's typed input, already on screen
+            }
+            int start = i == writtenRows ? Math.min(writtenPartial, row.length()) : 0;
+            if (start == 0 && i < previous.size() && row.equals(previous.get(i))) {
+                continue; // unchanged since the last frame
+            }
+            moveTo(i, start);
+            buffer.append(row, start, row.length()).append(ESC).append('K');
+        }
+        moveTo(rows.size(), from);
+        buffer.append(current, from, current.length()).append(ESC).append('J');
+        if (previous.size() > rows.size()) {
+            previous = previous.subList(0, rows.size()); // everything below was just cleared
+        }
+        writtenRows = rows.size();
+        writtenPartial = current.length();
+    }
+
+    private void moveTo(int row, int column) {
+        buffer.append(ESC).append(row + 1).append(';').append(column + 1).append('H');
+    }
+}
@@ -0,0 +1,193 @@
+package ArenaGame;
+
+import java.util.Random;
+
+/**
+ * DamageTable computes hit damage with integer arithmetic only.
+ * <p>
+ * The defense multiplier 50 / (defense + 50) (i.e. 1 - defense / (defense + 50))
+ * is stored once per defense value as a Q42 fixed-point integer, so a hit is
+ * one multiply, one add and one shift, and always rounds exactly like
+ * Math.round on the true value. The original double formula only differs
+ * from that on exact .5 ties, which show up as an (almost) zero fraction:
+ * there the table replays the double computation in integers, using the
+ * double multiplier's mantissa and rounding the product to double precision.
+ * Results are bit-identical to the original formula without floating-point
+ * work or console output. Values outside the table range fall back to the
+ * original formula.
+ */
+public final class DamageTable {
+
+    public static final int MAX_DEFENSE = 1023; // both limits are all ones, checked with one mask
+    public static final int MAX_DAMAGE = 1023; // keeps damage * mantissa inside a long
+
+    private static final int FRACTION_BITS = 42;
+    private static final long HALF = 1L << (FRACTION_BITS - 1);
+    private static final long FRACTION_MASK = (1L << FRACTION_BITS) - 1;
+    private static final long TIE_WINDOW = 1L << 12; // far above the fixed-point error, far below any non-tie fraction
+    private static final long[] MULTIPLIER = new long[MAX_DEFENSE + 1];
+
+    private static final int DOUBLE_PRECISION = 53;
+    private static final long[] MANTISSA = new long[MAX_DEFENSE + 1];
+    private static final int[] SHIFT = new int[MAX_DEFENSE + 1];
+
+    static {
+        for (int defense = 0; defense <= MAX_DEFENSE; defense++) {
+            long divisor = defense + 50;
+            MULTIPLIER[defense] = ((50L << FRACTION_BITS) + divisor - 1) / divisor; // rounded up, so ties stay ties
+
+            double multiplier = 1 - ((double) defense / (defense + 50)); // same expression as the original formula
+            long bits = Double.doubleToRawLongBits(multiplier);
+            MANTISSA[defense] = (bits & ((1L << 52) - 1)) | (1L << 52);
+            SHIFT[defense] = 1075 - (int) ((bits >>> 52) & 0x7ff); // multiplier = mantissa / 2^shift
+        }
+    }
+
+    private DamageTable() {
+    }
+
+    /**
+     * Damage taken from a raw hit: reduced by defense, halved (rounded up)
+     * when blocking and always at least 1.
+     *
+     * @param damage   raw damage before reductions
+     * @param defense  defense of the gladiator being hit
+     * @param blocking true if the gladiator being hit is guarding
+     * @return damage after reductions
+     */
+    public static int damage(int damage, int defense, boolean blocking) {
+        if (((damage | defense) & ~MAX_DEFENSE) != 0) { // negative or above 1023
+            return referenceDamage(damage, defense, blocking);
+        }
+        long scaled = damage * MULTIPLIER[defense] + HALF;
+        int totalDamage = (scaled & FRACTION_MASK) < TIE_WINDOW
+                ? reduceTie(damage, defense) // true value ends in .5, follow the double rounding
+                : (int) (scaled >>> FRACTION_BITS); // Math.round(damage * multiplier)
+        if (blocking) {
+            totalDamage = (totalDamage + 1) >> 1; // ceil(total / 2)
+        }
+        return Math.max(totalDamage, 1); // always at least 1 damage
+    }
+
+    /**
+     * Replays the double multiply: exact product with the double
+     * multiplier's mantissa, rounded to 53 bits, then rounded half up.
+     */
+    private static int reduceTie(int damage, int defense) {
+        long product = damage * MANTISSA[defense]; // exact, below 2^63
+        int shift = SHIFT[defense];
+        // round to 53 significant bits, nearest even, like the double multiply
+        int excess = 64 - Long.numberOfLeadingZeros(product) - DOUBLE_PRECISION;
+        if (excess > 0) {
+            long remainder = product & ((1L << excess) - 1);
+            long half = 1L << (excess - 1);
+            product >>= excess;
+            if (remainder > half || (remainder == half && (product & 1) != 0)) {
+                product++;
+            }
+            shift -= excess;
+        }
+        return (int) ((product + (1L << (shift - 1))) >> shift); // floor(x + 0.5)
+    }
+
+    /**
+     * The original floating-point formula, used outside the table range.
+     *
+     * @param damage   raw damage before reductions
+     * @param defense  defense of the gladiator being hit
+     * @param blocking true if the gladiator being hit is guarding
+     * @return damage after reductions
+     */
+    public static int referenceDamage(int damage, int defense, boolean blocking) {
+        double damageMultiplier = 1 - ((double) defense / (defense + 50));
+        int totalDamage = (int) Math.round(damage * damageMultiplier);
+
+        if (blocking) {
+            totalDamage = (int) Math.ceil(totalDamage / 2.0);
+        }
+
+        return Math.max(totalDamage, 1); // always at least 1 damage
+    }
+
+    /**
+     * Compares the table with the floating-point formula, per hit and on
+     * simulated battles between random gladiators.
+     *
+     * @param args [battles]
+     */
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int[] damages = new int[1 << 16];
+        int[] defenses = new int[damages.length];
+        Random random = new Random(7);
+        for (int i = 0; i < damages.length; i++) {
+            damages[i] = 10 + random.nextInt(90);
+            defenses[i] = random.nextInt(60);
+        }
+        for (int round = 0; round < 5; round++) { // first rounds warm up the JIT
+            long start = System.nanoTime();
+            long checksum = hits(damages, defenses, false);
+            long floating = System.nanoTime() - start;
+            start = System.nanoTime();
+            long tableChecksum = hits(damages, defenses, true);
+            long table = System.nanoTime() - start;
+            double count = 100.0 * damages.length;
+            System.out.printf("hits: double %.2f ns, table %.2f ns, speedup %.2fx, %s%n", floating / count, table / count,
+                    (double) floating / table, checksum == tableChecksum ? "identical" : "DIFFERENT");
+
+            start = System.nanoTime();
+            checksum = simulate(battles, false);
+            floating = System.nanoTime() - start;
+            start = System.nanoTime();
+            tableChecksum = simulate(battles, true);
+            table = System.nanoTime() - start;
+            System.out.printf("%d battles: double %.1f ms, table %.1f ms, speedup %.2fx, %s%n", battles,
+                    floating / 1e6, table / 1e6, (double) floating / table, checksum == tableChecksum ? "identical" : "DIFFERENT");
+        }
+    }
+
+    /**
+     * Applies every hit 100 times and returns the sum of the damage.
+     */
+    private static long hits(int[] damages, int[] defenses, boolean useTable) {
+        long total = 0;
+        for (int repeat = 0; repeat < 100; repeat++) {
+            for (int i = 0; i < damages.length; i++) {
+                boolean blocking = (i & 1) == 0;
+                total += useTable ? damage(damages[i], defenses[i], blocking) : referenceDamage(damages[i], defenses[i], blocking);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Fights seeded battles to the end and returns the sum of all damage dealt.
+     */
+    private static long simulate(int battles, boolean useTable) {
+        Random random = new Random(7);
+        long total = 0;
+        for (int b = 0; b < battles; b++) {
+            int attackA = 10 + random.nextInt(90);
+            int defenseA = random.nextInt(60);
+            int attackB = 10 + random.nextInt(90);
+            int defenseB = random.nextInt(60);
+            int healthA = 100 + random.nextInt(100);
+            int healthB = 100 + random.nextInt(100);
+            boolean blockA = false;
+            boolean blockB = false;
+            while (healthA > 0 && healthB > 0) {
+                int hit = useTable ? damage(attackA, defenseB, blockB) : referenceDamage(attackA, defenseB, blockB);
+                healthB -= hit;
+                total += hit;
+                blockA = (hit & 3) == 0; // cheap, deterministic guard pattern
+                if (healthB > 0) {
+                    hit = useTable ? damage(attackB, defenseA, blockA) : referenceDamage(attackB, defenseA, blockA);
+                    healthA -= hit;
+                    total += hit;
+                    blockB = (hit & 3) == 1;
+                }
+            }
+        }
+        return total;
+    }
+}
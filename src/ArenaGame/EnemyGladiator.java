@@ -1,5 +1,7 @@
 package ArenaGame;
 
+import ArenaGame.ai.*;
+import ArenaGame.storage.BattleLogRepository;
 import java.util.Random;
 
 /**
@@ -8,7 +10,12 @@ import java.util.Random;
  */
 public class EnemyGladiator extends Gladiator {
 
+    public static final int ATTACK = 0;
+    public static final int GUARD = 1;
+    public static final int TAUNT = 2;
+
     private Random randNum;
+    private EnemyStrategy strategy;
 
     /**
      * Create a new enemy gladiator.
@@ -23,6 +30,16 @@ public class EnemyGladiator extends Gladiator {
     public EnemyGladiator(String name, int health, int maxHealth, int attack, int defense, Random randNum) {
         super(name, health, attack, defense, maxHealth);
         this.randNum = randNum;
+        this.strategy = EnemyStrategy.configured(CombatRules.console().strategy(randNum));
+    }
+
+    /**
+     * Replaces how this gladiator picks its actions.
+     *
+     * @param strategy the enemy 'ai' to use
+     */
+    public void setStrategy(EnemyStrategy strategy) {
+        this.strategy = strategy;
     }
 
     /**
@@ -30,58 +47,54 @@ public class EnemyGladiator extends Gladiator {
      * Decision is based on health, opponent health, or random chance.
      *
      * @param opponent the player or gladiator being fought
+     * @param log      log of this battle
      */
     @Override
-    public void takeTurn(Gladiator opponent) {
+    public void takeTurn(Gladiator opponent, BattleLogRepository log) {
         // Reset guard status at the start of a turn
         setBlocking(false);
 
-        System.out.println("\nOpponent's turn...");
-        try {
-            Thread.sleep(600);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        ConsoleRenderer.get().println("\nOpponent's turn...");
+        Pacing.pause(600);
 
-        int choice;
-
-        if (health < maxHealth * 0.3) {
-            choice = 1; // Guard if low health
-        } else if (opponent.getHealth() < opponent.getMaxHealth() * 0.3) {
-            choice = 0; // Attack if opponent is weak
-        } else {
-            int rand = randNum.nextInt(10); // Random decision
-            if (rand < 5) {
-                choice = 0; // Attack
-            } else if (rand < 9) {
-                choice = 1; // Guard
-            } else {
-                choice = 2; // Taunt
-            }
-        }
+        int choice = chooseAction(opponent);
 
         // Execute chosen action
         switch (choice) {
-            case 0 -> {
-                System.out.println(name + " attacks.");
+            case ATTACK -> {
+                ConsoleRenderer.get().println(name + " attacks.");
                 opponent.takeDamage(getAttack());
-                ArenaGame.BattleManager.logAction(getName(), "attacks.", getAttack());
+                log.addBattleLog(getName(), opponent.getName(), "ATTACK");
             }
-            case 1 -> {
+            case GUARD -> {
                 setBlocking(true);
-                System.out.println(name + " prepares to guard your attack.");
-                ArenaGame.BattleManager.logAction(getName(), "guards.", 0);
+                ConsoleRenderer.get().println(name + " prepares to guard your attack.");
+                log.addBattleLog(getName(), opponent.getName(), "GUARD");
             }
-            case 2 -> {
-                System.out.println(name + " taunts you.");
-                ArenaGame.BattleManager.logAction(getName(), "taunts.", 0);
+            case TAUNT -> {
+                ConsoleRenderer.get().println(name + " taunts you.");
+                CombatRules.Taunt taunt = CombatRules.console().taunt(opponent, randNum);
+                if (taunt != null) {
+                    ConsoleRenderer.get().println("You lose -" + taunt.attackLoss() + " ATK and -" + taunt.defenseLoss()
+                            + " DEF permanently!");
+                }
+                log.addBattleLog(getName(), opponent.getName(), "TAUNT");
             }
         }
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pacing.pause(500);
+    }
+
+    /**
+     * Decides the next action without performing it, using this
+     * gladiator's strategy (by default the console CombatRules weights:
+     * guards when low on health, attacks when the opponent is weak,
+     * otherwise 50% attack, 40% guard, 10% taunt).
+     *
+     * @param opponent the player or gladiator being fought
+     * @return ATTACK, GUARD or TAUNT
+     */
+    public int chooseAction(Gladiator opponent) {
+        return strategy.chooseAction(BattleState.of(this, opponent));
     }
 }
@@ -1,5 +1,6 @@
 package ArenaGame;
 
+import ArenaGame.storage.RosterRepository;
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
@@ -12,27 +13,31 @@ import java.util.*;
  * - Read and write player scores
  * - Write battle logs
  * - Clear and reset data files
+ *
+ * The file backend of the repositories in ArenaGame.storage is built on
+ * these methods.
  */
 public class FileManager {
 
-    private static final String GLADIATOR_FILE = "gladiators.txt";
-    private static final String SCORE_FILE = "scores.txt";
-    private static final String BATTLE_LOG = "battles.log";
+    public static final String GLADIATOR_FILE = "gladiators.txt";
+    public static final String SCORE_FILE = "scores.txt";
+    public static final String BATTLE_LOG = "battles.log";
 
     // ================= READ METHODS =================
 
     /**
      * Reads gladiators from file. 
-     * If missing, defaults are created.
+     * If missing, defaults are created. A CSV header line and malformed
+     * lines are skipped, so exported rosters (see RosterTransfer) can be used.
      *
-     * @return a list of gladiators
+     * @return a list of gladiator templates, spawn one per battle
      */
-    public static List<Gladiator> readGladiators() {
-        List<Gladiator> gladiators = new ArrayList<>();
+    public static List<GladiatorTemplate> readGladiators() {
+        List<GladiatorTemplate> gladiators = new ArrayList<>();
         Path path = Paths.get(GLADIATOR_FILE);
 
         if (!Files.exists(path)) {
-            System.out.println("Gladiator file missing, creating defaults.");
+            ConsoleRenderer.get().println("Gladiator file missing, creating defaults.");
             return resetGladiators();
         }
 
@@ -41,16 +46,20 @@ public class FileManager {
             while ((line = reader.readLine()) != null) {
                 String[] data = line.split(",");
                 if (data.length == 5) {
-                    String name = data[0].trim();
-                    int health = Integer.parseInt(data[1].trim());
-                    int attack = Integer.parseInt(data[3].trim());
-                    int defense = Integer.parseInt(data[4].trim());
-                    int maxHealth = Integer.parseInt(data[2].trim());
-                    gladiators.add(new EnemyGladiator(name, health, maxHealth, attack, defense, new Random()));
+                    try {
+                        String name = data[0].trim();
+                        int health = Integer.parseInt(data[1].trim());
+                        int attack = Integer.parseInt(data[3].trim());
+                        int defense = Integer.parseInt(data[4].trim());
+                        int maxHealth = Integer.parseInt(data[2].trim());
+                        gladiators.add(new GladiatorTemplate(name, health, maxHealth, attack, defense));
+                    } catch (NumberFormatException skipped) {
+                        // header or malformed line
+                    }
                 }
             }
         } catch (IOException error) {
-            System.out.println("Error reading gladiators: " + error.getMessage());
+            ConsoleRenderer.get().println("Error reading gladiators: " + error.getMessage());
         }
         return gladiators;
     }
@@ -67,7 +76,7 @@ public class FileManager {
 
         if (!Files.exists(path)) {
             try { Files.createFile(path); } 
-            catch (IOException e) { System.out.println("Cannot create scores.txt"); }
+            catch (IOException e) { ConsoleRenderer.get().println("Cannot create scores.txt"); }
             return scores;
         }
 
@@ -79,7 +88,7 @@ public class FileManager {
                 }
             }
         } catch (IOException error) {
-            System.out.println("Error reading scores.txt: " + error.getMessage());
+            ConsoleRenderer.get().println("Error reading scores.txt: " + error.getMessage());
         }
         return scores;
     }
@@ -98,15 +107,15 @@ public class FileManager {
     /**
      * Writes gladiators to file (overwrites).
      */
-    public static void writeGladiators(List<Gladiator> gladiators) {
+    public static void writeGladiators(List<GladiatorTemplate> gladiators) {
         Path path = Paths.get(GLADIATOR_FILE);
         try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-            for (Gladiator g : gladiators) {
-                writer.write(g.getName() + "," + g.getHealth() + "," + g.getMaxHealth() + "," + g.getAttack() + "," + g.getDefense());
+            for (GladiatorTemplate g : gladiators) {
+                writer.write(g.name() + "," + g.health() + "," + g.maxHealth() + "," + g.attack() + "," + g.defense());
                 writer.newLine();
             }
         } catch (IOException error) {
-            System.out.println("Error writing gladiators.txt: " + error.getMessage());
+            ConsoleRenderer.get().println("Error writing gladiators.txt: " + error.getMessage());
         }
     }
 
@@ -121,7 +130,7 @@ public class FileManager {
                 writer.newLine();
             }
         } catch (IOException error) {
-            System.out.println("Error writing scores.txt: " + error.getMessage());
+            ConsoleRenderer.get().println("Error writing scores.txt: " + error.getMessage());
         }
     }
 
@@ -134,7 +143,7 @@ public class FileManager {
             writer.write("[" + new Date() + "] " + logEntry);
             writer.newLine();
         } catch (IOException error) {
-            System.out.println("Error writing battles.log: " + error.getMessage());
+            ConsoleRenderer.get().println("Error writing battles.log: " + error.getMessage());
         }
     }
 
@@ -148,7 +157,7 @@ public class FileManager {
         try (BufferedWriter writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
             // file truncated
         } catch (IOException error) {
-            System.out.println("Could not clear scores.txt: " + error.getMessage());
+            ConsoleRenderer.get().println("Could not clear scores.txt: " + error.getMessage());
         }
     }
 
@@ -160,7 +169,7 @@ public class FileManager {
         try (BufferedWriter writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
             // file truncated
         } catch (IOException error) {
-            System.out.println("Could not clear battles.log: " + error.getMessage());
+            ConsoleRenderer.get().println("Could not clear battles.log: " + error.getMessage());
         }
     }
 
@@ -171,12 +180,8 @@ public class FileManager {
      *
      * @return list of default gladiators
      */
-    public static List<Gladiator> resetGladiators() {
-        List<Gladiator> defaults = new ArrayList<>();
-        defaults.add(new EnemyGladiator("Spartacus", 100, 100, 35, 5, new Random()));
-        defaults.add(new EnemyGladiator("Maximus", 120, 120, 45, 10, new Random()));
-        defaults.add(new EnemyGladiator("Commodus", 90, 90, 30, 3, new Random()));
-        writeGladiators(defaults);
-        return defaults;
+    public static List<GladiatorTemplate> resetGladiators() {
+        writeGladiators(RosterRepository.DEFAULT_ROSTER);
+        return RosterRepository.DEFAULT_ROSTER;
     }
 }
@@ -1,5 +1,6 @@
 package ArenaGame;
 
+import ArenaGame.storage.Repositories;
 import java.util.*;
 
 /**
@@ -9,22 +10,32 @@ import java.util.*;
  * Responsibilities: - Displays main menu on launch - Start battles when option
  * is selected - View/reset scores - View/reset battle logs - Reset gladiators
  * to defaults - Maintain game loop
+ *
+ * Scores, gladiators and logs go through the configured Repositories,
+ * the v1 text files unless -Darena.storage says otherwise.
  */
 public class GameMenu {
 
     private Scanner scanner;
-    private Map<String, Integer> scores;
-    private List<Gladiator> gladiators;
+    private final Repositories repositories;
     private String playerName;
     public static boolean running = true;
 
     /**
-     * Initializes the game menu, loads scores and reads gladiators.
+     * Initializes the game menu on the configured storage, files by default.
      */
     public GameMenu() {
+        this(Repositories.configured(Repositories.FILE));
+    }
+
+    /**
+     * Initializes the game menu on the given storage.
+     *
+     * @param repositories where scores, gladiators and logs are kept
+     */
+    public GameMenu(Repositories repositories) {
         this.scanner = new Scanner(System.in);
-        this.scores = FileManager.readScores();
-        this.gladiators = FileManager.readGladiators();
+        this.repositories = repositories;
     }
 
     /**
@@ -34,10 +45,7 @@ public class GameMenu {
         playIntro();
 
         playerName = getPlayerName();
-
-        if (!scores.containsKey(playerName)) {
-            scores.put(playerName, 0);
-        }
+        repositories.players().addPlayer(playerName);
 
         while (running) {
             displayMenu();
@@ -51,32 +59,27 @@ public class GameMenu {
                 case 3 ->
                     viewBattleLog();
                 case 4 -> {
-                    FileManager.clearScores();
-                    scores.clear();
-                    System.out.println("Scores cleared.");
-                    if (!scores.containsKey(playerName)) {
-                        scores.put(playerName, 0);
-                    }
+                    repositories.players().resetScores();
+                    ConsoleRenderer.get().println("Scores cleared.");
                 }
                 case 5 -> {
-                    FileManager.resetGladiators();
-                    gladiators = FileManager.readGladiators();
-                    System.out.println("Gladiators reset to defaults.");
+                    repositories.roster().resetGladiators();
+                    ConsoleRenderer.get().println("Gladiators reset to defaults.");
                 }
                 case 6 -> {
-                    FileManager.clearBattleLog();
-                    System.out.println("Battle Log cleared.");
+                    repositories.logs().clearLogs();
+                    ConsoleRenderer.get().println("Battle Log cleared.");
                 }
                 case 7 ->
                     quit();
 
                 default ->
-                    System.out.println("Enter a valid choice.");
+                    ConsoleRenderer.get().println("Enter a valid choice.");
             }
         }
 
-        FileManager.writeScores(scores);
         playOutro();
+        ConsoleRenderer.get().flush();
         scanner.close();
     }
 
@@ -86,14 +89,15 @@ public class GameMenu {
     private String getPlayerName() {
         String name;
         while (true) {
-            System.out.print("Who dares enter the ARENA?: ");
+            ConsoleRenderer.get().print("Who dares enter the ARENA?: ");
+            ConsoleRenderer.get().awaitInput();
             name = scanner.nextLine().trim();
             if (name.isEmpty()) {
-                System.out.println("Name cannot be empty.");
+                ConsoleRenderer.get().println("Name cannot be empty.");
             } else if (name.length() > 20) {
-                System.out.println("Name too long. Max 20 characters.");
+                ConsoleRenderer.get().println("Name too long. Max 20 characters.");
             } else if (!name.matches("[a-zA-Z0-9_]+")) {
-                System.out.println("Only letters, numbers, and underscores allowed.");
+                ConsoleRenderer.get().println("Only letters, numbers, and underscores allowed.");
             } else {
                 break;
             }
@@ -105,15 +109,15 @@ public class GameMenu {
      * Displays the main menu options.
      */
     private void displayMenu() {
-        System.out.println("\n===== ARENA MENU =====");
-        System.out.println("1. Enter Battle");
-        System.out.println("2. View Scores");
-        System.out.println("3. View Battle Logs");
-        System.out.println("4. Reset Scores");
-        System.out.println("5. Reset Gladiators");
-        System.out.println("6. Reset Battle Log");
-        System.out.println("7. Exit");
-        System.out.print("> ");
+        ConsoleRenderer.get().println("\n===== ARENA MENU =====");
+        ConsoleRenderer.get().println("1. Enter Battle");
+        ConsoleRenderer.get().println("2. View Scores");
+        ConsoleRenderer.get().println("3. View Battle Logs");
+        ConsoleRenderer.get().println("4. Reset Scores");
+        ConsoleRenderer.get().println("5. Reset Gladiators");
+        ConsoleRenderer.get().println("6. Reset Battle Log");
+        ConsoleRenderer.get().println("7. Exit");
+        ConsoleRenderer.get().print("> ");
     }
 
     /**
@@ -122,72 +126,66 @@ public class GameMenu {
     private int getChoice(int min, int max) {
         int choice = -1;
         while (true) {
+            ConsoleRenderer.get().awaitInput();
             try {
                 choice = Integer.parseInt(scanner.nextLine().trim());
                 if (choice >= min && choice <= max) {
                     break;
                 }
-                System.out.print("Enter a valid number between " + min + " and " + max + ": ");
+                ConsoleRenderer.get().print("Enter a valid number between " + min + " and " + max + ": ");
             } catch (NumberFormatException error) {
-                System.out.print("Invalid input type. Please enter a number between " + min + " and " + max + ": ");
+                ConsoleRenderer.get().print("Invalid input type. Please enter a number between " + min + " and " + max + ": ");
             }
         }
         return choice;
     }
 
     /**
-     * Starts a battle between the player and a random enemy gladiator.
+     * Starts a battle between the player and a random enemy gladiator,
+     * BattleManager records the result. The player's saved items are
+     * loaded first and written back when the battle ends, also when the
+     * player quits mid-battle.
      */
     private void startBattle() {
-        if (gladiators.isEmpty()) {
-            System.out.println("No enemies await...");
+        Gladiator enemy = repositories.roster().getRandomGladiator(); // fresh health every battle
+        if (enemy == null) {
+            ConsoleRenderer.get().println("No enemies await...");
             return;
         }
-        Random rand = new Random();
-        Gladiator enemy = gladiators.get(rand.nextInt(gladiators.size()));
         PlayerGladiator player = new PlayerGladiator(playerName, 100, 100, 50, 5, scanner);
+        player.setInventory(repositories.inventories().loadPlayer(playerName).inventory());
 
-        BattleManager battle = new BattleManager(player, enemy);
-        boolean playerWon = battle.startBattle();
-
-        if (playerWon) {
-            int newScore = scores.getOrDefault(playerName, 0) + 1;
-            scores.put(playerName, newScore);
-            FileManager.writeScores(scores);
+        BattleManager battle = new BattleManager(player, enemy, repositories);
+        try {
+            battle.startBattle();
+        } finally {
+            repositories.inventories().saveInventory(playerName, player.getInventory());
         }
-
-        String result = playerWon ? playerName + " defeated gladiator: " + enemy.getName()
-                : playerName + " was defeated by gladiator: " + enemy.getName();
-        FileManager.writeBattleLog(result);
     }
 
     /**
      * Displays all player scores.
      */
     private void viewScores() {
-        System.out.println("\n===== Player Scores =====");
+        ConsoleRenderer.get().println("\n===== Player Scores =====");
+        Map<String, Integer> scores = repositories.players().getAllPlayers();
         if (scores.isEmpty()) {
-            System.out.println("Could not read scores.txt");
+            ConsoleRenderer.get().println("No scores recorded yet.");
         } else {
-            scores.forEach((name, score) -> System.out.println(name + ": " + score));
+            scores.forEach((name, score) -> ConsoleRenderer.get().println(name + ": " + score));
         }
     }
 
     /**
-     * Displays the battle log.
+     * Displays the battle log, newest first.
      */
     private void viewBattleLog() {
-        System.out.println("\n===== Battle Log =====");
-        try (Scanner logReader = new Scanner(new java.io.File("battles.log"))) {
-            if (!logReader.hasNextLine()) {
-                System.out.println("Not available at this time...");
-            }
-            while (logReader.hasNextLine()) {
-                System.out.println(logReader.nextLine());
-            }
-        } catch (Exception error) {
-            System.out.println("Could not read battle.log as no entries are available.");
+        ConsoleRenderer.get().println("\n===== Battle Log =====");
+        List<String> logs = repositories.logs().getLogs();
+        if (logs.isEmpty()) {
+            ConsoleRenderer.get().println("Not available at this time...");
         }
+        logs.forEach(ConsoleRenderer.get()::println);
     }
 
     /**
@@ -202,25 +200,21 @@ public class GameMenu {
             "                            "
         };
 
-        System.out.println();
+        ConsoleRenderer.get().println();
 
-        try {
-            for (String line : title) {
-                System.out.println(line);
-                Thread.sleep(250); // pause 150ms between lines
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        for (String line : title) {
+            ConsoleRenderer.get().println(line);
+            Pacing.pause(250); // pause 250ms between lines
         }
 
-        System.out.println("\nWelcome to the ARENA, warrior!");
+        ConsoleRenderer.get().println("\nWelcome to the ARENA, warrior!");
     }
 
     /**
      * Displays the game outro.
      */
     private void playOutro() {
-        System.out.println("Thank you for playing!");
+        ConsoleRenderer.get().println("Thank you for playing!");
     }
 
     public static void quit() {
@@ -1,11 +1,17 @@
 package ArenaGame;
 
+import ArenaGame.storage.BattleLogRepository;
+
 /**
  * Abstract base class for all gladiators.
  * <p>
  * Stores common stats (health, attack, defense), 
  * manages damage calculation and blocking, 
  * and defines the abstract turn-taking method.
+ * <p>
+ * A gladiator is not thread safe: only the thread running its battle may
+ * use it. Other threads read a GladiatorSnapshot (or the BattleSnapshot
+ * published by the battle) instead.
  */
 public abstract class Gladiator {
 
@@ -49,17 +55,45 @@ public abstract class Gladiator {
      * @param damage raw damage before reductions
      */
     public void takeDamage(int damage) {
-        double damageMultiplier = 1 - ((double) defense / (defense + 50));
-        int totalDamage = (int) Math.round(damage * damageMultiplier);
-
-        if (isBlocking()) {
-            totalDamage = (int) Math.ceil(totalDamage / 2.0);
-        }
+        int totalDamage = applyDamage(damage);
+        ConsoleRenderer.get().println(name + " has taken " + totalDamage + " damage. Remaining Health = " + Math.max(health, 0));
+    }
 
-        totalDamage = Math.max(totalDamage, 1); // always at least 1 damage
+    /**
+     * Apply damage to the gladiator without writing to the console.
+     * Used by headless game modes (e.g. the server) that report combat themselves.
+     *
+     * @param damage raw damage before reductions
+     * @return the damage actually taken
+     */
+    public int applyDamage(int damage) {
+        CombatRules rules = CombatRules.console();
+        int totalDamage = hitByEnemies()
+                ? rules.enemyHit(damage, defense, isBlocking())
+                : rules.playerHit(damage, defense, isBlocking());
         health -= totalDamage;
+        return totalDamage;
+    }
 
-        System.out.println(name + " has taken " + totalDamage + " damage. Remaining Health = " + Math.max(health, 0));
+    /**
+     * Calculates the damage taken from a raw hit by the player under the
+     * console CombatRules (by default reduced by defense, halved (rounded up)
+     * when blocking and always at least 1).
+     *
+     * @param damage   raw damage before reductions
+     * @param defense  defense of the gladiator being hit
+     * @param blocking true if the gladiator being hit is guarding
+     * @return damage after reductions
+     */
+    public static int calculateDamage(int damage, int defense, boolean blocking) {
+        return CombatRules.console().playerHit(damage, defense, blocking);
+    }
+
+    /**
+     * @return true if hits on this gladiator follow the enemy's damage rules
+     */
+    protected boolean hitByEnemies() {
+        return false;
     }
 
     /**
@@ -78,6 +112,15 @@ public abstract class Gladiator {
         return isBlocking;
     }
 
+    /**
+     * Copies the current stats, call from the thread running the battle.
+     *
+     * @return immutable copy of this gladiator's stats
+     */
+    public GladiatorSnapshot snapshot() {
+        return new GladiatorSnapshot(name, health, maxHealth, attack, defense, isBlocking);
+    }
+
     // ===== GETTERS =====
 
     public String getName() { return name; }
@@ -96,6 +139,7 @@ public abstract class Gladiator {
      * Each gladiator must define its own behavior for a turn.
      *
      * @param opponent the opposing gladiator
+     * @param log      log of this battle, receives the action taken
      */
-    public abstract void takeTurn(Gladiator opponent);
+    public abstract void takeTurn(Gladiator opponent, BattleLogRepository log);
 }
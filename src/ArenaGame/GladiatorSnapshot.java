@@ -0,0 +1,25 @@
+package ArenaGame;
+
+/**
+ * Immutable copy of a gladiator's stats at one point of a battle.
+ * <p>
+ * Gladiator objects are changed in place by whichever thread runs the
+ * battle. Other threads (the EDT, spectators) read snapshots instead, which
+ * can be shared freely and never show a half-applied turn.
+ *
+ * @param name      gladiator name
+ * @param health    current health
+ * @param maxHealth maximum health
+ * @param attack    attack power
+ * @param defense   defense value
+ * @param blocking  whether the gladiator is guarding
+ */
+public record GladiatorSnapshot(String name, int health, int maxHealth, int attack, int defense, boolean blocking) {
+
+    /**
+     * @return true if health > 0
+     */
+    public boolean isAlive() {
+        return health > 0;
+    }
+}
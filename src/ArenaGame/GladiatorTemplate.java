@@ -0,0 +1,58 @@
+package ArenaGame;
+
+import java.util.Random;
+
+/**
+ * Immutable definition of an enemy gladiator from the roster.
+ * <p>
+ * Rosters are loaded once and only hold templates, which can be shared by
+ * any number of battles and threads. Each battle fights its own
+ * EnemyGladiator made with spawn(), so damage taken in one battle never
+ * carries over to the next.
+ *
+ * @param name      gladiator name
+ * @param health    health at the start of a battle
+ * @param maxHealth maximum health
+ * @param attack    attack power
+ * @param defense   defense value
+ */
+public record GladiatorTemplate(String name, int health, int maxHealth, int attack, int defense) {
+
+    /**
+     * Overall strength used to find fair matchups. Kept in sync with the
+     * POWER column of the GLADIATORS table.
+     *
+     * @param maxHealth maximum health
+     * @param attack    attack power
+     * @param defense   defense value
+     * @return maxHealth + 3 * attack + 2 * defense
+     */
+    public static int power(int maxHealth, int attack, int defense) {
+        return maxHealth + 3 * attack + 2 * defense;
+    }
+
+    /**
+     * @param gladiator any gladiator, e.g. the player
+     * @return the gladiator's current power
+     */
+    public static int power(Gladiator gladiator) {
+        return power(gladiator.getMaxHealth(), gladiator.getAttack(), gladiator.getDefense());
+    }
+
+    /**
+     * @return this template's power
+     */
+    public int power() {
+        return power(maxHealth, attack, defense);
+    }
+
+    /**
+     * Creates the combat state for one battle.
+     *
+     * @param random random generator for the enemy's decisions
+     * @return a fresh enemy with this template's stats
+     */
+    public EnemyGladiator spawn(Random random) {
+        return new EnemyGladiator(name, health, maxHealth, attack, defense, random);
+    }
+}
@@ -1,23 +1,65 @@
 package ArenaGame;
 
-import java.util.*;
-
 /**
  * Inventory stores and manages items for a gladiator.
  * <p>
- * Provides methods to add, display, and use items.
+ * Provides methods to add, display, and use items. Items are kept as a
+ * count per ItemRegistry id, so adding, using and checking an item is
+ * constant time and allocates nothing. Items are listed once per kind in
+ * registry order; list positions (as shown by display) skip kinds the
+ * gladiator does not own. Changes are only tracked in memory, saving them
+ * is up to the caller (see InventoryDAO).
  */
 public class Inventory {
 
-    private List<Item> items = new ArrayList<>();
+    private final int[] counts = new int[ItemRegistry.count()];
+    private int total;
+    private boolean changed;
+
+    /**
+     * @return a new player's inventory: one Health Potion and one Berserk Potion
+     */
+    public static Inventory starter() {
+        Inventory inventory = new Inventory();
+        inventory.add(ItemRegistry.HEALTH_POTION);
+        inventory.add(ItemRegistry.BERSERK_POTION);
+        inventory.markSaved();
+        return inventory;
+    }
 
     /**
      * Add an item to the inventory.
      *
-     * @param item the item to add
+     * @param item the item to add, must be a registered item
      */
     public void addItem(Item item) {
-        items.add(item);
+        int id = ItemRegistry.idOf(item);
+        if (id < 0) {
+            System.err.println("Unknown item '" + item.getName() + "' was not added to the inventory.");
+            return;
+        }
+        add(id);
+    }
+
+    /**
+     * Add one of a registered item to the inventory.
+     *
+     * @param id item id from ItemRegistry
+     */
+    public void add(int id) {
+        add(id, 1);
+    }
+
+    /**
+     * Add several of a registered item to the inventory.
+     *
+     * @param id       item id from ItemRegistry
+     * @param quantity how many to add
+     */
+    public void add(int id, int quantity) {
+        counts[id] += quantity;
+        total += quantity;
+        changed = true;
     }
 
     /**
@@ -26,72 +68,134 @@ public class Inventory {
      * @return true if empty
      */
     public boolean isEmpty() {
-        return items.isEmpty();
+        return total == 0;
     }
 
     /**
      * Get the number of items in the inventory.
      *
-     * @return inventory size
+     * @return inventory size, counting every copy of an item
      */
     public int size() {
-        return items.size();
+        return total;
+    }
+
+    /**
+     * @param id item id from ItemRegistry
+     * @return how many of the item the inventory holds
+     */
+    public int count(int id) {
+        return counts[id];
+    }
+
+    /**
+     * @return number of different items held, i.e. entries in the list
+     */
+    public int kinds() {
+        int kinds = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                kinds++;
+            }
+        }
+        return kinds;
+    }
+
+    /**
+     * @param index list position (0-based)
+     * @return id of the item at that position, or -1 if invalid
+     */
+    public int idAt(int index) {
+        if (index >= 0) {
+            for (int id = 0; id < counts.length; id++) {
+                if (counts[id] > 0 && index-- == 0) {
+                    return id;
+                }
+            }
+        }
+        return -1;
     }
 
     /**
      * Display all items in the inventory with index numbers.
      */
     public void display() {
-        if (items.isEmpty()) {
-            System.out.println("Inventory is empty.");
+        if (total == 0) {
+            ConsoleRenderer.get().println("Inventory is empty.");
             return;
         }
-        System.out.println("===== Inventory =====");
-        for (int i = 0; i < items.size(); i++) {
-            Item item = items.get(i);
-            System.out.println((i + 1) + ". " + item.getName() + " - " + item.getDescription());
+        ConsoleRenderer.get().println("===== Inventory =====");
+        int index = 0;
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                ConsoleRenderer.get().println(++index + ". " + describe(id));
+            }
         }
     }
 
+    /**
+     * @param id item id from ItemRegistry
+     * @return name, count if more than one, and description of a held item
+     */
+    public String describe(int id) {
+        Item item = ItemRegistry.get(id);
+        return item.getName() + (counts[id] > 1 ? " x" + counts[id] : "") + " - " + item.getDescription();
+    }
+
     /**
      * Use (and remove) an item from the inventory.
      *
-     * @param index index of the item (0-based)
+     * @param index list position of the item (0-based)
      * @return the item removed, or null if invalid
      */
     public Item useItem(int index) {
-        if (index < 0 || index >= items.size()) {
-            System.out.println("Invalid item, please choose again.");
+        int id = idAt(index);
+        if (id < 0) {
+            ConsoleRenderer.get().println("Invalid item, please choose again.");
             return null;
         }
-        return items.remove(index);
+        return use(id);
     }
 
-    // ========== v2 GUI HELPER METHODS =========
-    
     /**
-     * Returns a list of all items stored in the inventory (used by the GUI to
-     * fetch and display).
+     * Use (and remove) one of a registered item.
      *
-     * @return item list
+     * @param id item id from ItemRegistry
+     * @return the item removed, or null if none is held
+     */
+    public Item use(int id) {
+        if (id < 0 || id >= counts.length || counts[id] == 0) {
+            return null;
+        }
+        counts[id]--;
+        total--;
+        changed = true;
+        return ItemRegistry.get(id);
+    }
+
+    /**
+     * @return true if items were added or used since the last markSaved()
      */
-    public List<Item> getItems() {
-        return new ArrayList<>(items);
+    public boolean isChanged() {
+        return changed;
     }
 
     /**
-     * Fetches an item using its name.
+     * Marks the current contents as stored.
+     */
+    public void markSaved() {
+        changed = false;
+    }
+
+    // ========== v2 GUI HELPER METHODS =========
+
+    /**
+     * Fetches (and removes) an item using its name.
      *
-     * @param name item name
-     * @return matching item or null (if not found or out of bounds)
+     * @param name item name, case is ignored
+     * @return matching item or null (if not found or none held)
      */
     public Item getItemByName(String name) {
-        for (Item item : items) {
-            if (item.getName().equalsIgnoreCase(name)) {
-                items.remove(item); // remove item as valid target once used
-                return item;
-            }
-        }
-        return null;
+        return use(ItemRegistry.idOf(name));
     }
 }
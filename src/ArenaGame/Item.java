@@ -3,10 +3,12 @@ package ArenaGame;
 /**
  * Item represents a usable object in the game.
  * <p>
- * Each item has a name, description, type, and value.
+ * Each item has a name, description, type, and value. Items defined in
+ * ItemRegistry also carry their registry id.
  */
 public class Item {
 
+    private final int id;
     private String itemName;
     private String itemDescription;
     private String itemType;
@@ -21,12 +23,29 @@ public class Item {
      * @param value           numeric value (e.g., heal amount, damage bonus)
      */
     public Item(String itemName, String itemDescription, String itemType, int value) {
+        this(-1, itemName, itemDescription, itemType, value);
+    }
+
+    /**
+     * Create a registered item, used by ItemRegistry.
+     *
+     * @param id registry id
+     */
+    Item(int id, String itemName, String itemDescription, String itemType, int value) {
+        this.id = id;
         this.itemName = itemName;
         this.itemDescription = itemDescription;
         this.itemType = itemType;
         this.value = value;
     }
 
+    /**
+     * @return the registry id, or -1 if this item was built by name (see ItemRegistry.idOf)
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * @return the item's name
      */
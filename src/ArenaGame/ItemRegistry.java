@@ -0,0 +1,111 @@
+package ArenaGame;
+
+import java.util.*;
+
+/**
+ * ItemRegistry defines every item in the game once, with an integer id and
+ * the effect it has when used.
+ * <p>
+ * Ids are small and dense (0 to count() - 1) so inventories can keep a
+ * count per id in a plain array. Items built elsewhere by name are matched
+ * to their registered definition with idOf().
+ */
+public final class ItemRegistry {
+
+    public static final int HEALTH_POTION = 0;
+    public static final int BERSERK_POTION = 1;
+
+    /**
+     * What happens when a player uses an item.
+     */
+    @FunctionalInterface
+    public interface Effect {
+
+        /**
+         * @param user the gladiator using the item
+         * @param item the item used, its value sets the strength of the effect
+         * @return message describing the effect
+         */
+        String apply(PlayerGladiator user, Item item);
+    }
+
+    private static final Item[] ITEMS = {
+        new Item(HEALTH_POTION, "Health Potion", "Restores 20 HP", "heal", 20),
+        new Item(BERSERK_POTION, "Berserk Potion", "Increases attack by 5", "buff", 5)
+    };
+
+    private static final Effect[] EFFECTS = {
+        (user, item) -> {
+            int healedAmount = Math.min(item.getValue(), user.getMaxHealth() - user.getHealth());
+            user.setHealth(user.getHealth() + healedAmount);
+            return user.getName() + " was healed for " + healedAmount + " HP.";
+        },
+        (user, item) -> {
+            user.setAttack(user.getAttack() + item.getValue());
+            return user.getName() + "'s attack was increased by " + item.getValue() + ".";
+        }
+    };
+
+    private static final Map<String, Integer> IDS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Item item : ITEMS) {
+            IDS_BY_NAME.put(item.getName().toLowerCase(), item.getId());
+        }
+    }
+
+    private ItemRegistry() {
+    }
+
+    /**
+     * @return number of registered items, ids run from 0 to count() - 1
+     */
+    public static int count() {
+        return ITEMS.length;
+    }
+
+    /**
+     * @param id registered item id
+     * @return the shared definition of the item
+     */
+    public static Item get(int id) {
+        return ITEMS[id];
+    }
+
+    /**
+     * Finds the id of an item by name, ignoring case.
+     *
+     * @param name item name
+     * @return item id, or -1 if no item has that name
+     */
+    public static int idOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = IDS_BY_NAME.get(name.toLowerCase());
+        return id != null ? id : -1;
+    }
+
+    /**
+     * @param item a registered item or one built with the same name
+     * @return item id, or -1 if the item is not registered
+     */
+    public static int idOf(Item item) {
+        return item.getId() >= 0 ? item.getId() : idOf(item.getName());
+    }
+
+    /**
+     * Applies the item's registered effect.
+     *
+     * @param user the gladiator using the item
+     * @param item the item used
+     * @return message describing the effect
+     */
+    public static String apply(PlayerGladiator user, Item item) {
+        int id = idOf(item);
+        if (id < 0) {
+            return "You fail to use an item.";
+        }
+        return EFFECTS[id].apply(user, item);
+    }
+}
@@ -0,0 +1,97 @@
+package ArenaGame;
+
+/**
+ * Pacing controls the dramatic pauses of the console game.
+ * <p>
+ * Every delay in the CLI goes through the current pacing policy instead of
+ * calling Thread.sleep directly. NORMAL keeps the original timings, TURBO
+ * skips them so scripted or piped sessions run at full speed.
+ * The policy is read from the "arena.pacing" system property
+ * ("normal", "turbo" or a scale such as "0.5") and can be changed with set().
+ */
+public final class Pacing {
+
+    public static final Pacing NORMAL = new Pacing(1.0);
+    public static final Pacing TURBO = new Pacing(0.0);
+
+    private static volatile Pacing current = fromProperty(System.getProperty("arena.pacing"));
+
+    private final double scale;
+
+    /**
+     * @param scale multiplier applied to every delay, 0 disables them
+     */
+    public Pacing(double scale) {
+        if (scale < 0 || Double.isNaN(scale)) {
+            throw new IllegalArgumentException("Pacing scale cannot be negative: " + scale);
+        }
+        this.scale = scale;
+    }
+
+    /**
+     * @return the policy used by the console game
+     */
+    public static Pacing current() {
+        return current;
+    }
+
+    /**
+     * Replaces the policy used by the console game.
+     */
+    public static void set(Pacing pacing) {
+        current = pacing;
+    }
+
+    /**
+     * Pauses using the current policy.
+     *
+     * @param ms delay at normal speed
+     */
+    public static void pause(int ms) {
+        current.sleep(ms);
+    }
+
+    /**
+     * @return true if this policy never pauses
+     */
+    public boolean isTurbo() {
+        return scale == 0;
+    }
+
+    /**
+     * Pauses for the scaled delay. Pending console output is written first
+     * so the player can read it during the pause.
+     *
+     * @param ms delay at normal speed
+     */
+    public void sleep(int ms) {
+        long scaled = Math.round(ms * scale);
+        if (scaled <= 0) {
+            return;
+        }
+        ConsoleRenderer.get().flush();
+        try {
+            Thread.sleep(scaled);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param value "normal", "turbo", a scale, or null for normal
+     */
+    static Pacing fromProperty(String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("normal")) {
+            return NORMAL;
+        }
+        if (value.equalsIgnoreCase("turbo")) {
+            return TURBO;
+        }
+        try {
+            return new Pacing(Double.parseDouble(value));
+        } catch (IllegalArgumentException error) { // includes NumberFormatException
+            System.err.println("Unknown arena.pacing '" + value + "', using normal.");
+            return NORMAL;
+        }
+    }
+}
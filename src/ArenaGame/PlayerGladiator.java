@@ -1,6 +1,8 @@
 package ArenaGame;
 
+import ArenaGame.storage.BattleLogRepository;
 import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * PlayerGladiator represents the human-controlled gladiator.
@@ -25,10 +27,29 @@ public class PlayerGladiator extends Gladiator {
     public PlayerGladiator(String name, int health, int maxHealth, int attack, int defense, Scanner scanner) {
         super(name, health, attack, defense, maxHealth);
         this.scanner = scanner;
-        this.inventory = new Inventory();
-        // Add some starter items
-        inventory.addItem(new Item("Health Potion", "Restores 20 HP", "heal", 20));
-        inventory.addItem(new Item("Berserk Potion", "Increases attack by 5", "buff", 5));
+        this.inventory = Inventory.starter();
+    }
+
+    /**
+     * Create a player gladiator without console input, used by headless
+     * game modes where actions are supplied by the caller instead of takeTurn.
+     *
+     * @param name       player name
+     * @param health     starting health
+     * @param maxHealth  maximum health
+     * @param attack     attack power
+     * @param defense    defense value
+     */
+    public PlayerGladiator(String name, int health, int maxHealth, int attack, int defense) {
+        this(name, health, maxHealth, attack, defense, null);
+    }
+
+    /**
+     * Hits on the player are dealt by enemies.
+     */
+    @Override
+    protected boolean hitByEnemies() {
+        return true;
     }
 
     /**
@@ -38,13 +59,23 @@ public class PlayerGladiator extends Gladiator {
         return inventory;
     }
 
+    /**
+     * Replaces the starter items, e.g. with the player's saved inventory.
+     *
+     * @param inventory inventory to use in battle
+     */
+    public void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
     /**
      * Reads player input choice.
      *
      * @return number entered by player, or -1 if invalid
      */
     private int getChoice() {
-        System.out.print("> ");
+        ConsoleRenderer.get().print("> ");
+        ConsoleRenderer.get().awaitInput();
         try {
             return Integer.parseInt(scanner.nextLine().trim());
         } catch (NumberFormatException e) {
@@ -57,72 +88,74 @@ public class PlayerGladiator extends Gladiator {
      * Player can attack, guard, use an item, taunt, or exit.
      *
      * @param opponent the enemy gladiator
+     * @param log      log of this battle
      */
     @Override
-    public void takeTurn(Gladiator opponent) {
+    public void takeTurn(Gladiator opponent, BattleLogRepository log) {
         setBlocking(false);
 
         boolean turnCompleted = false;
 
         while (!turnCompleted) {
-            System.out.println("\nYour turn. Select an action:");
-            System.out.println("1. Attack.");
-            System.out.println("2. Guard.");
-            System.out.println("3. Use item.");
-            System.out.println("4. Taunt.");
-            System.out.println("5. Exit");
+            ConsoleRenderer.get().println("\nYour turn. Select an action:");
+            ConsoleRenderer.get().println("1. Attack.");
+            ConsoleRenderer.get().println("2. Guard.");
+            ConsoleRenderer.get().println("3. Use item.");
+            ConsoleRenderer.get().println("4. Taunt.");
+            ConsoleRenderer.get().println("5. Exit");
 
             int combatChoice = getChoice();
 
             switch (combatChoice) {
                 case 1 -> {
-                    System.out.println("You attack.");
+                    ConsoleRenderer.get().println("You attack.");
                     opponent.takeDamage(getAttack());
-                    ArenaGame.BattleManager.logAction(getName(), "attacks.", getAttack());
+                    log.addBattleLog(getName(), opponent.getName(), "ATTACK");
                     turnCompleted = true;
                 }
                 case 2 -> {
-                    System.out.println("You guard.");
+                    ConsoleRenderer.get().println("You guard.");
                     setBlocking(true);
-                    ArenaGame.BattleManager.logAction(getName(), "guards.", 0);
+                    log.addBattleLog(getName(), opponent.getName(), "GUARD");
                     turnCompleted = true;
                 }
                 case 3 -> {
                     if (inventory.isEmpty()) {
-                        System.out.println("You have no items to use!");
+                        ConsoleRenderer.get().println("You have no items to use!");
                     } else {
                         inventory.display();
 
                         int itemChoice;
                         do {
-                            System.out.print("Select an item (1-" + inventory.size() + "): ");
+                            ConsoleRenderer.get().print("Select an item (1-" + inventory.kinds() + "): ");
                             itemChoice = getChoice() - 1;
-                        } while (itemChoice < 0 || itemChoice >= inventory.size());
+                        } while (itemChoice < 0 || itemChoice >= inventory.kinds());
 
                         Item selectedItem = inventory.useItem(itemChoice);
                         useItem(selectedItem);
-                        ArenaGame.BattleManager.logAction(getName(), "uses an item.", 0);
+                        log.addBattleLog(getName(), opponent.getName(), "ITEM");
                         turnCompleted = true;
                     }
                 }
                 case 4 -> {
-                    System.out.println("You taunt.");
-                    ArenaGame.BattleManager.logAction(getName(), "taunts.", 0);
+                    ConsoleRenderer.get().println("You taunt.");
+                    CombatRules.Taunt taunt = CombatRules.console().taunt(opponent, ThreadLocalRandom.current());
+                    if (taunt != null) {
+                        ConsoleRenderer.get().println(opponent.getName() + " loses -" + taunt.attackLoss() + " ATK and -"
+                                + taunt.defenseLoss() + " DEF permanently!");
+                    }
+                    log.addBattleLog(getName(), opponent.getName(), "TAUNT");
                     turnCompleted = true;
                 }
                 case 5 -> {
                     GameMenu.quit();
                     turnCompleted = true;
                 }
-                default -> System.out.println("Invalid choice. Please enter a number between 1-5.");
+                default -> ConsoleRenderer.get().println("Invalid choice. Please enter a number between 1-5.");
             }
         }
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pacing.pause(500);
     }
 
     /**
@@ -131,17 +164,17 @@ public class PlayerGladiator extends Gladiator {
      * @param item the item being used
      */
     public void useItem(Item item) {
-        switch (item.getName()) {
-            case "Health Potion" -> {
-                int healedAmount = Math.min(item.getValue(), maxHealth - getHealth());
-                setHealth(getHealth() + healedAmount);
-                System.out.println(getName() + " was healed for " + healedAmount + " HP.");
-            }
-            case "Berserk Potion" -> {
-                setAttack(getAttack() + item.getValue());
-                System.out.println(getName() + "'s attack was increased by " + item.getValue() + ".");
-            }
-            default -> System.out.println("You fail to use an item.");
-        }
+        ConsoleRenderer.get().println(applyItem(item));
+    }
+
+    /**
+     * Applies effects of an item without writing to the console, using the
+     * effect registered for it in ItemRegistry.
+     *
+     * @param item the item being used
+     * @return message describing the effect
+     */
+    public String applyItem(Item item) {
+        return ItemRegistry.apply(this, item);
     }
 }
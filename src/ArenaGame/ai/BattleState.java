@@ -0,0 +1,33 @@
+package ArenaGame.ai;
+
+import ArenaGame.Gladiator;
+
+/**
+ * Compact, immutable copy of the stats an enemy strategy looks at when it
+ * picks an action. Searching strategies copy these fields into their own
+ * scratch state instead of cloning whole Gladiator objects.
+ *
+ * @param enemyHealth     current health of the gladiator choosing
+ * @param enemyMaxHealth  its maximum health
+ * @param enemyAttack     its attack
+ * @param enemyDefense    its defense
+ * @param enemyBlocking   whether it is guarding
+ * @param playerHealth    current health of its opponent
+ * @param playerMaxHealth the opponent's maximum health
+ * @param playerAttack    the opponent's attack
+ * @param playerDefense   the opponent's defense
+ * @param playerBlocking  whether the opponent is guarding
+ */
+public record BattleState(int enemyHealth, int enemyMaxHealth, int enemyAttack, int enemyDefense, boolean enemyBlocking,
+        int playerHealth, int playerMaxHealth, int playerAttack, int playerDefense, boolean playerBlocking) {
+
+    /**
+     * @param enemy    the gladiator choosing an action
+     * @param opponent the gladiator it is fighting
+     * @return the current state of the battle
+     */
+    public static BattleState of(Gladiator enemy, Gladiator opponent) {
+        return new BattleState(enemy.getHealth(), enemy.getMaxHealth(), enemy.getAttack(), enemy.getDefense(), enemy.isBlocking(),
+                opponent.getHealth(), opponent.getMaxHealth(), opponent.getAttack(), opponent.getDefense(), opponent.isBlocking());
+    }
+}
@@ -0,0 +1,26 @@
+package ArenaGame.ai;
+
+/**
+ * EnemyStrategy decides what an AI-controlled gladiator does on its turn.
+ * Implementations return one of EnemyGladiator.ATTACK, GUARD or TAUNT and
+ * must be safe to share between battles running on different threads.
+ *
+ * The strategy is chosen with the "arena.ai" system property:
+ * "weighted" (default) or "mcts".
+ */
+public interface EnemyStrategy {
+
+    /**
+     * @param state the battle as seen by the enemy
+     * @return EnemyGladiator.ATTACK, GUARD or TAUNT
+     */
+    int chooseAction(BattleState state);
+
+    /**
+     * @param fallback strategy used unless another one is configured
+     * @return the configured strategy
+     */
+    static EnemyStrategy configured(EnemyStrategy fallback) {
+        return "mcts".equalsIgnoreCase(System.getProperty("arena.ai")) ? MonteCarloStrategy.shared() : fallback;
+    }
+}
@@ -0,0 +1,358 @@
+package ArenaGame.ai;
+
+import ArenaGame.EnemyGladiator;
+import ArenaGame.CombatRules;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MonteCarloStrategy picks the enemy's action with a Monte Carlo tree search
+ * over the console CombatRules damage (guard halves the next hit; taunts are
+ * not simulated), assuming the player acts at random.
+ * <p>
+ * Each turn has a hard time budget (5 ms by default). The searches run on a
+ * small shared pool with one thread per CPU while the calling thread only
+ * waits, at most until its deadline, so CPU-bound search never blocks the
+ * caller (e.g. a virtual thread of the server) past its budget. Each
+ * searcher grows its own tree from the same root and the root statistics
+ * are added up at the end (root parallelisation). With hundreds of battles
+ * in one JVM the pool's short queue fills up: refused searches, and
+ * searches that only start after the deadline, do nothing, and a decision
+ * that got no search at all falls back to the weighted random strategy.
+ * Battle state is copied into a few ints per iteration instead of cloning
+ * Gladiator objects.
+ */
+public class MonteCarloStrategy implements EnemyStrategy {
+
+    public static final long DEFAULT_BUDGET_NANOS = 5_000_000L;
+
+    static final int MAX_TURNS = 60; // rollout depth before the battle is scored by health
+    private static final int ACTIONS = 3;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int CLOCK_CHECK_MASK = 3; // read the clock every 4 iterations
+
+    private static final int CPUS = Runtime.getRuntime().availableProcessors();
+    private static final MonteCarloStrategy SHARED = new MonteCarloStrategy(DEFAULT_BUDGET_NANOS,
+            Math.min(4, CPUS), createPool(CPUS));
+
+    private final long budgetNanos;
+    private final int searchers;
+    private final Executor executor;
+    private final EnemyStrategy fallback = WeightedRandomStrategy.standard(new Random());
+
+    /**
+     * @param budgetNanos time allowed per decision
+     * @param searchers   parallel searches offered to the executor per decision
+     * @param executor    runs the searches, should be bounded and may reject
+     */
+    public MonteCarloStrategy(long budgetNanos, int searchers, Executor executor) {
+        this.budgetNanos = budgetNanos;
+        this.searchers = Math.max(1, searchers);
+        this.executor = executor;
+    }
+
+    /**
+     * @return the strategy shared by all battles, 5 ms per decision
+     */
+    public static MonteCarloStrategy shared() {
+        return SHARED;
+    }
+
+    /**
+     * Fixed size daemon pool with a short queue, extra work is rejected
+     * instead of piling up behind other battles.
+     */
+    private static ExecutorService createPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "arena-mcts-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public int chooseAction(BattleState state) {
+        long start = System.nanoTime();
+        // searchers stop a little early so their results can be collected in time
+        Search search = new Search(state, start + budgetNanos * 9 / 10, searchers);
+        for (int i = 0; i < searchers; i++) {
+            try {
+                executor.execute(search::run);
+            } catch (RejectedExecutionException busy) {
+                search.skip();
+            }
+        }
+        search.await(start + budgetNanos);
+        int action = search.best();
+        return action >= 0 ? action : fallback.chooseAction(state);
+    }
+
+    /**
+     * One decision: the shared root statistics and the searchers adding to them.
+     */
+    private static final class Search {
+
+        private final BattleState root;
+        private final long deadline;
+        private final CountDownLatch finished;
+        private final long[] visits = new long[ACTIONS];
+        private final double[] rewards = new double[ACTIONS];
+
+        Search(BattleState root, long deadline, int searchers) {
+            this.root = root;
+            this.deadline = deadline;
+            this.finished = new CountDownLatch(searchers);
+        }
+
+        /**
+         * Grows one tree until the deadline and adds its root statistics.
+         */
+        void run() {
+            try {
+                if (System.nanoTime() >= deadline) {
+                    return; // started too late, nothing to add
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Node tree = new Node();
+                Sim sim = new Sim();
+                Node[] path = new Node[MAX_TURNS + 2];
+                int iterations = 0;
+                while ((iterations & CLOCK_CHECK_MASK) != 0 || System.nanoTime() < deadline) {
+                    sim.reset(root);
+                    iterate(tree, sim, path, random);
+                    iterations++;
+                }
+                synchronized (this) {
+                    for (int action = 0; action < ACTIONS; action++) {
+                        Node child = tree.children[action];
+                        if (child != null) {
+                            visits[action] += child.visits;
+                            rewards[action] += child.reward;
+                        }
+                    }
+                }
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        void skip() {
+            finished.countDown();
+        }
+
+        void await(long until) {
+            long remaining = until - System.nanoTime();
+            try {
+                if (remaining > 0) {
+                    finished.await(remaining, TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * @return the most visited action, or -1 if nothing was searched in time
+         */
+        synchronized int best() {
+            int best = -1;
+            long mostVisits = 0;
+            for (int action = 0; action < ACTIONS; action++) {
+                if (visits[action] > mostVisits) {
+                    mostVisits = visits[action];
+                    best = action;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * One search iteration: select down the tree with UCB1, expand one
+     * action, play the rest of the battle at random and back up the result.
+     * The tree is open loop, the player's random replies are re-sampled on
+     * every pass instead of being stored.
+     */
+    private static void iterate(Node tree, Sim sim, Node[] path, ThreadLocalRandom random) {
+        Node node = tree;
+        int depth = 0;
+        path[depth++] = node;
+        double reward;
+        while (true) {
+            if (sim.over()) {
+                reward = sim.reward();
+                break;
+            }
+            int action = -1;
+            boolean expanded = false;
+            for (int candidate = 0; candidate < ACTIONS; candidate++) {
+                if (node.children[candidate] == null) {
+                    action = candidate;
+                    node.children[candidate] = new Node();
+                    expanded = true;
+                    break;
+                }
+            }
+            if (action < 0) {
+                action = select(node);
+            }
+            sim.enemyTurn(action);
+            if (!sim.over()) {
+                sim.playerTurn(random);
+            }
+            node = node.children[action];
+            path[depth++] = node;
+            if (expanded || depth > MAX_TURNS) {
+                reward = rollout(sim, random);
+                break;
+            }
+        }
+        for (int i = 0; i < depth; i++) {
+            path[i].visits++;
+            path[i].reward += reward;
+        }
+    }
+
+    /**
+     * @return the child with the highest UCB1 score
+     */
+    private static int select(Node node) {
+        double logVisits = Math.log(node.visits);
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int action = 0; action < ACTIONS; action++) {
+            Node child = node.children[action];
+            double score = child.reward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = action;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays on with random actions for both sides.
+     */
+    private static double rollout(Sim sim, ThreadLocalRandom random) {
+        for (int turn = 0; turn < MAX_TURNS && !sim.over(); turn++) {
+            int roll = random.nextInt(10);
+            sim.enemyTurn(roll < 5 ? EnemyGladiator.ATTACK : roll < 9 ? EnemyGladiator.GUARD : EnemyGladiator.TAUNT);
+            if (!sim.over()) {
+                sim.playerTurn(random);
+            }
+        }
+        return sim.reward();
+    }
+
+    private static final class Node {
+        final Node[] children = new Node[ACTIONS];
+        int visits;
+        double reward;
+    }
+
+    /**
+     * Scratch battle state, reset from the root before every iteration.
+     */
+    private static final class Sim {
+        private static final CombatRules RULES = CombatRules.console();
+
+        int enemyHealth, enemyMaxHealth, enemyAttack, enemyDefense;
+        int playerHealth, playerMaxHealth, playerAttack, playerDefense;
+        boolean enemyBlocking, playerBlocking;
+
+        void reset(BattleState state) {
+            enemyHealth = state.enemyHealth();
+            enemyMaxHealth = state.enemyMaxHealth();
+            enemyAttack = state.enemyAttack();
+            enemyDefense = state.enemyDefense();
+            enemyBlocking = state.enemyBlocking();
+            playerHealth = state.playerHealth();
+            playerMaxHealth = state.playerMaxHealth();
+            playerAttack = state.playerAttack();
+            playerDefense = state.playerDefense();
+            playerBlocking = state.playerBlocking();
+        }
+
+        boolean over() {
+            return enemyHealth <= 0 || playerHealth <= 0;
+        }
+
+        void enemyTurn(int action) {
+            enemyBlocking = false;
+            if (action == EnemyGladiator.ATTACK) {
+                playerHealth -= RULES.enemyHit(enemyAttack, playerDefense, playerBlocking);
+            } else if (action == EnemyGladiator.GUARD) {
+                enemyBlocking = true;
+            }
+        }
+
+        /**
+         * The player attacks 60%, guards 30% and taunts 10% of the time.
+         */
+        void playerTurn(ThreadLocalRandom random) {
+            playerBlocking = false;
+            int roll = random.nextInt(10);
+            if (roll < 6) {
+                enemyHealth -= RULES.playerHit(playerAttack, enemyDefense, enemyBlocking);
+            } else if (roll < 9) {
+                playerBlocking = true;
+            }
+        }
+
+        /**
+         * @return 1 if the enemy won, 0 if it lost, otherwise scored by remaining health
+         */
+        double reward() {
+            if (playerHealth <= 0) {
+                return 1;
+            } else if (enemyHealth <= 0) {
+                return 0;
+            }
+            return 0.5 + 0.5 * ((double) enemyHealth / enemyMaxHealth - (double) playerHealth / playerMaxHealth);
+        }
+    }
+
+    /**
+     * Measures decision times with many battles deciding at once, each
+     * waiting a short "player" delay between turns.
+     *
+     * @param args [battles] [turns per battle] [delay between turns in ms]
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int turns = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int delay = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        long[] times = new long[battles * turns];
+        Random seeds = new Random(42);
+        List<Thread> threads = new ArrayList<>();
+        for (int b = 0; b < battles; b++) {
+            int battle = b;
+            long seed = seeds.nextLong();
+            threads.add(Thread.ofVirtual().start(() -> {
+                Random random = new Random(seed);
+                for (int t = 0; t < turns; t++) {
+                    BattleState state = new BattleState(20 + random.nextInt(100), 120, 20 + random.nextInt(40), random.nextInt(30), false,
+                            20 + random.nextInt(100), 120, 20 + random.nextInt(40), random.nextInt(30), random.nextBoolean());
+                    long start = System.nanoTime();
+                    shared().chooseAction(state);
+                    times[battle * turns + t] = System.nanoTime() - start;
+                    try {
+                        Thread.sleep(random.nextInt(delay + 1));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Arrays.sort(times);
+        System.out.printf("%d battles x %d decisions: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", battles, turns,
+                times[times.length / 2] / 1e6, times[(int) (times.length * 0.99)] / 1e6, times[times.length - 1] / 1e6);
+    }
+}
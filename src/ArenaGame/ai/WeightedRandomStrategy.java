@@ -0,0 +1,61 @@
+package ArenaGame.ai;
+
+import ArenaGame.EnemyGladiator;
+import java.util.*;
+
+/**
+ * WeightedRandomStrategy is the cheap default enemy 'ai': one random roll
+ * split between attack, guard and taunt by fixed weights. The cautious
+ * variant guards when low on health and attacks a weak opponent first.
+ * The weights are expanded into a roll-to-action table when created, so a
+ * decision is one roll and one array read. The console and GUI weights
+ * come from CombatRules.
+ */
+public class WeightedRandomStrategy implements EnemyStrategy {
+
+    private final Random random;
+    private final byte[] actionByRoll;
+    private final boolean cautious;
+
+    /**
+     * @param random       random generator for decisions
+     * @param attackWeight chance of attacking, out of the total weight
+     * @param guardWeight  chance of guarding
+     * @param tauntWeight  chance of taunting
+     * @param cautious     guard below 30% health and attack an opponent below 30%
+     */
+    public WeightedRandomStrategy(Random random, int attackWeight, int guardWeight, int tauntWeight, boolean cautious) {
+        this.random = random;
+        this.actionByRoll = new byte[attackWeight + guardWeight + tauntWeight];
+        Arrays.fill(actionByRoll, 0, attackWeight, (byte) EnemyGladiator.ATTACK);
+        Arrays.fill(actionByRoll, attackWeight, attackWeight + guardWeight, (byte) EnemyGladiator.GUARD);
+        Arrays.fill(actionByRoll, attackWeight + guardWeight, actionByRoll.length, (byte) EnemyGladiator.TAUNT);
+        this.cautious = cautious;
+    }
+
+    /**
+     * Console rules: 50% attack, 40% guard, 10% taunt, cautious.
+     */
+    public static WeightedRandomStrategy standard(Random random) {
+        return new WeightedRandomStrategy(random, 5, 4, 1, true);
+    }
+
+    /**
+     * GUI rules: 60% attack, 20% guard, 20% taunt.
+     */
+    public static WeightedRandomStrategy aggressive(Random random) {
+        return new WeightedRandomStrategy(random, 6, 2, 2, false);
+    }
+
+    @Override
+    public int chooseAction(BattleState state) {
+        if (cautious) {
+            if (state.enemyHealth() < state.enemyMaxHealth() * 0.3) {
+                return EnemyGladiator.GUARD; // Guard if low health
+            } else if (state.playerHealth() < state.playerMaxHealth() * 0.3) {
+                return EnemyGladiator.ATTACK; // Attack if opponent is weak
+            }
+        }
+        return actionByRoll[random.nextInt(actionByRoll.length)];
+    }
+}
@@ -1,5 +1,8 @@
 package ArenaGame.database;
 
+import ArenaGame.storage.BattleLogRepository;
+import ArenaGame.storage.LogEntry;
+import ArenaGame.storage.LogRow;
 import java.sql.*;
 import java.util.*;
 
@@ -11,8 +14,15 @@ import java.util.*;
  * - Create the BATTLE_LOGS table if one is not present 
  * - Insert and append entries 
  * - Retrieve and clear table on request
+ *
+ * This is the Derby backend of BattleLogRepository.
  */
-public class BattleLogDAO {
+public class BattleLogDAO implements BattleLogRepository {
+
+    /**
+     * Columns a log page can be sorted by, LOG_ID is time order
+     */
+    public static final List<String> SORT_COLUMNS = List.of("LOG_ID", "PLAYER_NAME", "ENEMY_NAME", "RESULT");
 
     private final Connection connection;
 
@@ -23,6 +33,7 @@ public class BattleLogDAO {
     public BattleLogDAO() {
         this.connection = DatabaseManager.getInstance().getConnection();
         noTable();
+        noIndex();
     }
 
     /**
@@ -48,6 +59,19 @@ public class BattleLogDAO {
         }
     }
 
+    /**
+     * Index used to filter logs by player for paged reads
+     */
+    private void noIndex() {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE INDEX BATTLE_LOGS_PLAYER_IDX ON BATTLE_LOGS (PLAYER_NAME, LOG_ID)");
+        } catch (SQLException exception) {
+            if (!"X0Y32".equals(exception.getSQLState())) {
+                System.err.println("Failed to create BATTLE_LOGS index: " + exception.getMessage());
+            }
+        }
+    }
+
     // ========== WRITE METHODS ==========
     /**
      * Adds a new entry to BATTLE_LOG or appends
@@ -69,6 +93,34 @@ public class BattleLogDAO {
         }
     }
 
+    /**
+     * Adds many entries in one batched transaction instead of one
+     * autocommitted insert per entry
+     *
+     * @param entries rows to insert
+     */
+    public void addBattleLogs(List<LogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO BATTLE_LOGS (PLAYER_NAME, ENEMY_NAME, RESULT) VALUES (?, ?, ?)";
+        try {
+            DatabaseManager.inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (LogEntry entry : entries) {
+                        statement.setString(1, entry.playerName());
+                        statement.setString(2, entry.enemyName());
+                        statement.setString(3, entry.result());
+                        statement.addBatch();
+                    }
+                    return statement.executeBatch();
+                }
+            });
+        } catch (SQLException exception) {
+            System.err.println("Failed to add battle logs: " + exception.getMessage());
+        }
+    }
+
     public void clearLogs() {
         String sql = "DELETE FROM BATTLE_LOGS";
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
@@ -89,16 +141,27 @@ public class BattleLogDAO {
         List<String> logs = new ArrayList<>();
         String sql = "SELECT TIMESTAMP, PLAYER_NAME, ENEMY_NAME, RESULT FROM BATTLE_LOGS ORDER BY LOG_ID DESC";
         try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            readLogs(resultSet, logs);
+        } catch (SQLException exception) {
+            System.err.println("Failed to retrieve battle logs: " + exception.getMessage());
+        }
+        return logs;
+    }
 
-            while (resultSet.next()) {
-                Timestamp timeStamp = resultSet.getTimestamp("TIMESTAMP");
-                String playerName = resultSet.getString("PLAYER_NAME");
-                String enemyName = resultSet.getString("ENEMY_NAME");
-                String result = resultSet.getString("RESULT");
-
-                logs.add(String.format("[%s] %s vs %s → %s",
-                        timeStamp.toLocalDateTime().withNano(0),
-                        playerName, enemyName, result));
+    /**
+     * Pulls only the newest battle logs, so callers that show a short
+     * history do not read the whole table.
+     *
+     * @param limit maximum number of entries to return
+     * @return List of formatted log entries as strings, newest first
+     */
+    public List<String> getRecentLogs(int limit) {
+        List<String> logs = new ArrayList<>();
+        String sql = "SELECT TIMESTAMP, PLAYER_NAME, ENEMY_NAME, RESULT FROM BATTLE_LOGS ORDER BY LOG_ID DESC FETCH FIRST ? ROWS ONLY";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                readLogs(resultSet, logs);
             }
         } catch (SQLException exception) {
             System.err.println("Failed to retrieve battle logs: " + exception.getMessage());
@@ -106,6 +169,94 @@ public class BattleLogDAO {
         return logs;
     }
 
+    /**
+     * Reads one page of battle logs using keyset paging: the page starts
+     * right after the last row of the previous page, so the cost does not
+     * grow with how far the reader has scrolled. Sorting and filtering
+     * run in the database.
+     *
+     * @param after        last row of the previous page, or null for the first page
+     * @param sortColumn   one of SORT_COLUMNS
+     * @param ascending    sort direction
+     * @param playerPrefix only rows whose player name starts with this, or null/blank for all
+     * @param limit        page size
+     * @return up to limit rows
+     */
+    public List<LogRow> getLogPage(LogRow after, String sortColumn, boolean ascending, String playerPrefix, int limit) {
+        if (!SORT_COLUMNS.contains(sortColumn)) {
+            throw new IllegalArgumentException("Cannot sort battle logs by " + sortColumn);
+        }
+        boolean keyOnly = "LOG_ID".equals(sortColumn);
+        String direction = ascending ? "ASC" : "DESC";
+        String compare = ascending ? ">" : "<";
+        boolean filtered = playerPrefix != null && !playerPrefix.isBlank();
+
+        StringBuilder sql = new StringBuilder("SELECT LOG_ID, TIMESTAMP, PLAYER_NAME, ENEMY_NAME, RESULT FROM BATTLE_LOGS WHERE 1=1");
+        if (filtered) {
+            sql.append(" AND PLAYER_NAME LIKE ? ESCAPE '!'");
+        }
+        if (after != null) {
+            sql.append(keyOnly
+                    ? " AND LOG_ID " + compare + " ?"
+                    : " AND (" + sortColumn + " " + compare + " ? OR (" + sortColumn + " = ? AND LOG_ID " + compare + " ?))");
+        }
+        sql.append(keyOnly ? " ORDER BY LOG_ID " + direction : " ORDER BY " + sortColumn + " " + direction + ", LOG_ID " + direction);
+        sql.append(" FETCH FIRST ? ROWS ONLY");
+
+        List<LogRow> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            if (filtered) {
+                statement.setString(index++, escapeLike(playerPrefix.trim()) + "%");
+            }
+            if (after != null) {
+                if (!keyOnly) {
+                    String value = switch (sortColumn) {
+                        case "PLAYER_NAME" -> after.playerName();
+                        case "ENEMY_NAME" -> after.enemyName();
+                        default -> after.result();
+                    };
+                    statement.setString(index++, value);
+                    statement.setString(index++, value);
+                }
+                statement.setInt(index++, after.logId());
+            }
+            statement.setInt(index, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(new LogRow(resultSet.getInt("LOG_ID"), resultSet.getTimestamp("TIMESTAMP"),
+                            resultSet.getString("PLAYER_NAME"), resultSet.getString("ENEMY_NAME"), resultSet.getString("RESULT")));
+                }
+            }
+        } catch (SQLException exception) {
+            System.err.println("Failed to retrieve battle log page: " + exception.getMessage());
+        }
+        return rows;
+    }
+
+    /**
+     * Escapes LIKE wildcards so a filter matches literally
+     */
+    static String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * Formats each row of a battle log query
+     */
+    private void readLogs(ResultSet resultSet, List<String> logs) throws SQLException {
+        while (resultSet.next()) {
+            Timestamp timeStamp = resultSet.getTimestamp("TIMESTAMP");
+            String playerName = resultSet.getString("PLAYER_NAME");
+            String enemyName = resultSet.getString("ENEMY_NAME");
+            String result = resultSet.getString("RESULT");
+
+            logs.add(String.format("[%s] %s vs %s → %s",
+                    timeStamp.toLocalDateTime().withNano(0),
+                    playerName, enemyName, result));
+        }
+    }
+
     /**
      * Counts num of stored battle logs.
      *
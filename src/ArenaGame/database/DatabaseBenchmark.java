@@ -0,0 +1,110 @@
+package ArenaGame.database;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local benchmark comparing the embedded and network Derby modes.
+ * Every worker thread opens its own connection and runs the same mix of
+ * single-row inserts and primary key reads against a scratch table,
+ * which is dropped afterwards.
+ *
+ * Usage: DatabaseBenchmark [threads] [operationsPerThread]
+ */
+public class DatabaseBenchmark {
+
+    private static final String TABLE = "ARENA_BENCHMARK";
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        createTable();
+        try {
+            for (String mode : new String[]{DatabaseManager.MODE_EMBEDDED, DatabaseManager.MODE_NETWORK}) {
+                run(mode, threads, operations);
+            }
+        } finally {
+            dropTable();
+            DatabaseManager.stopNetworkServer();
+        }
+    }
+
+    /**
+     * Runs the workload in one mode and prints throughput and mean latency
+     */
+    private static void run(String mode, int threads, int operations) throws Exception {
+        LongAdder inserts = new LongAdder();
+        LongAdder reads = new LongAdder();
+        LongAdder nanos = new LongAdder();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            String player = mode + "_" + t;
+            workers.add(pool.submit(() -> {
+                try (Connection connection = DatabaseManager.openConnection(mode);
+                        PreparedStatement insert = connection.prepareStatement(
+                                "INSERT INTO " + TABLE + " (PLAYER_NAME, SCORE) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+                        PreparedStatement select = connection.prepareStatement(
+                                "SELECT SCORE FROM " + TABLE + " WHERE ID = ?")) {
+                    for (int i = 0; i < operations; i++) {
+                        long opStart = System.nanoTime();
+                        insert.setString(1, player);
+                        insert.setInt(2, i);
+                        insert.executeUpdate();
+                        int id;
+                        try (ResultSet keys = insert.getGeneratedKeys()) {
+                            keys.next();
+                            id = keys.getInt(1);
+                        }
+                        inserts.increment();
+
+                        select.setInt(1, id);
+                        try (ResultSet rs = select.executeQuery()) {
+                            rs.next();
+                        }
+                        reads.increment();
+                        nanos.add(System.nanoTime() - opStart);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = inserts.sum() + reads.sum();
+
+        System.out.printf("%-8s threads=%d inserts=%d reads=%d time=%.2fs throughput=%.0f ops/s mean=%.3f ms per insert+read%n",
+                mode, threads, inserts.sum(), reads.sum(), seconds, total / seconds,
+                nanos.sum() / 1e6 / inserts.sum());
+    }
+
+    private static void createTable() throws SQLException {
+        try (Connection connection = DatabaseManager.openConnection(DatabaseManager.MODE_EMBEDDED);
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE " + TABLE + " ("
+                    + "ID INT GENERATED ALWAYS AS IDENTITY PRIMARY KEY, "
+                    + "PLAYER_NAME VARCHAR(50) NOT NULL, SCORE INT NOT NULL)");
+        } catch (SQLException exception) {
+            if (!"X0Y32".equals(exception.getSQLState())) {
+                throw exception;
+            }
+        }
+    }
+
+    private static void dropTable() {
+        try (Connection connection = DatabaseManager.openConnection(DatabaseManager.MODE_EMBEDDED);
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DROP TABLE " + TABLE);
+        } catch (SQLException exception) {
+            System.err.println("Failed to drop " + TABLE + ": " + exception.getMessage());
+        }
+    }
+}
@@ -1,41 +1,61 @@
 package ArenaGame.database;
 
+import java.net.InetAddress;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.derby.drda.NetworkServerControl;
 
 /**
- * The DatabaseManager class handles the connection and management of an
- * embedded database
+ * The DatabaseManager class handles the connection and management of the
+ * Derby database, either embedded in this process or through a local
+ * Derby Network Server shared by several game processes
  *
- * Responsibilities: 
- * - Create and manage the connection to the database 
- * - Create a database if one doesn't exist (and let the user know) 
+ * Responsibilities:
+ * - Create and manage the connection to the database
+ * - Create a database if one doesn't exist (and let the user know)
+ * - Start or attach to a Derby Network Server when configured to
  * - Provide methods for closing or altering the database connection
+ *
+ * The mode is chosen with system properties, e.g.
+ * -Darena.db.mode=network -Darena.db.host=localhost -Darena.db.port=1527
+ *
+ * The memory mode keeps the whole database in this JVM (jdbc:derby:memory:)
+ * and never touches the arenaDB directory. Tests and simulations use it as
+ * a scratch store through useInMemory(), and reset() throws it away.
  */
 public class DatabaseManager {
 
+    public static final String MODE_EMBEDDED = "embedded";
+    public static final String MODE_NETWORK = "network";
+    public static final String MODE_MEMORY = "memory";
+
     private static DatabaseManager instance;
     private Connection connection;
+    private final String mode;
 
-    private static final String DB_URL = "jdbc:derby:arenaDB;create=true";
+    private static final String DB_NAME = "arenaDB";
+    private static final String MEMORY_URL = "jdbc:derby:memory:" + DB_NAME;
 
     private static final String USERNAME = "ARENA";
     private static final String PASSWORD = "ARENA";
 
+    // Network server started by this process (null if attached to another one)
+    private static NetworkServerControl networkServer;
+
     /**
      * Private constructor method to prevent direct instantiation. Creates the
      * connection when the instance is initialized
      */
-    private DatabaseManager() {
-
+    private DatabaseManager(String mode) {
+        this.mode = mode;
         try {
-            Class.forName("org.apache.derby.jdbc.EmbeddedDriver");
-
-            connection = DriverManager.getConnection(DB_URL, USERNAME, PASSWORD);
-            System.out.println("Successfully connected to " + DB_URL);
-        } catch (ClassNotFoundException exception) {
-            System.err.println("Derby driver not found: " + exception.getMessage());
+            connection = openConnection(mode);
+            System.out.println("Successfully connected to " + connection.getMetaData().getURL());
         } catch (SQLException exception) {
             System.err.println("Failed to connect to the database: " + exception.getMessage());
         }
@@ -48,11 +68,272 @@ public class DatabaseManager {
      */
     public static synchronized DatabaseManager getInstance() {
         if (instance == null) {
-            instance = new DatabaseManager();
+            instance = new DatabaseManager(configuredMode());
+        }
+        return instance;
+    }
+
+    /**
+     * Switches the game to an empty in-memory database. Tables are created
+     * again by the next DAOs, so calling this once per test class gives
+     * every class a fresh schema and the arenaDB directory is never
+     * touched. If an in-memory database is already in use its tables are
+     * dropped instead, creating a database takes most of a second while
+     * dropping a few tables takes milliseconds.
+     *
+     * @return the instance connected to the empty database
+     */
+    public static synchronized DatabaseManager useInMemory() {
+        if (instance != null && MODE_MEMORY.equals(instance.mode) && instance.dropTables()) {
+            forgetCaches();
+            return instance;
         }
+        reset();
+        instance = new DatabaseManager(MODE_MEMORY);
         return instance;
     }
 
+    /**
+     * Closes the current connection and forgets cached rosters, so the next
+     * getInstance() connects again in the configured mode. Pending roster
+     * stats are written first, unless the database is in memory, which is
+     * dropped. DAOs created before the reset hold the closed connection and
+     * must be created again.
+     */
+    public static synchronized void reset() {
+        if (instance != null && !MODE_MEMORY.equals(instance.mode)) {
+            GladiatorStatsCache.get().stopFlushing();
+        }
+        forgetCaches();
+        if (instance == null) {
+            return;
+        }
+        instance.closeConnection();
+        if (MODE_MEMORY.equals(instance.mode)) {
+            dropMemoryDatabase();
+        }
+        instance = null;
+    }
+
+    /**
+     * Drops state kept outside the database that belongs to the old data
+     */
+    private static void forgetCaches() {
+        GladiatorStatsCache.get().detach();
+        GladiatorDAO.invalidateRoster();
+    }
+
+    /**
+     * Drops every table in the game's schema
+     *
+     * @return false if the tables could not all be dropped
+     */
+    private boolean dropTables() {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = connection.getMetaData().getTables(null, USERNAME, "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                tables.add(rs.getString("TABLE_NAME"));
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String table : tables) {
+                    statement.executeUpdate("DROP TABLE \"" + table + "\"");
+                }
+            }
+            return true;
+        } catch (SQLException exception) {
+            System.err.println("Failed to drop the in-memory tables: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the configured mode from the arena.db.mode system property
+     *
+     * @return MODE_EMBEDDED (default), MODE_NETWORK or MODE_MEMORY
+     */
+    public static String configuredMode() {
+        return System.getProperty("arena.db.mode", MODE_EMBEDDED).trim().toLowerCase();
+    }
+
+    /**
+     * Opens a new connection in the given mode. In network mode a local
+     * Network Server is started in this process if none is listening yet.
+     *
+     * @param mode MODE_EMBEDDED, MODE_NETWORK or MODE_MEMORY
+     * @return a new JDBC connection
+     * @throws SQLException if the database cannot be reached
+     */
+    public static Connection openConnection(String mode) throws SQLException {
+        if (MODE_NETWORK.equals(mode)) {
+            try {
+                return DriverManager.getConnection(networkUrl(), USERNAME, PASSWORD);
+            } catch (SQLException exception) {
+                if (!"08001".equals(exception.getSQLState())) { // 08001 = no server listening
+                    throw exception;
+                }
+                startNetworkServer();
+                return DriverManager.getConnection(networkUrl(), USERNAME, PASSWORD);
+            }
+        }
+        if (MODE_MEMORY.equals(mode)) {
+            return DriverManager.getConnection(MEMORY_URL + ";create=true", USERNAME, PASSWORD);
+        }
+        if (!MODE_EMBEDDED.equals(mode)) {
+            System.err.println("Unknown database mode '" + mode + "', using " + MODE_EMBEDDED);
+        }
+        return DriverManager.getConnection("jdbc:derby:" + DB_NAME + ";create=true", USERNAME, PASSWORD);
+    }
+
+    /**
+     * Starts a Derby Network Server on the configured host and port inside
+     * this process. Other game processes can then attach to it, so this
+     * process must stay running while they use the database.
+     *
+     * @throws SQLException if the server does not come up
+     */
+    public static synchronized void startNetworkServer() throws SQLException {
+        if (networkServer != null) {
+            return;
+        }
+        try {
+            NetworkServerControl server = new NetworkServerControl(InetAddress.getByName(host()), port());
+            server.start(null);
+            for (int attempt = 0; attempt < 50; attempt++) { // wait up to 5 seconds
+                try {
+                    server.ping();
+                    networkServer = server;
+                    System.out.println("Started Derby Network Server on " + host() + ":" + port());
+                    return;
+                } catch (Exception notReady) {
+                    Thread.sleep(100);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (Exception exception) {
+            throw new SQLException("Failed to start Derby Network Server: " + exception.getMessage(), "08001", exception);
+        }
+        throw new SQLException("Derby Network Server did not start on " + host() + ":" + port(), "08001");
+    }
+
+    /**
+     * Stops the Network Server if this process started it
+     */
+    public static synchronized void stopNetworkServer() {
+        if (networkServer == null) {
+            return;
+        }
+        try {
+            networkServer.shutdown();
+            System.out.println("Derby Network Server stopped.");
+        } catch (Exception exception) {
+            System.err.println("Failed to stop Derby Network Server: " + exception.getMessage());
+        }
+        networkServer = null;
+    }
+
+    /**
+     * Frees an in-memory database, its connections must be closed
+     */
+    private static void dropMemoryDatabase() {
+        try {
+            DriverManager.getConnection(MEMORY_URL + ";drop=true", USERNAME, PASSWORD);
+        } catch (SQLException exception) {
+            if (!"08006".equals(exception.getSQLState())) { // 08006 = dropped
+                System.err.println("Failed to drop the in-memory database: " + exception.getMessage());
+            }
+        }
+    }
+
+    private static String networkUrl() {
+        return "jdbc:derby://" + host() + ":" + port() + "/" + DB_NAME + ";create=true";
+    }
+
+    private static String host() {
+        return System.getProperty("arena.db.host", "localhost");
+    }
+
+    private static int port() {
+        return Integer.getInteger("arena.db.port", NetworkServerControl.DEFAULT_PORTNUMBER);
+    }
+
+    /**
+     * Work done inside one transaction
+     *
+     * @param <T> result of the work
+     * @param <E> checked exception the work may throw besides SQLException
+     */
+    @FunctionalInterface
+    public interface SqlWork<T, E extends Exception> {
+
+        T run() throws SQLException, E;
+    }
+
+    /**
+     * Runs work as one transaction on a connection shared by every DAO:
+     * autocommit is turned off, the work is committed if it returns and
+     * rolled back if it throws, and autocommit is turned back on.
+     * <p>
+     * The connection's monitor is held for the whole transaction so other
+     * threads' statements cannot become part of it. Their plain autocommit
+     * statements do not lock the connection themselves; they are kept out
+     * only because both Derby drivers (embedded and client) synchronize
+     * statement execution on the Connection object, and so wait for this
+     * monitor. A driver that does not would need every DAO call to take the
+     * lock.
+     *
+     * @param connection shared connection
+     * @param work       statements to run, without commit or rollback
+     * @return what the work returned
+     * @throws SQLException if the work or the commit fails, after rolling back
+     * @throws E            if the work throws it, after rolling back
+     */
+    public static <T, E extends Exception> T inTransaction(Connection connection, SqlWork<T, E> work) throws SQLException, E {
+        synchronized (connection) {
+            return transaction(connection, work);
+        }
+    }
+
+    /**
+     * Same as {@link #inTransaction(Connection, SqlWork)} at the given
+     * isolation level, the connection's level is restored afterwards
+     *
+     * @param isolation one of the Connection.TRANSACTION_* levels
+     */
+    public static <T, E extends Exception> T inTransaction(Connection connection, int isolation, SqlWork<T, E> work)
+            throws SQLException, E {
+        synchronized (connection) {
+            int previous = connection.getTransactionIsolation();
+            connection.setTransactionIsolation(isolation);
+            try {
+                return transaction(connection, work);
+            } finally {
+                connection.setTransactionIsolation(previous);
+            }
+        }
+    }
+
+    /**
+     * Body of inTransaction, the caller holds the connection's monitor
+     */
+    private static <T, E extends Exception> T transaction(Connection connection, SqlWork<T, E> work) throws SQLException, E {
+        connection.setAutoCommit(false);
+        try {
+            T result = work.run();
+            connection.commit();
+            return result;
+        } catch (Exception exception) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollback) {
+                exception.addSuppressed(rollback);
+            }
+            throw exception;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
     /**
      * Returns the current active connection object
      *
@@ -62,6 +343,13 @@ public class DatabaseManager {
         return connection;
     }
 
+    /**
+     * @return the mode this instance connected with
+     */
+    public String getMode() {
+        return mode;
+    }
+
     /**
      * Safely closes connection between client and DB
      */
@@ -0,0 +1,508 @@
+package ArenaGame.database;
+
+import ArenaGame.FileManager;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.*;
+import java.util.zip.*;
+
+/**
+ * GameStateSnapshot saves the whole game state in one compact file and
+ * restores it, to seed staging environments or recover quickly
+ *
+ * Responsibilities:
+ * - Export the PLAYERS, GLADIATORS, BATTLE_LOGS and PLAYER_ITEMS tables,
+ *   or the CLI's scores.txt, gladiators.txt and battles.log
+ * - Restore a snapshot into the same kind of store it came from
+ * - Refuse snapshots that are damaged, from a newer version or of the
+ *   other kind
+ *
+ * Exports stream one row at a time, so memory use does not depend on the
+ * size of the database. Database restores replace every table in a single
+ * transaction with batched inserts, skipping the per-row DAO logic; the
+ * checksum is checked before the commit, so a damaged file changes nothing.
+ * File restores write next to the files and move them into place once the
+ * checksum matches.
+ *
+ * File layout, gzip compressed: magic, format version, source, creation
+ * time, then sections (a tag, rows each starting with ROW, END), the
+ * END_OF_SNAPSHOT tag and a CRC32 of everything before it.
+ */
+public class GameStateSnapshot {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final int DEFAULT_BATCH_SIZE = 5000;
+
+    /**
+     * The store a snapshot was taken from and can be restored into
+     */
+    public enum Source { DATABASE, FILES }
+
+    /**
+     * Counts of an export or restore
+     *
+     * @param source     kind of snapshot
+     * @param players    player rows, or scores.txt lines
+     * @param gladiators gladiator rows, or gladiators.txt lines
+     * @param logs       battle log rows, or battles.log lines
+     * @param items      inventory rows, 0 for files
+     */
+    public record Result(Source source, long players, long gladiators, long logs, long items) {
+
+        @Override
+        public String toString() {
+            return source + ": " + players + " players, " + gladiators + " gladiators, " + logs + " battle logs, " + items + " items";
+        }
+    }
+
+    private static final int MAGIC = 0x41524E53; // "ARNS"
+    private static final byte ROW = 1;
+    private static final byte END = 0;
+    private static final byte END_OF_SNAPSHOT = 'E';
+    private static final byte PLAYERS = 'P';
+    private static final byte GLADIATORS = 'G';
+    private static final byte BATTLE_LOGS = 'L';
+    private static final byte PLAYER_ITEMS = 'I';
+    private static final byte FILE = 'F';
+    private static final List<String> GAME_FILES = List.of(FileManager.SCORE_FILE, FileManager.GLADIATOR_FILE, FileManager.BATTLE_LOG);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Connection connection;
+    private final int batchSize;
+
+    /**
+     * Uses the game's connection and the default batch size
+     */
+    public GameStateSnapshot() {
+        this(DatabaseManager.getInstance().getConnection(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param connection database holding the game tables
+     * @param batchSize  rows per executed batch during a restore
+     */
+    public GameStateSnapshot(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    // ========== DATABASE ==========
+    /**
+     * Streams every game table into a snapshot file. The tables are read in
+     * one transaction, writers wait until the export is done.
+     *
+     * @param target file to create or overwrite
+     * @return counts of the exported rows
+     * @throws IOException  if the file cannot be written
+     * @throws SQLException if a table cannot be read
+     */
+    public Result exportDatabase(Path target) throws IOException, SQLException {
+        // one serializable transaction, so every table is read as of the same moment
+        return DatabaseManager.inTransaction(connection, Connection.TRANSACTION_SERIALIZABLE, () -> {
+            try (Writer writer = new Writer(target, Source.DATABASE); Statement statement = connection.createStatement()) {
+                statement.setFetchSize(batchSize);
+                long players = writer.section(statement, PLAYERS, "SELECT NAME, SCORE FROM PLAYERS ORDER BY PLAYER_ID", rs -> {
+                    writer.out.writeUTF(rs.getString(1));
+                    writer.out.writeInt(rs.getInt(2));
+                });
+                long gladiators = writer.section(statement, GLADIATORS,
+                        "SELECT NAME, HEALTH, MAX_HEALTH, ATTACK, DEFENSE FROM GLADIATORS ORDER BY GLADIATOR_ID", rs -> {
+                    writer.out.writeUTF(rs.getString(1));
+                    for (int column = 2; column <= 5; column++) {
+                        writer.out.writeInt(rs.getInt(column));
+                    }
+                });
+                long logs = writer.section(statement, BATTLE_LOGS,
+                        "SELECT TIMESTAMP, PLAYER_NAME, ENEMY_NAME, RESULT FROM BATTLE_LOGS ORDER BY LOG_ID", rs -> {
+                    Timestamp timestamp = rs.getTimestamp(1);
+                    writer.out.writeBoolean(timestamp != null);
+                    if (timestamp != null) {
+                        writer.out.writeLong(timestamp.getTime());
+                        writer.out.writeInt(timestamp.getNanos());
+                    }
+                    writer.out.writeUTF(rs.getString(2));
+                    writer.out.writeUTF(rs.getString(3));
+                    writer.out.writeUTF(rs.getString(4));
+                });
+                long items = writer.section(statement, PLAYER_ITEMS,
+                        "SELECT PLAYER_NAME, ITEM_ID, QUANTITY FROM PLAYER_ITEMS ORDER BY PLAYER_NAME, ITEM_ID", rs -> {
+                    writer.out.writeUTF(rs.getString(1));
+                    writer.out.writeInt(rs.getInt(2));
+                    writer.out.writeInt(rs.getInt(3));
+                });
+                writer.finish();
+                return new Result(Source.DATABASE, players, gladiators, logs, items);
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of every game table with a snapshot in one
+     * transaction. The tables must exist (the DAOs create them).
+     *
+     * @param source snapshot file taken with exportDatabase
+     * @return counts of the restored rows
+     * @throws IOException  if the file is damaged, of another kind or version;
+     *                      nothing is changed
+     * @throws SQLException if a row cannot be stored; nothing is changed
+     */
+    public Result restoreDatabase(Path source) throws IOException, SQLException {
+        long[] counts = new long[4];
+        try {
+            DatabaseManager.inTransaction(connection, () -> {
+                restoreTables(source, counts);
+                return null;
+            });
+        } finally {
+            GladiatorDAO.invalidateRoster();
+            GladiatorStatsCache.get().discard(); // unsaved changes belong to the old roster
+        }
+        return new Result(Source.DATABASE, counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    /**
+     * Deletes every game table and loads the snapshot's rows, in the
+     * caller's transaction
+     *
+     * @param counts receives the rows restored per section
+     */
+    private void restoreTables(Path source, long[] counts) throws IOException, SQLException {
+        try (Reader reader = new Reader(source, Source.DATABASE); Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"PLAYER_ITEMS", "BATTLE_LOGS", "GLADIATORS", "PLAYERS"}) {
+                statement.executeUpdate("DELETE FROM " + table);
+            }
+            byte tag;
+            while ((tag = reader.in.readByte()) != END_OF_SNAPSHOT) {
+                switch (tag) {
+                    case PLAYERS -> counts[0] = load(reader, "INSERT INTO PLAYERS (NAME, SCORE) VALUES (?, ?)", insert -> {
+                        insert.setString(1, reader.in.readUTF());
+                        insert.setInt(2, reader.in.readInt());
+                    });
+                    case GLADIATORS -> counts[1] = load(reader,
+                            "INSERT INTO GLADIATORS (NAME, HEALTH, MAX_HEALTH, ATTACK, DEFENSE) VALUES (?, ?, ?, ?, ?)", insert -> {
+                        insert.setString(1, reader.in.readUTF());
+                        for (int column = 2; column <= 5; column++) {
+                            insert.setInt(column, reader.in.readInt());
+                        }
+                    });
+                    case BATTLE_LOGS -> counts[2] = load(reader,
+                            "INSERT INTO BATTLE_LOGS (TIMESTAMP, PLAYER_NAME, ENEMY_NAME, RESULT) VALUES (?, ?, ?, ?)", insert -> {
+                        Timestamp timestamp = null;
+                        if (reader.in.readBoolean()) {
+                            timestamp = new Timestamp(reader.in.readLong());
+                            timestamp.setNanos(reader.in.readInt());
+                        }
+                        insert.setTimestamp(1, timestamp);
+                        insert.setString(2, reader.in.readUTF());
+                        insert.setString(3, reader.in.readUTF());
+                        insert.setString(4, reader.in.readUTF());
+                    });
+                    case PLAYER_ITEMS -> counts[3] = load(reader,
+                            "INSERT INTO PLAYER_ITEMS (PLAYER_NAME, ITEM_ID, QUANTITY) VALUES (?, ?, ?)", insert -> {
+                        insert.setString(1, reader.in.readUTF());
+                        insert.setInt(2, reader.in.readInt());
+                        insert.setInt(3, reader.in.readInt());
+                    });
+                    default -> throw new IOException("Unknown snapshot section " + tag);
+                }
+            }
+            reader.verify();
+        }
+    }
+
+    /**
+     * Inserts one section's rows in batches
+     *
+     * @return rows inserted
+     */
+    private long load(Reader reader, String sql, RowBinder binder) throws IOException, SQLException {
+        long rows = 0;
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            int batched = 0;
+            while (reader.nextRow()) {
+                binder.bind(insert);
+                insert.addBatch();
+                rows++;
+                if (++batched == batchSize) {
+                    insert.executeBatch();
+                    batched = 0;
+                }
+            }
+            if (batched > 0) {
+                insert.executeBatch();
+            }
+        }
+        return rows;
+    }
+
+    // ========== FILES ==========
+    /**
+     * Streams the CLI's data files into a snapshot file, missing files are
+     * left out
+     *
+     * @param directory folder holding scores.txt, gladiators.txt and battles.log
+     * @param target    file to create or overwrite
+     * @return counts of the exported lines
+     * @throws IOException if a file cannot be read or written
+     */
+    public static Result exportFiles(Path directory, Path target) throws IOException {
+        long[] counts = new long[3];
+        try (Writer writer = new Writer(target, Source.FILES)) {
+            for (int i = 0; i < GAME_FILES.size(); i++) {
+                Path file = directory.resolve(GAME_FILES.get(i));
+                if (!Files.exists(file)) {
+                    continue;
+                }
+                writer.out.writeByte(FILE);
+                writer.out.writeUTF(GAME_FILES.get(i));
+                try (BufferedReader lines = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = lines.readLine()) != null) {
+                        writer.out.writeByte(ROW);
+                        writer.out.writeUTF(line);
+                        counts[i]++;
+                    }
+                }
+                writer.out.writeByte(END);
+            }
+            writer.finish();
+        }
+        return new Result(Source.FILES, counts[0], counts[1], counts[2], 0);
+    }
+
+    /**
+     * Replaces the CLI's data files with the ones in a snapshot. Files not
+     * in the snapshot are left alone.
+     *
+     * @param source    snapshot file taken with exportFiles
+     * @param directory folder to restore scores.txt, gladiators.txt and battles.log into
+     * @return counts of the restored lines
+     * @throws IOException if the snapshot is damaged, of another kind or
+     *                     version, or a file cannot be written; no file is
+     *                     replaced then
+     */
+    public static Result restoreFiles(Path source, Path directory) throws IOException {
+        long[] counts = new long[3];
+        Map<Path, Path> staged = new LinkedHashMap<>(); // temporary file -> target
+        try (Reader reader = new Reader(source, Source.FILES)) {
+            byte tag;
+            while ((tag = reader.in.readByte()) != END_OF_SNAPSHOT) {
+                String name = tag == FILE ? reader.in.readUTF() : null;
+                int index = GAME_FILES.indexOf(name);
+                if (index < 0) {
+                    throw new IOException("Unknown snapshot section " + (name != null ? name : tag));
+                }
+                Path target = directory.resolve(name);
+                Path temporary = target.resolveSibling(name + ".restore");
+                staged.put(temporary, target);
+                try (BufferedWriter lines = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    while (reader.nextRow()) {
+                        lines.write(reader.in.readUTF());
+                        lines.newLine();
+                        counts[index]++;
+                    }
+                }
+            }
+            reader.verify();
+            for (Map.Entry<Path, Path> file : staged.entrySet()) {
+                Files.move(file.getKey(), file.getValue(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            for (Path temporary : staged.keySet()) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        return new Result(Source.FILES, counts[0], counts[1], counts[2], 0);
+    }
+
+    // ========== FORMAT ==========
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+
+        void bind(PreparedStatement insert) throws IOException, SQLException;
+    }
+
+    /**
+     * Compressed, checksummed output with the header already written. The
+     * snapshot is written next to the target and only moved into place by
+     * finish(), a failed export leaves any older snapshot untouched.
+     */
+    private static final class Writer implements Closeable {
+
+        private final Path target;
+        private final Path temporary;
+        private final CheckedOutputStream checked;
+        private final DataOutputStream out;
+        private boolean finished;
+
+        Writer(Path target, Source source) throws IOException {
+            this.target = target;
+            this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            checked = new CheckedOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE), BUFFER_SIZE), new CRC32());
+            out = new DataOutputStream(checked);
+            writeHeader(out, source);
+        }
+
+        /**
+         * Streams one query into a section
+         *
+         * @return rows written
+         */
+        long section(Statement statement, byte tag, String sql, RowWriter row) throws IOException, SQLException {
+            out.writeByte(tag);
+            long rows = 0;
+            try (ResultSet rs = statement.executeQuery(sql)) {
+                while (rs.next()) {
+                    out.writeByte(ROW);
+                    row.write(rs);
+                    rows++;
+                }
+            }
+            out.writeByte(END);
+            return rows;
+        }
+
+        /**
+         * Ends the snapshot with its checksum and moves it into place
+         */
+        void finish() throws IOException {
+            out.writeByte(END_OF_SNAPSHOT);
+            out.writeLong(checked.getChecksum().getValue());
+            out.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            finished = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                out.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    /**
+     * Reads and checks the header, then hands out sections and rows
+     */
+    private static final class Reader implements Closeable {
+
+        private final CheckedInputStream checked;
+        private final DataInputStream in;
+
+        Reader(Path source, Source expected) throws IOException {
+            checked = new CheckedInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(source), BUFFER_SIZE), BUFFER_SIZE), new CRC32());
+            in = new DataInputStream(checked);
+            try {
+                readHeader(in, expected);
+            } catch (IOException exception) {
+                in.close();
+                throw exception;
+            }
+        }
+
+        /**
+         * @return true if another row follows in the current section
+         */
+        boolean nextRow() throws IOException {
+            byte marker = in.readByte();
+            if (marker != ROW && marker != END) {
+                throw new IOException("Damaged snapshot, bad row marker " + marker);
+            }
+            return marker == ROW;
+        }
+
+        /**
+         * Compares the checksum of everything read with the stored one,
+         * call after END_OF_SNAPSHOT
+         */
+        void verify() throws IOException {
+            long actual = checked.getChecksum().getValue();
+            if (in.readLong() != actual) {
+                throw new IOException("Snapshot checksum does not match, the file is damaged");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, Source source) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeByte(source.ordinal());
+        out.writeLong(System.currentTimeMillis());
+    }
+
+    private static void readHeader(DataInputStream in, Source expected) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a game state snapshot");
+        }
+        int version = in.readInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Snapshot format " + version + " is not supported (newest is " + FORMAT_VERSION + ")");
+        }
+        int source = in.readByte();
+        if (source != expected.ordinal()) {
+            throw new IOException("Snapshot holds " + (source == Source.FILES.ordinal() ? Source.FILES : Source.DATABASE)
+                    + " data, expected " + expected);
+        }
+        in.readLong(); // creation time
+    }
+
+    // ========== TOOL ==========
+    /**
+     * Exports or restores from the command line
+     *
+     * @param args export-db FILE | restore-db FILE | export-files FILE [DIR] | restore-files FILE [DIR]
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 2) {
+            System.out.println("Usage: GameStateSnapshot export-db FILE | restore-db FILE | export-files FILE [DIR] | restore-files FILE [DIR]");
+            return;
+        }
+        Path file = Paths.get(args[1]);
+        Path directory = Paths.get(args.length > 2 ? args[2] : ".");
+        long start = System.nanoTime();
+        Result result;
+        switch (args[0]) {
+            case "export-db" -> {
+                createTables();
+                result = new GameStateSnapshot().exportDatabase(file);
+            }
+            case "restore-db" -> {
+                createTables();
+                result = new GameStateSnapshot().restoreDatabase(file);
+            }
+            case "export-files" -> result = exportFiles(directory, file);
+            case "restore-files" -> result = restoreFiles(file, directory);
+            default -> {
+                System.out.println("Unknown command: " + args[0]);
+                return;
+            }
+        }
+        System.out.printf("Done in %.1f s (%d bytes): %s%n", (System.nanoTime() - start) / 1e9, Files.size(file), result);
+    }
+
+    /**
+     * The DAOs create any game table that is missing
+     */
+    private static void createTables() {
+        new PlayerDAO();
+        new GladiatorDAO();
+        new BattleLogDAO();
+        new InventoryDAO();
+    }
+}
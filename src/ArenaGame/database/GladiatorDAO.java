@@ -1,9 +1,12 @@
 package ArenaGame.database;
 
-import ArenaGame.EnemyGladiator;
 import ArenaGame.Gladiator;
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.matchmaking.PowerIndex;
+import ArenaGame.storage.RosterRepository;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * GladiatorDAO handles database changes for enemy gladiators
@@ -12,8 +15,52 @@ import java.util.*;
  * - Create and manage GLADIATORS table 
  * - Add and retrieve records 
  * - Initialize default GLADIATORS table if it is not present
+ *
+ * The roster is read once and cached as immutable templates shared by all
+ * DAO instances. Batched stat updates are applied to the cached roster and
+ * power index once committed; other writes make the next read reload it.
+ * Every write bumps a version, and a roster read before the write is never
+ * used after it. Stat changes recorded in GladiatorStatsCache show in the
+ * roster right away and reach the table when the cache flushes.
+ *
+ * Each row also has a generated, indexed POWER column (see
+ * GladiatorTemplate.power) so enemies can be picked from a power band
+ * around the player, either in SQL or from the cached PowerIndex.
+ *
+ * This is the Derby backend of RosterRepository.
  */
-public class GladiatorDAO {
+public class GladiatorDAO implements RosterRepository {
+
+    /**
+     * GladiatorTemplate.power in SQL, stored in the POWER column
+     */
+    static final String POWER_EXPRESSION = "MAX_HEALTH + 3 * ATTACK + 2 * DEFENSE";
+
+    /**
+     * A stored roster as of one version of the table
+     *
+     * @param version   rosterVersion when the read started
+     * @param roster    gladiators in table order
+     * @param positions roster position of every name
+     * @param index     power index of the roster, null until first needed
+     */
+    private record Cached(long version, List<GladiatorTemplate> roster, Map<String, Integer> positions, PowerIndex index) {
+
+        static Cached of(long version, List<GladiatorTemplate> roster) {
+            Map<String, Integer> positions = new HashMap<>(roster.size() * 2);
+            for (int i = 0; i < roster.size(); i++) {
+                positions.put(roster.get(i).name(), i);
+            }
+            return new Cached(version, roster, positions, null);
+        }
+    }
+
+    private static final Cached UNREADABLE = Cached.of(-1, List.of());
+
+    // Bumped by every write, a cached roster is only used at its own version
+    private static final AtomicLong rosterVersion = new AtomicLong();
+    // Roster shared by every instance, null until read or after a write
+    private static final AtomicReference<Cached> cache = new AtomicReference<>();
 
     private final Connection connection;
 
@@ -24,6 +71,7 @@ public class GladiatorDAO {
     public GladiatorDAO() {
         this.connection = DatabaseManager.getInstance().getConnection();
         noTable();
+        noPowerColumn();
         initializeDefaults();
     }
 
@@ -51,6 +99,26 @@ public class GladiatorDAO {
         }
     }
 
+    /**
+     * Adds the generated POWER column and its index if they are missing,
+     * for new tables and ones created before the column existed
+     */
+    private void noPowerColumn() {
+        String[] sql = {
+            "ALTER TABLE GLADIATORS ADD COLUMN POWER INT GENERATED ALWAYS AS (" + POWER_EXPRESSION + ")",
+            "CREATE INDEX GLADIATORS_POWER_IDX ON GLADIATORS (POWER)"
+        };
+        for (String statementSql : sql) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(statementSql);
+            } catch (SQLException exception) {
+                if (!"X0Y32".equals(exception.getSQLState())) { // column or index already exists
+                    System.err.println("Error adding GLADIATORS power column: " + exception.getMessage());
+                }
+            }
+        }
+    }
+
     // ========== WRITE METHODS ==========
     /**
      * Adds a gladiator to the database
@@ -64,6 +132,7 @@ public class GladiatorDAO {
             statement.setInt(4, attack);
             statement.setInt(5, defense);
             statement.executeUpdate();
+            invalidateRoster();
             System.out.println("Added gladiator: " + name);
         } catch (SQLException exception) {
             if ("23505".equals(exception.getSQLState())) {
@@ -78,19 +147,56 @@ public class GladiatorDAO {
      * Updates a gladiator's stats
      */
     public void updateGladiator(String name, int health, int attack, int defense) {
-        String sql = "UPDATE GLADIATORS SET HEALTH=?, ATTACK=?, DEFENSE=?, WHERE NAME=?";
+        String sql = "UPDATE GLADIATORS SET HEALTH=?, ATTACK=?, DEFENSE=? WHERE NAME=?";
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setInt(1, health);
             statement.setInt(2, attack);
             statement.setInt(3, defense);
             statement.setString(4, name);
             statement.executeUpdate();
+            invalidateRoster();
             System.out.println("Updated gladiators: " + name);
         } catch (SQLException exception) {
             System.err.println("Error updating gladiators: " + exception.getMessage());
         }
     }
 
+    /**
+     * Writes the stats of several gladiators in one batched transaction,
+     * either all rows are updated or none are
+     *
+     * @param gladiators new stats, matched by name
+     * @return true if the batch was committed
+     */
+    public boolean updateGladiators(Collection<GladiatorTemplate> gladiators) {
+        if (gladiators.isEmpty()) {
+            return true;
+        }
+        String sql = "UPDATE GLADIATORS SET HEALTH=?, MAX_HEALTH=?, ATTACK=?, DEFENSE=? WHERE NAME=?";
+        try {
+            synchronized (connection) { // batches reach the cache in commit order
+                DatabaseManager.inTransaction(connection, () -> {
+                    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                        for (GladiatorTemplate gladiator : gladiators) {
+                            statement.setInt(1, gladiator.health());
+                            statement.setInt(2, gladiator.maxHealth());
+                            statement.setInt(3, gladiator.attack());
+                            statement.setInt(4, gladiator.defense());
+                            statement.setString(5, gladiator.name());
+                            statement.addBatch();
+                        }
+                        return statement.executeBatch();
+                    }
+                });
+                applyCommitted(gladiators);
+            }
+            return true;
+        } catch (SQLException exception) {
+            System.err.println("Error updating gladiators: " + exception.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Deletes gladiators from table
      */
@@ -98,6 +204,8 @@ public class GladiatorDAO {
         String sql = "DELETE FROM GLADIATORS";
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.executeUpdate();
+            invalidateRoster();
+            GladiatorStatsCache.get().discard(); // unsaved changes belong to the old roster
             System.out.println("Gladiator table cleared.");
             initializeDefaults();
         } catch (SQLException exception) {
@@ -105,39 +213,213 @@ public class GladiatorDAO {
         }
     }
 
+    /**
+     * Drops the cached roster after bulk writes made outside this class
+     */
+    static void invalidateRoster() {
+        rosterVersion.incrementAndGet();
+        cache.set(null);
+    }
+
+    /**
+     * Applies committed stat updates to the cached roster and power index,
+     * so a flush does not cost a reload of the whole table. Called with the
+     * connection's monitor held, right after the commit.
+     */
+    private static void applyCommitted(Collection<GladiatorTemplate> gladiators) {
+        long version = rosterVersion.incrementAndGet(); // rosters read before the commit are stale now
+        Cached current = cache.get();
+        if (current == null || current.version() != version - 1) {
+            return; // nothing valid to update, the next read loads the table
+        }
+        List<GladiatorTemplate> roster = new ArrayList<>(current.roster());
+        List<GladiatorTemplate> changed = new ArrayList<>(gladiators.size());
+        for (GladiatorTemplate gladiator : gladiators) {
+            Integer position = current.positions().get(gladiator.name());
+            if (position != null) { // the UPDATE ignores unknown names too
+                roster.set(position, gladiator);
+                changed.add(gladiator);
+            }
+        }
+        PowerIndex index = current.index() == null ? null : current.index().withReplaced(changed);
+        cache.compareAndSet(current, new Cached(version, Collections.unmodifiableList(roster), current.positions(), index));
+    }
+
     // ========== READ METHODS ==========
     /**
-     * Returns all gladiators as EnemyGladiator objects
+     * Returns the roster, read from the database on first use, with any
+     * stat changes still waiting in GladiatorStatsCache applied
+     *
+     * @return immutable list of gladiator templates, in table order
+     */
+    public List<GladiatorTemplate> getAllGladiators() {
+        return GladiatorStatsCache.get().overlay(getStoredGladiators());
+    }
+
+    /**
+     * @return the roster as last read from the table
+     */
+    List<GladiatorTemplate> getStoredGladiators() {
+        return stored().roster();
+    }
+
+    /**
+     * @param name gladiator name
+     * @return its stats as last read from the table, or null if there is none
+     */
+    GladiatorTemplate getStoredGladiator(String name) {
+        Cached stored = stored();
+        Integer position = stored.positions().get(name);
+        return position == null ? null : stored.roster().get(position);
+    }
+
+    /**
+     * Returns the cached roster if no write happened since it was read,
+     * otherwise reads the table. A read that raced a write is returned to
+     * its caller but never cached.
+     */
+    private Cached stored() {
+        Cached cached = cache.get();
+        long version = rosterVersion.get();
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        List<GladiatorTemplate> roster = readRoster();
+        if (roster == null) {
+            return UNREADABLE; // not cached, the next read tries again
+        }
+        Cached loaded = Cached.of(version, roster);
+        if (rosterVersion.get() == version) {
+            cache.compareAndSet(cached, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * @return the roster as stored, or null if it could not be read
      */
-    public List<Gladiator> getAllGladiators() {
-        List<Gladiator> gladiators = new ArrayList<>();
-        String sql = "SELECT * FROM GLADIATORS";
+    private List<GladiatorTemplate> readRoster() {
+        List<GladiatorTemplate> gladiators = new ArrayList<>();
+        String sql = "SELECT NAME, HEALTH, MAX_HEALTH, ATTACK, DEFENSE FROM GLADIATORS ORDER BY GLADIATOR_ID";
         try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
             while (rs.next()) {
-                gladiators.add(new EnemyGladiator(
+                gladiators.add(new GladiatorTemplate(
                         rs.getString("NAME"),
                         rs.getInt("HEALTH"),
                         rs.getInt("MAX_HEALTH"),
                         rs.getInt("ATTACK"),
-                        rs.getInt("DEFENSE"),
-                        new Random()
+                        rs.getInt("DEFENSE")
                 ));
             }
         } catch (SQLException exception) {
             System.err.println("Error retrieving gladiators: " + exception.getMessage());
+            return null;
+        }
+        return List.copyOf(gladiators);
+    }
+
+    /**
+     * Returns the stored roster sorted by power, built once per roster read
+     * and shared by every instance
+     *
+     * @return power index of the stored roster
+     */
+    public PowerIndex getPowerIndex() {
+        Cached stored = stored();
+        if (stored.index() != null) {
+            return stored.index();
+        }
+        PowerIndex index = new PowerIndex(stored.roster());
+        if (stored != UNREADABLE) {
+            cache.compareAndSet(stored, new Cached(stored.version(), stored.roster(), stored.positions(), index));
         }
-        return gladiators;
+        return index;
     }
 
     /**
-     * Retrieves a random gladiator from the database
+     * Creates a fresh enemy for one battle from a random roster entry
+     *
+     * @return new enemy gladiator, or null if the roster is empty
      */
     public Gladiator getRandomGladiator() {
-        List<Gladiator> all = getAllGladiators();
-        if (all.isEmpty()) {
+        Random random = new Random();
+        return spawn(getPowerIndex().sample(Integer.MIN_VALUE, Integer.MAX_VALUE, random), random);
+    }
+
+    /**
+     * Creates a fresh enemy for one battle whose power is close to the
+     * player's, widening the band when nobody is close enough. The pick is
+     * O(log n) on the cached PowerIndex.
+     *
+     * @param player the gladiator the enemy will fight
+     * @param random random generator for the pick and the enemy's decisions
+     * @return new enemy gladiator, or null if the roster is empty
+     */
+    public Gladiator getMatchedGladiator(Gladiator player, Random random) {
+        return spawn(getPowerIndex().sampleNear(GladiatorTemplate.power(player), random), random);
+    }
+
+    /**
+     * Applies stat changes still waiting in GladiatorStatsCache, then spawns
+     */
+    private static Gladiator spawn(GladiatorTemplate stored, Random random) {
+        return stored == null ? null : GladiatorStatsCache.get().latest(stored).spawn(random);
+    }
+
+    /**
+     * Counts stored gladiators in a power band using the POWER index
+     *
+     * @param minPower lowest power
+     * @param maxPower highest power
+     * @return number of gladiators in the band, or 0 on error
+     */
+    public int countGladiatorsInBand(int minPower, int maxPower) {
+        String sql = "SELECT COUNT(*) FROM GLADIATORS WHERE POWER BETWEEN ? AND ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, minPower);
+            statement.setInt(2, maxPower);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException exception) {
+            System.err.println("Error counting gladiators: " + exception.getMessage());
+        }
+        return 0;
+    }
+
+    /**
+     * Reads one random stored gladiator from a power band without loading
+     * the roster, both queries only scan the band's part of the POWER index
+     *
+     * @param minPower lowest power
+     * @param maxPower highest power
+     * @param random   random generator for the pick
+     * @return a gladiator in the band, or null if there is none
+     */
+    public GladiatorTemplate getGladiatorInBand(int minPower, int maxPower, Random random) {
+        int count = countGladiatorsInBand(minPower, maxPower);
+        if (count == 0) {
             return null;
         }
-        return all.get(new Random().nextInt(all.size()));
+        String sql = """
+                     SELECT NAME, HEALTH, MAX_HEALTH, ATTACK, DEFENSE FROM GLADIATORS
+                     WHERE POWER BETWEEN ? AND ? ORDER BY POWER
+                     OFFSET ? ROWS FETCH FIRST 1 ROW ONLY
+                     """;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, minPower);
+            statement.setInt(2, maxPower);
+            statement.setInt(3, random.nextInt(count));
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    return new GladiatorTemplate(rs.getString("NAME"), rs.getInt("HEALTH"), rs.getInt("MAX_HEALTH"),
+                            rs.getInt("ATTACK"), rs.getInt("DEFENSE"));
+                }
+            }
+        } catch (SQLException exception) {
+            System.err.println("Error retrieving gladiator in band: " + exception.getMessage());
+        }
+        return null; // rows removed between the two queries
     }
 
     /**
@@ -146,9 +428,9 @@ public class GladiatorDAO {
     private void initializeDefaults() {
         if (getAllGladiators().isEmpty()) {
             System.out.println("No gladiators found - reverting to defaults.");
-            addGladiator("Spartacus", 100, 100, 35, 5);
-            addGladiator("Maximus", 120, 120, 45, 10);
-            addGladiator("Commodus", 90, 90, 30, 3);
+            for (GladiatorTemplate gladiator : DEFAULT_ROSTER) {
+                addGladiator(gladiator.name(), gladiator.health(), gladiator.maxHealth(), gladiator.attack(), gladiator.defense());
+            }
         }
     }
 }
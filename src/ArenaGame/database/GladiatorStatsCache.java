@@ -0,0 +1,198 @@
+package ArenaGame.database;
+
+import ArenaGame.GladiatorTemplate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * GladiatorStatsCache collects changes to roster stats in memory and writes
+ * them back to the GLADIATORS table later (write-behind), so stats can
+ * change after every battle without a database write per fight
+ *
+ * Responsibilities:
+ * - Record stat changes, keeping only the latest stats per gladiator
+ * - Flush all changed gladiators in one batched UPDATE on an interval and
+ *   when the JVM shuts down
+ * - Show recorded changes in the roster before they are flushed
+ *
+ * A change is only forgotten once the batch holding it is committed. If a
+ * flush fails the batch is rolled back and every change stays pending for
+ * the next attempt, and a change recorded while a flush runs is never
+ * overwritten by the older stats being written. The interval is read from
+ * the arena.stats.flush.ms system property (default 10000).
+ */
+public final class GladiatorStatsCache {
+
+    public static final long DEFAULT_FLUSH_MS = 10_000;
+
+    private static final GladiatorStatsCache INSTANCE = new GladiatorStatsCache();
+
+    // Latest unsaved stats per gladiator name
+    private final ConcurrentMap<String, GladiatorTemplate> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+    private boolean shutdownHookAdded;
+    private GladiatorDAO gladiatorDAO;
+
+    private GladiatorStatsCache() {
+    }
+
+    /**
+     * @return the cache shared by the whole game
+     */
+    public static GladiatorStatsCache get() {
+        return INSTANCE;
+    }
+
+    // ========== RECORDING ==========
+    /**
+     * Records new stats for a gladiator, replacing any unsaved ones
+     *
+     * @param stats new stats, matched to the roster by name
+     */
+    public void record(GladiatorTemplate stats) {
+        pending.put(stats.name(), stats);
+        startFlushing();
+    }
+
+    /**
+     * Changes a gladiator's latest stats (unsaved or stored) in one atomic
+     * step, e.g. to raise its attack after a win
+     *
+     * @param name   gladiator name
+     * @param change computes the new stats from the current ones
+     * @return the new stats, or null if no gladiator has that name
+     */
+    public GladiatorTemplate update(String name, UnaryOperator<GladiatorTemplate> change) {
+        GladiatorTemplate stored = dao().getStoredGladiator(name);
+        GladiatorTemplate updated = pending.compute(name, (key, current) -> {
+            GladiatorTemplate base = current != null ? current : stored;
+            return base == null ? null : change.apply(base);
+        });
+        if (updated != null) {
+            startFlushing();
+        }
+        return updated;
+    }
+
+    /**
+     * @return true if some changes are not written to the database yet
+     */
+    public boolean isDirty() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * @return number of gladiators with unsaved changes
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Forgets unsaved changes, used when the roster is reset
+     */
+    public void discard() {
+        pending.clear();
+    }
+
+    // ========== FLUSHING ==========
+    /**
+     * Writes all pending changes in one batch
+     *
+     * @return true if nothing was left to write or the batch was committed
+     */
+    public synchronized boolean flush() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        List<GladiatorTemplate> batch = List.copyOf(pending.values());
+        if (!dao().updateGladiators(batch)) {
+            return false; // rolled back, everything stays pending
+        }
+        for (GladiatorTemplate written : batch) {
+            pending.remove(written.name(), written); // keep changes recorded during the write
+        }
+        return true;
+    }
+
+    /**
+     * Starts flushing on the configured interval, and once more at
+     * shutdown. Called automatically when a change is recorded.
+     */
+    public synchronized void startFlushing() {
+        if (flusher != null) {
+            return;
+        }
+        long interval = Long.getLong("arena.stats.flush.ms", DEFAULT_FLUSH_MS);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "arena-stats-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "arena-stats-shutdown"));
+            shutdownHookAdded = true;
+        }
+    }
+
+    /**
+     * Stops the interval flushes and writes what is pending
+     *
+     * @return true if everything was written
+     */
+    public synchronized boolean stopFlushing() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher = null;
+        }
+        return flush();
+    }
+
+    /**
+     * Stops flushing and forgets pending changes and the DAO without
+     * writing anything, used when DatabaseManager resets the connection
+     */
+    synchronized void detach() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+        pending.clear();
+        gladiatorDAO = null;
+    }
+
+    // ========== READING ==========
+    /**
+     * Applies unsaved changes to a roster read from the table
+     *
+     * @param roster stored roster
+     * @return the roster itself if nothing is pending, otherwise an updated copy
+     */
+    List<GladiatorTemplate> overlay(List<GladiatorTemplate> roster) {
+        if (pending.isEmpty()) {
+            return roster;
+        }
+        List<GladiatorTemplate> merged = new ArrayList<>(roster.size());
+        for (GladiatorTemplate gladiator : roster) {
+            merged.add(pending.getOrDefault(gladiator.name(), gladiator));
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * @param stored a gladiator as read from the table
+     * @return its unsaved stats if there are any, otherwise stored
+     */
+    GladiatorTemplate latest(GladiatorTemplate stored) {
+        return pending.getOrDefault(stored.name(), stored);
+    }
+
+    private synchronized GladiatorDAO dao() {
+        if (gladiatorDAO == null) {
+            gladiatorDAO = new GladiatorDAO();
+        }
+        return gladiatorDAO;
+    }
+}
@@ -0,0 +1,153 @@
+package ArenaGame.database;
+
+import ArenaGame.Inventory;
+import ArenaGame.ItemRegistry;
+import ArenaGame.storage.InventoryRepository;
+import ArenaGame.storage.Loadout;
+import java.sql.*;
+
+/**
+ * InventoryDAO (direct access object) stores each player's items between
+ * battles
+ *
+ * Responsibilities:
+ * - Create PLAYER_ITEMS table in arenaDB if one does not exist
+ * - Load a player's score and items together when a battle starts
+ * - Save a player's items in one batch when a battle ends
+ *
+ * Items are stored as one row per player and ItemRegistry id. A player
+ * without any rows has never saved an inventory and starts with the
+ * starter items.
+ *
+ * This is the Derby backend of InventoryRepository.
+ */
+public class InventoryDAO implements InventoryRepository {
+
+    private final Connection connection;
+
+    /**
+     * A Constructor method that initializes database connection and checks
+     * the table exists in DB
+     */
+    public InventoryDAO() {
+        this.connection = DatabaseManager.getInstance().getConnection();
+        noTable();
+    }
+
+    /**
+     * Create PLAYER_ITEMS table if no table exists
+     */
+    private void noTable() {
+        String sql = """
+                     CREATE TABLE PLAYER_ITEMS (
+                     PLAYER_NAME VARCHAR(50) NOT NULL,
+                     ITEM_ID INT NOT NULL,
+                     QUANTITY INT NOT NULL DEFAULT 0,
+                     PRIMARY KEY (PLAYER_NAME, ITEM_ID)
+                     )
+                     """;
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+            System.out.println("PLAYER_ITEMS table created.");
+        } catch (SQLException exception) {
+            if (!"X0Y32".equals(exception.getSQLState())) { // Table already exists error
+                System.err.println("Failed to create PLAYER_ITEMS table: " + exception.getMessage());
+            }
+        }
+    }
+
+    // ========== WRITE METHODS ==========
+    /**
+     * Writes a player's item counts back in one batched transaction, one
+     * upsert per registered item. Does nothing if the inventory did not
+     * change since it was loaded or last saved.
+     *
+     * @param name      player name
+     * @param inventory the player's inventory at the end of a battle
+     */
+    @Override
+    public void saveInventory(String name, Inventory inventory) {
+        if (!inventory.isChanged()) {
+            return;
+        }
+        String sql = """
+                     MERGE INTO PLAYER_ITEMS T USING SYSIBM.SYSDUMMY1
+                     ON T.PLAYER_NAME = ? AND T.ITEM_ID = ?
+                     WHEN MATCHED THEN UPDATE SET QUANTITY = ?
+                     WHEN NOT MATCHED THEN INSERT (PLAYER_NAME, ITEM_ID, QUANTITY) VALUES (?, ?, ?)
+                     """;
+        try {
+            DatabaseManager.inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int id = 0; id < ItemRegistry.count(); id++) {
+                        statement.setString(1, name);
+                        statement.setInt(2, id);
+                        statement.setInt(3, inventory.count(id));
+                        statement.setString(4, name);
+                        statement.setInt(5, id);
+                        statement.setInt(6, inventory.count(id));
+                        statement.addBatch();
+                    }
+                    return statement.executeBatch();
+                }
+            });
+            inventory.markSaved();
+        } catch (SQLException exception) {
+            System.err.println("Error saving inventory for " + name + ": " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Removes all saved inventories, players start over with the starter items
+     */
+    @Override
+    public void clearInventories() {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM PLAYER_ITEMS");
+        } catch (SQLException exception) {
+            System.err.println("Error clearing inventories: " + exception.getMessage());
+        }
+    }
+
+    // ========== READ METHODS ==========
+    /**
+     * Reads a player's score and saved items in a single query
+     *
+     * @param name player name
+     * @return score and inventory, the inventory is unchanged until used
+     */
+    @Override
+    public Loadout loadPlayer(String name) {
+        String sql = """
+                     SELECT P.SCORE, I.ITEM_ID, I.QUANTITY
+                     FROM PLAYERS P LEFT OUTER JOIN PLAYER_ITEMS I ON I.PLAYER_NAME = P.NAME
+                     WHERE P.NAME = ?
+                     """;
+        int score = -1;
+        boolean saved = false;
+        Inventory inventory = new Inventory();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    score = rs.getInt("SCORE");
+                    int id = rs.getInt("ITEM_ID");
+                    if (rs.wasNull()) {
+                        continue; // player without saved items
+                    }
+                    saved = true;
+                    if (id < ItemRegistry.count()) { // skip items no longer in the game
+                        inventory.add(id, rs.getInt("QUANTITY"));
+                    }
+                }
+            }
+        } catch (SQLException exception) {
+            System.err.println("Error loading inventory for " + name + ": " + exception.getMessage());
+        }
+        if (!saved) {
+            return new Loadout(score, Inventory.starter());
+        }
+        inventory.markSaved();
+        return new Loadout(score, inventory);
+    }
+}
@@ -0,0 +1,338 @@
+package ArenaGame.database;
+
+import java.io.*;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test for the persistence layer as the game really uses it: every
+ * DAO shares the single connection of DatabaseManager.
+ *
+ * Simulated players each create a player, then record battles through
+ * BattleLogDAO.addBattleLog and update their score through PlayerDAO, over
+ * and over, while reader threads call getAllPlayers and getLogs. The number
+ * of players doubles every step up to the maximum, so the report shows
+ * where throughput stops growing and latency takes off. Each step prints
+ * throughput, latency percentiles and the error rate per operation.
+ *
+ * DAOs report failures on System.err and carry on, so every line a thread
+ * writes there counts as one failed operation. Normal DAO console output is
+ * discarded while a step runs, otherwise the console lock would be measured
+ * instead of the database. Rows written by the harness are deleted after
+ * each mode.
+ *
+ * Usage: PersistenceLoadHarness [modes] [maxPlayers] [readers] [secondsPerStep]
+ * e.g. PersistenceLoadHarness embedded,network 32 2 5
+ */
+public class PersistenceLoadHarness {
+
+    private static final String NAME_PREFIX = "loadtest-";
+    private static final int BATTLES_PER_PLAYER = 5;
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final int MAX_SHOWN_ERRORS = 10;
+
+    /**
+     * Timed DAO calls
+     */
+    private enum Op {
+        ADD_PLAYER("addPlayer"),
+        ADD_BATTLE_LOG("addBattleLog"),
+        UPDATE_SCORE("updateScore"),
+        GET_ALL_PLAYERS("getAllPlayers"),
+        GET_LOGS("getLogs");
+
+        private final String label;
+
+        Op(String label) {
+            this.label = label;
+        }
+    }
+
+    private final int maxPlayers;
+    private final int readers;
+    private final long stepNanos;
+    private final PrintStream report = System.out;
+    private final PrintStream realErr = System.err;
+    private final AtomicLong nextPlayer = new AtomicLong();
+
+    /**
+     * @param maxPlayers simulated players in the last step
+     * @param readers    reader threads in every step
+     * @param stepNanos  length of each step
+     */
+    public PersistenceLoadHarness(int maxPlayers, int readers, long stepNanos) {
+        this.maxPlayers = Math.max(1, maxPlayers);
+        this.readers = Math.max(0, readers);
+        this.stepNanos = stepNanos;
+    }
+
+    /**
+     * Connects in the given mode through DatabaseManager and runs every step
+     *
+     * @param mode DatabaseManager.MODE_EMBEDDED, MODE_NETWORK or MODE_MEMORY
+     */
+    public void runMode(String mode) throws InterruptedException {
+        String configured = System.getProperty("arena.db.mode");
+        System.setProperty("arena.db.mode", mode);
+        DatabaseManager.reset();
+        try {
+            Connection connection = DatabaseManager.getInstance().getConnection();
+            if (connection == null) {
+                report.println(mode + ": no connection, skipped");
+                return;
+            }
+            PlayerDAO playerDAO = new PlayerDAO();
+            BattleLogDAO battleLogDAO = new BattleLogDAO();
+            report.println("===== " + mode + ": one shared connection, " + readers + " readers, "
+                    + stepNanos / 1_000_000_000.0 + " s per step =====");
+            try {
+                runStep(playerDAO, battleLogDAO, 1, WARMUP_NANOS); // JIT and statement cache, not reported
+                Step peak = null;
+                for (int players = 1; ; players = Math.min(players * 2, maxPlayers)) {
+                    Step step = runStep(playerDAO, battleLogDAO, players, stepNanos);
+                    step.print(report);
+                    if (peak == null || step.throughput() > peak.throughput()) {
+                        peak = step;
+                    }
+                    if (players == maxPlayers) {
+                        break;
+                    }
+                }
+                report.printf("Peak throughput %.0f ops/s at %d players%n%n", peak.throughput(), peak.players());
+            } finally {
+                deleteRows(connection);
+            }
+        } finally {
+            DatabaseManager.reset();
+            if (configured == null) {
+                System.clearProperty("arena.db.mode");
+            } else {
+                System.setProperty("arena.db.mode", configured);
+            }
+        }
+    }
+
+    /**
+     * Runs writers and readers together until the step ends
+     */
+    private Step runStep(PlayerDAO playerDAO, BattleLogDAO battleLogDAO, int players, long nanos) throws InterruptedException {
+        ErrorCounter errors = new ErrorCounter(realErr);
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        System.setErr(errors);
+        ExecutorService pool = Executors.newFixedThreadPool(players + readers);
+        try {
+            long start = System.nanoTime();
+            long deadline = start + nanos;
+            List<Future<Recorder>> workers = new ArrayList<>();
+            for (int i = 0; i < players; i++) {
+                workers.add(pool.submit(() -> write(playerDAO, battleLogDAO, deadline, errors)));
+            }
+            for (int i = 0; i < readers; i++) {
+                workers.add(pool.submit(() -> read(playerDAO, battleLogDAO, deadline, errors)));
+            }
+            Recorder total = new Recorder(errors);
+            for (Future<Recorder> worker : workers) {
+                try {
+                    total.add(worker.get());
+                } catch (ExecutionException exception) {
+                    realErr.println("Load worker died: " + exception.getCause());
+                }
+            }
+            return new Step(DatabaseManager.getInstance().getMode(), players, readers,
+                    (System.nanoTime() - start) / 1e9, total);
+        } finally {
+            pool.shutdownNow();
+            System.setOut(out);
+            System.setErr(realErr);
+        }
+    }
+
+    /**
+     * One simulated player after another: create, then fight and score
+     */
+    private Recorder write(PlayerDAO playerDAO, BattleLogDAO battleLogDAO, long deadline, ErrorCounter errors) {
+        Recorder recorder = new Recorder(errors);
+        while (System.nanoTime() < deadline) {
+            String name = NAME_PREFIX + nextPlayer.incrementAndGet();
+            recorder.time(Op.ADD_PLAYER, () -> playerDAO.addPlayer(name));
+            for (int battle = 1; battle <= BATTLES_PER_PLAYER && System.nanoTime() < deadline; battle++) {
+                int score = battle;
+                recorder.time(Op.ADD_BATTLE_LOG, () -> battleLogDAO.addBattleLog(name, "Spartacus", "WIN"));
+                recorder.time(Op.UPDATE_SCORE, () -> playerDAO.updateScore(name, score));
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * Score board and battle log screens, alternating
+     */
+    private Recorder read(PlayerDAO playerDAO, BattleLogDAO battleLogDAO, long deadline, ErrorCounter errors) {
+        Recorder recorder = new Recorder(errors);
+        boolean players = true;
+        while (System.nanoTime() < deadline) {
+            if (players) {
+                recorder.time(Op.GET_ALL_PLAYERS, playerDAO::getAllPlayers);
+            } else {
+                recorder.time(Op.GET_LOGS, battleLogDAO::getLogs);
+            }
+            players = !players;
+        }
+        return recorder;
+    }
+
+    /**
+     * Removes the players and battle logs written by the harness
+     */
+    private void deleteRows(Connection connection) {
+        String[] sql = {
+            "DELETE FROM BATTLE_LOGS WHERE PLAYER_NAME LIKE ?",
+            "DELETE FROM PLAYERS WHERE NAME LIKE ?"
+        };
+        for (String statementSql : sql) {
+            try (PreparedStatement statement = connection.prepareStatement(statementSql)) {
+                statement.setString(1, NAME_PREFIX + "%");
+                statement.executeUpdate();
+            } catch (SQLException exception) {
+                realErr.println("Failed to remove load test rows: " + exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Counts System.err lines per thread, showing only the first few
+     */
+    private static final class ErrorCounter extends PrintStream {
+
+        private final ThreadLocal<long[]> lines = ThreadLocal.withInitial(() -> new long[1]);
+        private final AtomicLong shown = new AtomicLong();
+
+        ErrorCounter(PrintStream target) {
+            super(target, true);
+        }
+
+        @Override
+        public void println(String line) {
+            lines.get()[0]++;
+            if (shown.incrementAndGet() <= MAX_SHOWN_ERRORS) {
+                super.println(line);
+            }
+        }
+
+        long linesOnThisThread() {
+            return lines.get()[0];
+        }
+    }
+
+    /**
+     * Latencies and failures of one thread, later merged into a step total
+     */
+    private static final class Recorder {
+
+        private final ErrorCounter errors;
+        private final long[][] nanos = new long[Op.values().length][1024];
+        private final int[] counts = new int[Op.values().length];
+        private final long[] failures = new long[Op.values().length];
+
+        Recorder(ErrorCounter errors) {
+            this.errors = errors;
+        }
+
+        void time(Op op, Runnable call) {
+            long errorsBefore = errors.linesOnThisThread();
+            boolean failed = false;
+            long start = System.nanoTime();
+            try {
+                call.run();
+            } catch (RuntimeException exception) {
+                failed = true;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (failed || errors.linesOnThisThread() != errorsBefore) {
+                failures[op.ordinal()]++;
+            }
+            record(op.ordinal(), elapsed);
+        }
+
+        private void record(int op, long elapsed) {
+            if (counts[op] == nanos[op].length) {
+                nanos[op] = Arrays.copyOf(nanos[op], counts[op] * 2);
+            }
+            nanos[op][counts[op]++] = elapsed;
+        }
+
+        void add(Recorder other) {
+            for (int op = 0; op < counts.length; op++) {
+                for (int i = 0; i < other.counts[op]; i++) {
+                    record(op, other.nanos[op][i]);
+                }
+                failures[op] += other.failures[op];
+            }
+        }
+
+        long operations() {
+            long total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        long failures() {
+            long total = 0;
+            for (long count : failures) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Results of one step
+     */
+    private record Step(String mode, int players, int readers, double seconds, Recorder total) {
+
+        double throughput() {
+            return total.operations() / seconds;
+        }
+
+        void print(PrintStream out) {
+            long operations = total.operations();
+            out.printf("%-8s players=%-3d readers=%-2d %8.0f ops/s  errors=%d (%.2f%%)%n", mode, players, readers,
+                    throughput(), total.failures(), operations == 0 ? 0.0 : 100.0 * total.failures() / operations);
+            for (Op op : Op.values()) {
+                int count = total.counts[op.ordinal()];
+                if (count == 0) {
+                    continue;
+                }
+                long[] sorted = Arrays.copyOf(total.nanos[op.ordinal()], count);
+                Arrays.sort(sorted);
+                out.printf("  %-14s n=%-8d p50 %8.2f ms  p95 %8.2f ms  p99 %8.2f ms  max %8.2f ms  errors %d%n",
+                        op.label, count, percentile(sorted, 0.50), percentile(sorted, 0.95),
+                        percentile(sorted, 0.99), sorted[count - 1] / 1e6, total.failures[op.ordinal()]);
+            }
+        }
+
+        private static double percentile(long[] sorted, double fraction) {
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))] / 1e6;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String modes = args.length > 0 ? args[0] : DatabaseManager.MODE_EMBEDDED + "," + DatabaseManager.MODE_NETWORK;
+        int maxPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int readers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        PersistenceLoadHarness harness = new PersistenceLoadHarness(maxPlayers, readers, seconds * 1_000_000_000L);
+        try {
+            for (String mode : modes.split(",")) {
+                harness.runMode(mode.trim().toLowerCase());
+            }
+        } finally {
+            DatabaseManager.stopNetworkServer();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ArenaGame.database;
 
+import ArenaGame.storage.PlayerRepository;
+import ArenaGame.storage.PlayerRow;
 import java.sql.*;
 import java.util.*;
 
@@ -12,8 +14,15 @@ import java.util.*;
  * - Insert new players into the table 
  * - Retrieve and update player scores as needed 
  * - Fetch player records when requested
+ *
+ * This is the Derby backend of PlayerRepository.
  */
-public class PlayerDAO {
+public class PlayerDAO implements PlayerRepository {
+
+    /**
+     * Columns a player page can be sorted by
+     */
+    public static final List<String> SORT_COLUMNS = List.of("SCORE", "NAME");
 
     private final Connection connection;
 
@@ -24,6 +33,7 @@ public class PlayerDAO {
     public PlayerDAO() {
         this.connection = DatabaseManager.getInstance().getConnection();
         noTable();
+        noIndex();
     }
 
     /**
@@ -47,6 +57,19 @@ public class PlayerDAO {
         }
     }
 
+    /**
+     * Index used by the score board's paged reads
+     */
+    private void noIndex() {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE INDEX PLAYERS_SCORE_IDX ON PLAYERS (SCORE, NAME)");
+        } catch (SQLException exception) {
+            if (!"X0Y32".equals(exception.getSQLState())) {
+                System.err.println("Failed to create PLAYERS index: " + exception.getMessage());
+            }
+        }
+    }
+
     // ========== WRITE METHODS ==========
     /**
      * Inputs a player to the DB if they do not currently exist
@@ -86,6 +109,53 @@ public class PlayerDAO {
         }
     }
 
+    /**
+     * Adds one to a player's score in a single statement so concurrent
+     * sessions for the same player cannot overwrite each other
+     *
+     * @param name player name
+     * @return the new score or -1 if the player was not found
+     */
+    public int incrementScore(String name) {
+        String sql = "UPDATE PLAYERS SET SCORE = SCORE + 1 WHERE NAME = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            if (statement.executeUpdate() == 0) {
+                return -1;
+            }
+        } catch (SQLException exception) {
+            System.err.println("Error incrementing score for: " + name + ": " + exception.getMessage());
+            return -1;
+        }
+        return getScore(name);
+    }
+
+    /**
+     * Adds one to the score of every listed player (once per occurrence)
+     * in one batched transaction
+     *
+     * @param names players who won
+     */
+    public void incrementScores(List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        String sql = "UPDATE PLAYERS SET SCORE = SCORE + 1 WHERE NAME = ?";
+        try {
+            DatabaseManager.inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (String name : names) {
+                        statement.setString(1, name);
+                        statement.addBatch();
+                    }
+                    return statement.executeBatch();
+                }
+            });
+        } catch (SQLException exception) {
+            System.err.println("Error updating scores: " + exception.getMessage());
+        }
+    }
+
     /**
      * Resets scores in PLAYER to zero
      */
@@ -155,7 +225,62 @@ public class PlayerDAO {
         }
         return players;
     }
-    
-    
-    
+
+    /**
+     * Reads one page of players using keyset paging on (SCORE, NAME) or
+     * NAME, so the cost does not grow with how far the reader has
+     * scrolled. Sorting and filtering run in the database.
+     *
+     * @param after      last row of the previous page, or null for the first page
+     * @param sortColumn one of SORT_COLUMNS
+     * @param ascending  sort direction
+     * @param namePrefix only players whose name starts with this, or null/blank for all
+     * @param limit      page size
+     * @return up to limit rows
+     */
+    public List<PlayerRow> getPlayerPage(PlayerRow after, String sortColumn, boolean ascending, String namePrefix, int limit) {
+        if (!SORT_COLUMNS.contains(sortColumn)) {
+            throw new IllegalArgumentException("Cannot sort players by " + sortColumn);
+        }
+        boolean byScore = "SCORE".equals(sortColumn);
+        String direction = ascending ? "ASC" : "DESC";
+        String compare = ascending ? ">" : "<";
+        boolean filtered = namePrefix != null && !namePrefix.isBlank();
+
+        StringBuilder sql = new StringBuilder("SELECT NAME, SCORE FROM PLAYERS WHERE 1=1");
+        if (filtered) {
+            sql.append(" AND NAME LIKE ? ESCAPE '!'");
+        }
+        if (after != null) {
+            sql.append(byScore
+                    ? " AND (SCORE " + compare + " ? OR (SCORE = ? AND NAME " + compare + " ?))"
+                    : " AND NAME " + compare + " ?");
+        }
+        sql.append(byScore ? " ORDER BY SCORE " + direction + ", NAME " + direction : " ORDER BY NAME " + direction);
+        sql.append(" FETCH FIRST ? ROWS ONLY");
+
+        List<PlayerRow> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            if (filtered) {
+                statement.setString(index++, BattleLogDAO.escapeLike(namePrefix.trim()) + "%");
+            }
+            if (after != null) {
+                if (byScore) {
+                    statement.setInt(index++, after.score());
+                    statement.setInt(index++, after.score());
+                }
+                statement.setString(index++, after.name());
+            }
+            statement.setInt(index, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new PlayerRow(rs.getString("NAME"), rs.getInt("SCORE")));
+                }
+            }
+        } catch (SQLException exception) {
+            System.err.println("Error retrieving player page: " + exception.getMessage());
+        }
+        return rows;
+    }
 }
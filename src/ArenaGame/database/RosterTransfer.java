@@ -0,0 +1,309 @@
+package ArenaGame.database;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.Random;
+
+/**
+ * RosterTransfer moves large rosters between files and the GLADIATORS table
+ *
+ * Responsibilities:
+ * - Import CSV or gladiators.txt files into GLADIATORS, skipping names that
+ *   are already present
+ * - Export GLADIATORS to either format
+ * - Report progress while doing so
+ *
+ * Both directions stream one row at a time, so memory use does not depend
+ * on the roster size. Imports insert through one batched statement and
+ * commit every chunk (5000 rows by default), so a failure only rolls back
+ * the current chunk. The shared connection is only locked while a chunk
+ * runs, the game keeps reading and writing between chunks. Expect about
+ * a minute per 1M rows with the embedded driver (~57 s measured), most of
+ * it spent in the MERGE name lookups.
+ *
+ * Formats: gladiators.txt lines are "name,health,maxHealth,attack,defense";
+ * CSV files have the same columns after a NAME,HEALTH,MAX_HEALTH,ATTACK,DEFENSE
+ * header. Either is accepted on import.
+ */
+public class RosterTransfer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+    public static final String CSV_HEADER = "NAME,HEALTH,MAX_HEALTH,ATTACK,DEFENSE";
+
+    /**
+     * File layouts a roster can be written in
+     */
+    public enum Format { CSV, TEXT }
+
+    /**
+     * Receives progress after every committed chunk
+     */
+    @FunctionalInterface
+    public interface Progress {
+
+        void report(Result soFar);
+    }
+
+    /**
+     * Counts of a finished (or running) transfer
+     *
+     * @param read     data lines read, or rows read for an export
+     * @param written  rows inserted, or lines written for an export
+     * @param skipped  rows whose name was already in the table
+     * @param rejected malformed lines
+     */
+    public record Result(long read, long written, long skipped, long rejected) {
+
+        @Override
+        public String toString() {
+            return read + " read, " + written + " written, " + skipped + " duplicates skipped, " + rejected + " rejected";
+        }
+    }
+
+    /**
+     * Prints one line per progress report
+     */
+    public static final Progress PRINT_PROGRESS = soFar -> System.out.println("Roster transfer: " + soFar);
+
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final Connection connection;
+    private final int chunkSize;
+
+    /**
+     * Uses the game's connection and the default chunk size
+     */
+    public RosterTransfer() {
+        this(DatabaseManager.getInstance().getConnection(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param connection database holding the GLADIATORS table
+     * @param chunkSize  rows per transaction
+     */
+    public RosterTransfer(Connection connection, int chunkSize) {
+        this.connection = connection;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // ========== IMPORT ==========
+    /**
+     * Inserts every gladiator in the file whose name is not in the table yet
+     *
+     * @param source   CSV or gladiators.txt file
+     * @param progress called after every chunk, may be null
+     * @return counts of the import
+     * @throws IOException  if the file cannot be read
+     * @throws SQLException if a chunk fails, earlier chunks stay committed
+     */
+    public Result importRoster(Path source, Progress progress) throws IOException, SQLException {
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            return importRoster(reader, progress);
+        }
+    }
+
+    /**
+     * @see #importRoster(Path, Progress)
+     */
+    public Result importRoster(BufferedReader reader, Progress progress) throws IOException, SQLException {
+        // MERGE skips names already stored, including ones inserted earlier in this import
+        String sql = """
+                     MERGE INTO GLADIATORS G USING SYSIBM.SYSDUMMY1 ON G.NAME = ?
+                     WHEN NOT MATCHED THEN INSERT (NAME, HEALTH, MAX_HEALTH, ATTACK, DEFENSE) VALUES (?, ?, ?, ?, ?)
+                     """;
+        long read = 0;
+        long written = 0;
+        long skipped = 0;
+        long rejected = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int batched = 0;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.trim().equalsIgnoreCase(CSV_HEADER))) {
+                    continue;
+                }
+                read++;
+                if (!bind(statement, line)) {
+                    if (++rejected <= MAX_REPORTED_ERRORS) {
+                        System.err.println("Skipping malformed roster line " + lineNumber + ": " + line);
+                    }
+                    continue;
+                }
+                statement.addBatch();
+                if (++batched == chunkSize) {
+                    int inserted = commit(statement);
+                    written += inserted;
+                    skipped += batched - inserted;
+                    batched = 0;
+                    if (progress != null) {
+                        progress.report(new Result(read, written, skipped, rejected));
+                    }
+                }
+            }
+            if (batched > 0) {
+                int inserted = commit(statement);
+                written += inserted;
+                skipped += batched - inserted;
+            }
+        } finally {
+            GladiatorDAO.invalidateRoster();
+        }
+        Result result = new Result(read, written, skipped, rejected);
+        if (progress != null) {
+            progress.report(result);
+        }
+        return result;
+    }
+
+    /**
+     * Parses one line into the statement's parameters
+     *
+     * @return false if the line is malformed
+     */
+    private static boolean bind(PreparedStatement statement, String line) throws SQLException {
+        String[] data = line.split(",");
+        if (data.length != 5) {
+            return false;
+        }
+        String name = data[0].trim();
+        if (name.isEmpty() || name.length() > 50) {
+            return false;
+        }
+        int[] stats = new int[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                stats[i] = Integer.parseInt(data[i + 1].trim());
+            }
+        } catch (NumberFormatException error) {
+            return false;
+        }
+        statement.setString(1, name);
+        statement.setString(2, name);
+        for (int i = 0; i < 4; i++) {
+            statement.setInt(i + 3, stats[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Runs and commits one chunk in its own transaction, the connection is
+     * only locked for this chunk
+     *
+     * @return rows inserted, the rest were duplicates
+     */
+    private int commit(PreparedStatement statement) throws SQLException {
+        return DatabaseManager.inTransaction(connection, () -> {
+            int inserted = 0;
+            for (int count : statement.executeBatch()) {
+                if (count > 0) {
+                    inserted += count;
+                }
+            }
+            return inserted;
+        });
+    }
+
+    // ========== EXPORT ==========
+    /**
+     * Writes the whole GLADIATORS table in table order
+     *
+     * @param target   file to create or overwrite
+     * @param format   CSV (with header) or TEXT (gladiators.txt)
+     * @param progress called every chunk of rows, may be null
+     * @return counts of the export
+     * @throws IOException  if the file cannot be written
+     * @throws SQLException if the table cannot be read
+     */
+    public Result exportRoster(Path target, Format format, Progress progress) throws IOException, SQLException {
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            return exportRoster(writer, format, progress);
+        }
+    }
+
+    /**
+     * @see #exportRoster(Path, Format, Progress)
+     */
+    public Result exportRoster(BufferedWriter writer, Format format, Progress progress) throws IOException, SQLException {
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+        }
+        String sql = "SELECT NAME, HEALTH, MAX_HEALTH, ATTACK, DEFENSE FROM GLADIATORS ORDER BY GLADIATOR_ID";
+        long rows = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(chunkSize);
+            try (ResultSet rs = statement.executeQuery(sql)) {
+                while (rs.next()) {
+                    writer.write(rs.getString(1));
+                    for (int column = 2; column <= 5; column++) {
+                        writer.write(',');
+                        writer.write(Integer.toString(rs.getInt(column)));
+                    }
+                    writer.newLine();
+                    if (++rows % chunkSize == 0 && progress != null) {
+                        progress.report(new Result(rows, rows, 0, 0));
+                    }
+                }
+            }
+        }
+        writer.flush();
+        Result result = new Result(rows, rows, 0, 0);
+        if (progress != null) {
+            progress.report(result);
+        }
+        return result;
+    }
+
+    // ========== TOOL ==========
+    /**
+     * Imports, exports or generates rosters from the command line
+     *
+     * @param args import FILE | export FILE [csv|txt] | generate FILE COUNT
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 2) {
+            System.out.println("Usage: RosterTransfer import FILE | export FILE [csv|txt] | generate FILE COUNT");
+            return;
+        }
+        Path file = Paths.get(args[1]);
+        long start = System.nanoTime();
+        Result result;
+        switch (args[0]) {
+            case "import" -> {
+                new GladiatorDAO(); // ensures the table exists
+                result = new RosterTransfer().importRoster(file, PRINT_PROGRESS);
+            }
+            case "export" -> {
+                Format format = args.length > 2 && args[2].equalsIgnoreCase("txt") ? Format.TEXT : Format.CSV;
+                result = new RosterTransfer().exportRoster(file, format, PRINT_PROGRESS);
+            }
+            case "generate" -> result = generate(file, Long.parseLong(args[2]));
+            default -> {
+                System.out.println("Unknown command: " + args[0]);
+                return;
+            }
+        }
+        System.out.printf("Done in %.1f s: %s%n", (System.nanoTime() - start) / 1e9, result);
+    }
+
+    /**
+     * Writes a CSV of random gladiators with unique names, for load tests
+     */
+    static Result generate(Path target, long count) throws IOException {
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (long i = 0; i < count; i++) {
+                int health = 60 + random.nextInt(120);
+                writer.write("Gladiator" + i + "," + health + "," + health + "," + (20 + random.nextInt(40)) + "," + random.nextInt(20));
+                writer.newLine();
+            }
+        }
+        return new Result(count, count, 0, 0);
+    }
+}
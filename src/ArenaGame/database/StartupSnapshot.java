@@ -0,0 +1,137 @@
+package ArenaGame.database;
+
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.storage.PlayerRepository;
+import ArenaGame.storage.PlayerRow;
+import ArenaGame.storage.RosterRepository;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * StartupSnapshot is a small local copy of what the main menu shows (the
+ * head of the leaderboard and the roster) so the menu can appear before
+ * Derby has booted
+ *
+ * Responsibilities:
+ * - Capture the leaders and roster once the database is up
+ * - Write them to a small text file, replacing the old one in one move
+ * - Read them back in a few milliseconds on the next start
+ *
+ * The snapshot is only a hint for display. It may be out of date and is
+ * ignored if it is missing or unreadable; the database stays the source of
+ * truth. Only the first ROSTER_LIMIT gladiators are kept so the file stays
+ * small for huge rosters. File lines are tab separated: a
+ * "ARENA-SNAPSHOT 1" header, "R rosterSize", then "P name score" per leader
+ * and "G name health maxHealth attack defense" per gladiator.
+ *
+ * @param leaders    best players, highest score first
+ * @param roster     first gladiators of the roster in table order
+ * @param rosterSize number of gladiators in the whole roster
+ */
+public record StartupSnapshot(List<PlayerRow> leaders, List<GladiatorTemplate> roster, int rosterSize) {
+
+    public static final Path DEFAULT_FILE = Paths.get("startup.snapshot");
+    public static final int LEADERS = 3;
+    public static final int ROSTER_LIMIT = 100;
+
+    private static final String HEADER = "ARENA-SNAPSHOT 1";
+
+    public StartupSnapshot {
+        leaders = List.copyOf(leaders);
+        roster = List.copyOf(roster);
+    }
+
+    /**
+     * Reads the current leaders and roster from the repositories
+     *
+     * @param players    source of the leaderboard
+     * @param gladiators source of the roster
+     * @return a snapshot of both
+     */
+    public static StartupSnapshot capture(PlayerRepository players, RosterRepository gladiators) {
+        List<GladiatorTemplate> roster = gladiators.getAllGladiators();
+        return new StartupSnapshot(players.getPlayerPage(null, "SCORE", false, null, LEADERS),
+                roster.subList(0, Math.min(roster.size(), ROSTER_LIMIT)), roster.size());
+    }
+
+    /**
+     * @param file snapshot file
+     * @return the snapshot, or null if the file is missing or not a valid snapshot
+     */
+    public static StartupSnapshot read(Path file) {
+        List<PlayerRow> leaders = new ArrayList<>();
+        List<GladiatorTemplate> roster = new ArrayList<>();
+        int rosterSize = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return null;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] data = line.split("\t");
+                if (data[0].equals("R") && data.length == 2) {
+                    rosterSize = Integer.parseInt(data[1]);
+                } else if (data[0].equals("P") && data.length == 3) {
+                    leaders.add(new PlayerRow(data[1], Integer.parseInt(data[2])));
+                } else if (data[0].equals("G") && data.length == 6) {
+                    roster.add(new GladiatorTemplate(data[1], Integer.parseInt(data[2]), Integer.parseInt(data[3]),
+                            Integer.parseInt(data[4]), Integer.parseInt(data[5])));
+                } else {
+                    return null;
+                }
+            }
+        } catch (NoSuchFileException exception) {
+            return null; // first start
+        } catch (IOException | NumberFormatException exception) {
+            System.err.println("Ignoring startup snapshot " + file + ": " + exception.getMessage());
+            return null;
+        }
+        return new StartupSnapshot(leaders, roster, rosterSize);
+    }
+
+    /**
+     * Writes the snapshot next to the target and moves it into place, so a
+     * crash never leaves half a file behind
+     *
+     * @param file snapshot file
+     * @return true if the snapshot was written
+     */
+    public boolean write(Path file) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                writer.write("R\t" + rosterSize);
+                writer.newLine();
+                for (PlayerRow leader : leaders) {
+                    writer.write("P\t" + clean(leader.name()) + "\t" + leader.score());
+                    writer.newLine();
+                }
+                for (GladiatorTemplate gladiator : roster) {
+                    writer.write("G\t" + clean(gladiator.name()) + "\t" + gladiator.health() + "\t" + gladiator.maxHealth()
+                            + "\t" + gladiator.attack() + "\t" + gladiator.defense());
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException exception) {
+            System.err.println("Failed to write startup snapshot: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Keeps names on one field of one line
+     */
+    private static String clean(String name) {
+        return name.replaceAll("[\\t\\r\\n]", " ");
+    }
+}
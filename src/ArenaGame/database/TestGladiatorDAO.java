@@ -1,15 +1,16 @@
 package ArenaGame.database;
 
 import ArenaGame.Gladiator;
+import ArenaGame.GladiatorTemplate;
 
 public class TestGladiatorDAO {
     public static void main(String[] args) {
         GladiatorDAO dao = new GladiatorDAO();
 
         System.out.println("\nAll Gladiators:");
-        for (Gladiator g : dao.getAllGladiators()) {
+        for (GladiatorTemplate g : dao.getAllGladiators()) {
             System.out.printf("%s -> HP:%d/%d, ATK:%d, DEF:%d%n",
-                    g.getName(), g.getHealth(), g.getMaxHealth(), g.getAttack(), g.getDefense());
+                    g.name(), g.health(), g.maxHealth(), g.attack(), g.defense());
         }
 
         System.out.println("\nRandom Enemy:");
@@ -0,0 +1,300 @@
+package ArenaGame.matchmaking;
+
+import ArenaGame.database.PlayerDAO;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * MatchmakingQueue pairs waiting players for player-vs-player battles by
+ * their PlayerDAO score.
+ * <p>
+ * Waiting players are kept in a ConcurrentSkipListMap ordered by score (then
+ * arrival), so enqueueing, cancelling and finding the nearest-score opponent
+ * are all O(log n) and safe to call from any number of session threads.
+ * A player's search window starts narrow and widens the longer they wait.
+ * <p>
+ * Each queued ticket has a state changed only by compare-and-set. A match
+ * claims both tickets (WAITING to CLAIMED) before either is matched or
+ * released, and cancel only succeeds on a WAITING ticket, waiting out the
+ * few instructions a claim lasts. A ticket is therefore either matched or
+ * cancelled, never both, and a cancelled ticket is never put back.
+ *
+ * Responsibilities:
+ * - Queue and cancel players
+ * - Pair each player with the nearest score inside the search window
+ * - Track queue depth and wait-time metrics
+ *
+ * Nothing uses the queue yet: the servers and the menus still only run
+ * player-vs-gladiator battles. It is a library piece for now, exercised by
+ * its tests, and wiring player-vs-player battles into ArenaSession is
+ * left for later.
+ */
+public class MatchmakingQueue {
+
+    /**
+     * A player waiting for an opponent.
+     */
+    public record Ticket(String playerName, int score, long key, long arrival, long enqueuedAt) { }
+
+    /**
+     * Two players paired for a battle.
+     */
+    public record Match(Ticket first, Ticket second, long matchedAt) { }
+
+    /**
+     * Point-in-time matchmaking metrics.
+     */
+    public record Stats(int queueDepth, long matchesMade, long averageWaitMillis, long maxWaitMillis,
+            long oldestWaitingMillis) { }
+
+    private static final int WAITING = 0;
+    private static final int CLAIMED = 1;
+    private static final int MATCHED = 2;
+    private static final int CANCELLED = 3;
+
+    /**
+     * A queued ticket and its state
+     */
+    private static final class Slot {
+
+        final Ticket ticket;
+        final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Slot(Ticket ticket) {
+            this.ticket = ticket;
+        }
+    }
+
+    private final ConcurrentSkipListMap<Long, Slot> waiting = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, Ticket> byArrival = new ConcurrentSkipListMap<>();
+    private final ToIntFunction<String> scoreLookup;
+    private final LongSupplier clock;
+    private final int baseWindow;
+    private final double widenPerSecond;
+    private final int maxWindow;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder matchesMade = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final LongAccumulator maxWaitMillis = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Create a queue that reads scores from the PLAYERS table, starting with a
+     * window of 2 points that widens by 1 point per second up to 50.
+     *
+     * @param playerDAO source of player scores
+     */
+    public MatchmakingQueue(PlayerDAO playerDAO) {
+        this(name -> Math.max(0, playerDAO.getScore(name)), System::currentTimeMillis, 2, 1.0, 50);
+    }
+
+    /**
+     * Create a queue with explicit tuning.
+     *
+     * @param scoreLookup    returns the score of a player
+     * @param clock          current time in milliseconds
+     * @param baseWindow     score difference accepted immediately
+     * @param widenPerSecond extra score difference accepted per second waited
+     * @param maxWindow      largest score difference ever accepted
+     */
+    public MatchmakingQueue(ToIntFunction<String> scoreLookup, LongSupplier clock,
+            int baseWindow, double widenPerSecond, int maxWindow) {
+        this.scoreLookup = scoreLookup;
+        this.clock = clock;
+        this.baseWindow = baseWindow;
+        this.widenPerSecond = widenPerSecond;
+        this.maxWindow = maxWindow;
+    }
+
+    // ========== QUEUE METHODS ==========
+    /**
+     * Adds a player using their stored score.
+     *
+     * @param playerName player to queue
+     * @return the player's ticket
+     */
+    public Ticket enqueue(String playerName) {
+        return enqueue(playerName, scoreLookup.applyAsInt(playerName));
+    }
+
+    /**
+     * Adds a player with a known score.
+     *
+     * @param playerName player to queue
+     * @param score      score to match on (negative scores count as 0)
+     * @return the player's ticket
+     */
+    public Ticket enqueue(String playerName, int score) {
+        int clamped = Math.max(0, score);
+        long arrival = sequence.getAndIncrement();
+        long key = ((long) clamped << 32) | (arrival & 0xFFFFFFFFL);
+        Ticket ticket = new Ticket(playerName, clamped, key, arrival, clock.getAsLong());
+        byArrival.put(arrival, ticket);
+        waiting.put(key, new Slot(ticket));
+        depth.incrementAndGet();
+        return ticket;
+    }
+
+    /**
+     * Removes a player who stopped waiting.
+     *
+     * @param ticket ticket returned by enqueue
+     * @return true if the player was still waiting
+     */
+    public boolean cancel(Ticket ticket) {
+        Slot slot = slotOf(ticket);
+        if (slot == null) {
+            return false;
+        }
+        while (true) {
+            int state = slot.state.get();
+            if (state == WAITING) {
+                if (slot.state.compareAndSet(WAITING, CANCELLED)) {
+                    waiting.remove(ticket.key(), slot);
+                    removed(ticket);
+                    return true;
+                }
+            } else if (state == CLAIMED) {
+                Thread.onSpinWait(); // a match is deciding, it ends in MATCHED or WAITING
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Tries to pair one waiting player with the nearest score that either
+     * player's current window accepts.
+     *
+     * @param ticket ticket returned by enqueue
+     * @return the match, or empty if the player is not waiting or no one is close enough
+     */
+    public Optional<Match> findMatch(Ticket ticket) {
+        Slot slot = slotOf(ticket);
+        while (slot != null && slot.state.get() == WAITING) {
+            long now = clock.getAsLong();
+            Slot opponent = nearest(ticket, now);
+            if (opponent == null) {
+                return Optional.empty();
+            }
+            if (!slot.state.compareAndSet(WAITING, CLAIMED)) {
+                return Optional.empty(); // matched or cancelled by another thread
+            }
+            if (opponent.state.compareAndSet(WAITING, CLAIMED)) {
+                slot.state.set(MATCHED);
+                opponent.state.set(MATCHED);
+                waiting.remove(ticket.key(), slot);
+                waiting.remove(opponent.ticket.key(), opponent);
+                removed(ticket);
+                removed(opponent.ticket);
+                recordWait(ticket, now);
+                recordWait(opponent.ticket, now);
+                matchesMade.increment();
+                return Optional.of(new Match(ticket, opponent.ticket, now));
+            }
+            slot.state.set(WAITING); // opponent was taken, only this thread holds the claim
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Sweeps the queue once, pairing everyone who can be matched with the
+     * windows as they are now. Call this periodically so windows widen.
+     *
+     * @return matches made in this sweep
+     */
+    public List<Match> matchAll() {
+        List<Match> matches = new ArrayList<>();
+        for (Slot slot : waiting.values()) {
+            findMatch(slot.ticket).ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    /**
+     * Sweeps the queue on a fixed interval and hands each match to a listener.
+     *
+     * @param scheduler      executor to run the sweep on
+     * @param intervalMillis time between sweeps
+     * @param listener       receives each match
+     * @return handle used to stop the sweeps
+     */
+    public ScheduledFuture<?> start(ScheduledExecutorService scheduler, long intervalMillis, Consumer<Match> listener) {
+        return scheduler.scheduleWithFixedDelay(() -> matchAll().forEach(listener),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ========== METRICS ==========
+    /**
+     * @return number of players waiting, without walking the queue
+     */
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * @return current metrics
+     */
+    public Stats getStats() {
+        long made = matchesMade.sum();
+        long matched = made * 2;
+        Map.Entry<Long, Ticket> oldest = byArrival.firstEntry();
+        long oldestWaiting = oldest == null ? 0 : clock.getAsLong() - oldest.getValue().enqueuedAt();
+        return new Stats(depth.get(), made, matched == 0 ? 0 : totalWaitMillis.sum() / matched,
+                maxWaitMillis.get(), oldestWaiting);
+    }
+
+    // ========== HELPER METHODS ==========
+    /**
+     * Finds the closest score on either side of the ticket in key order.
+     */
+    private Slot nearest(Ticket ticket, long now) {
+        Map.Entry<Long, Slot> below = waiting.lowerEntry(ticket.key());
+        Map.Entry<Long, Slot> above = waiting.higherEntry(ticket.key());
+        Slot best = null;
+        int bestGap = Integer.MAX_VALUE;
+        for (Map.Entry<Long, Slot> entry : Arrays.asList(below, above)) {
+            if (entry == null) {
+                continue;
+            }
+            Ticket candidate = entry.getValue().ticket;
+            int gap = Math.abs(candidate.score() - ticket.score());
+            int allowed = Math.max(window(ticket, now), window(candidate, now));
+            if (gap <= allowed && gap < bestGap) {
+                best = entry.getValue();
+                bestGap = gap;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return score difference this ticket accepts after waiting until now
+     */
+    private int window(Ticket ticket, long now) {
+        double waitedSeconds = Math.max(0, now - ticket.enqueuedAt()) / 1000.0;
+        return (int) Math.min(maxWindow, baseWindow + waitedSeconds * widenPerSecond);
+    }
+
+    /**
+     * @return the queued slot of this ticket, or null if it has left the queue
+     */
+    private Slot slotOf(Ticket ticket) {
+        Slot slot = waiting.get(ticket.key());
+        return slot != null && slot.ticket == ticket ? slot : null;
+    }
+
+    private void removed(Ticket ticket) {
+        byArrival.remove(ticket.arrival());
+        depth.decrementAndGet();
+    }
+
+    private void recordWait(Ticket ticket, long now) {
+        long waited = Math.max(0, now - ticket.enqueuedAt());
+        totalWaitMillis.add(waited);
+        maxWaitMillis.accumulate(waited);
+    }
+}
@@ -0,0 +1,165 @@
+package ArenaGame.matchmaking;
+
+import ArenaGame.GladiatorTemplate;
+import java.util.*;
+
+/**
+ * PowerIndex is an immutable, in-memory index of a roster sorted by power
+ * (see GladiatorTemplate.power) used to pick fair enemies.
+ * <p>
+ * Powers are kept in a sorted int array next to the templates, so finding
+ * the gladiators inside a power band is two binary searches and picking
+ * one of them uniformly at random is O(log n) with no allocation, however
+ * large the roster is. Build a new index when the roster changes, or use
+ * withReplaced when only some gladiators' stats changed.
+ */
+public final class PowerIndex {
+
+    /**
+     * Default half-width of the band around the player's power, in percent
+     */
+    public static final int DEFAULT_BAND_PERCENT = 15;
+
+    private static final Comparator<GladiatorTemplate> BY_POWER = Comparator.comparingInt(GladiatorTemplate::power);
+
+    private final int[] powers;
+    private final GladiatorTemplate[] templates;
+
+    /**
+     * @param roster gladiators to index, in any order
+     */
+    public PowerIndex(Collection<GladiatorTemplate> roster) {
+        this(sorted(roster.toArray(new GladiatorTemplate[0])));
+    }
+
+    /**
+     * @param templates gladiators already sorted by power, not copied
+     */
+    private PowerIndex(GladiatorTemplate[] templates) {
+        this.templates = templates;
+        powers = new int[templates.length];
+        for (int i = 0; i < templates.length; i++) {
+            powers[i] = templates[i].power();
+        }
+    }
+
+    private static GladiatorTemplate[] sorted(GladiatorTemplate[] templates) {
+        Arrays.sort(templates, BY_POWER);
+        return templates;
+    }
+
+    /**
+     * Returns an index in which some gladiators have new stats, matched by
+     * name. The unchanged gladiators are already in order, so this is one
+     * O(n) merge with the sorted changes instead of sorting the roster again.
+     *
+     * @param updated new stats of gladiators in this index
+     * @return a new index, this one is not changed
+     */
+    public PowerIndex withReplaced(Collection<GladiatorTemplate> updated) {
+        Map<String, GladiatorTemplate> byName = new HashMap<>();
+        for (GladiatorTemplate gladiator : updated) {
+            byName.put(gladiator.name(), gladiator);
+        }
+        GladiatorTemplate[] changed = sorted(byName.values().toArray(new GladiatorTemplate[0]));
+        GladiatorTemplate[] merged = new GladiatorTemplate[templates.length + changed.length];
+        int size = 0;
+        int next = 0;
+        for (GladiatorTemplate gladiator : templates) {
+            if (byName.containsKey(gladiator.name())) {
+                continue; // its new stats are merged from changed
+            }
+            while (next < changed.length && changed[next].power() < gladiator.power()) {
+                merged[size++] = changed[next++];
+            }
+            merged[size++] = gladiator;
+        }
+        while (next < changed.length) {
+            merged[size++] = changed[next++];
+        }
+        return new PowerIndex(Arrays.copyOf(merged, size));
+    }
+
+    /**
+     * @return number of indexed gladiators
+     */
+    public int size() {
+        return templates.length;
+    }
+
+    public boolean isEmpty() {
+        return templates.length == 0;
+    }
+
+    /**
+     * @return number of gladiators with minPower &lt;= power &lt;= maxPower
+     */
+    public int countInBand(int minPower, int maxPower) {
+        return Math.max(0, firstAbove(maxPower) - firstAtLeast(minPower));
+    }
+
+    /**
+     * Picks a gladiator uniformly from a power band.
+     *
+     * @param minPower lowest power allowed
+     * @param maxPower highest power allowed
+     * @param random   random generator for the pick
+     * @return a gladiator in the band, or null if the band is empty
+     */
+    public GladiatorTemplate sample(int minPower, int maxPower, Random random) {
+        int from = firstAtLeast(minPower);
+        int to = firstAbove(maxPower);
+        if (from >= to) {
+            return null;
+        }
+        return templates[from + random.nextInt(to - from)];
+    }
+
+    /**
+     * Picks a fair enemy for a gladiator of the given power: first within
+     * DEFAULT_BAND_PERCENT of it, widening the band until someone fits.
+     *
+     * @param power  the player's power
+     * @param random random generator for the pick
+     * @return an enemy template, or null if the index is empty
+     */
+    public GladiatorTemplate sampleNear(int power, Random random) {
+        if (isEmpty()) {
+            return null;
+        }
+        long width = Math.max(1, (long) Math.abs(power) * DEFAULT_BAND_PERCENT / 100);
+        while (true) {
+            int min = (int) Math.max(Integer.MIN_VALUE, power - width);
+            int max = (int) Math.min(Integer.MAX_VALUE, power + width);
+            GladiatorTemplate pick = sample(min, max, random);
+            if (pick != null) {
+                return pick;
+            }
+            width *= 2; // nobody close enough, accept a less even fight
+        }
+    }
+
+    /**
+     * @return index of the first power &gt;= value
+     */
+    private int firstAtLeast(int value) {
+        int low = 0;
+        int high = powers.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (powers[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index of the first power &gt; value
+     */
+    private int firstAbove(int value) {
+        return value == Integer.MAX_VALUE ? powers.length : firstAtLeast(value + 1);
+    }
+}
@@ -0,0 +1,132 @@
+package ArenaGame.server;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * ArenaLoadGenerator connects many simulated players to a running server
+ * to prove it can hold thousands of simultaneous battles.
+ * Each bot runs on its own virtual thread, enters battles and attacks
+ * every turn until the battle ends.
+ *
+ * Usage: ArenaLoadGenerator [host] [port] [players] [battlesPerPlayer]
+ */
+public class ArenaLoadGenerator {
+
+    private final String host;
+    private final int port;
+    private final int players;
+    private final int battlesPerPlayer;
+
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger peakConnected = new AtomicInteger();
+    private final AtomicLong battles = new AtomicLong();
+    private final AtomicLong turns = new AtomicLong();
+    private final AtomicLong wins = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public ArenaLoadGenerator(String host, int port, int players, int battlesPerPlayer) {
+        this.host = host;
+        this.port = port;
+        this.players = players;
+        this.battlesPerPlayer = battlesPerPlayer;
+    }
+
+    /**
+     * Runs every bot to completion and prints a summary.
+     */
+    public void run() throws InterruptedException {
+        long start = System.nanoTime();
+        CountDownLatch allConnected = new CountDownLatch(players);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < players; i++) {
+                String name = "bot_" + i;
+                executor.submit(() -> playBot(name, allConnected));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("===== ARENA LOAD RESULTS =====");
+        System.out.printf("Players: %d (peak connected %d, failed %d)%n", players, peakConnected.get(), failures.get());
+        System.out.printf("Battles: %d (%d won) in %.2fs -> %.1f battles/s%n",
+                battles.get(), wins.get(), seconds, battles.get() / seconds);
+        System.out.printf("Turns:   %d -> %.1f turns/s%n", turns.get(), turns.get() / seconds);
+    }
+
+    /**
+     * One simulated player. Waits until every bot is connected so the
+     * battles genuinely overlap.
+     */
+    private void playBot(String name, CountDownLatch allConnected) {
+        boolean counted = false;
+        try (Socket socket = new Socket(host, port);
+                Reader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            peakConnected.accumulateAndGet(connected.incrementAndGet(), Math::max);
+            allConnected.countDown();
+            counted = true;
+            allConnected.await();
+
+            readReply(reader);
+            send(writer, name);
+            readReply(reader);
+
+            for (int i = 0; i < battlesPerPlayer; i++) {
+                send(writer, "1"); // enter battle
+                String reply = readReply(reader);
+                while (!reply.contains("You stand victorious") && !reply.contains("You lose the battle")) {
+                    send(writer, "1"); // attack
+                    turns.incrementAndGet();
+                    reply = readReply(reader);
+                }
+                if (reply.contains("You stand victorious")) {
+                    wins.incrementAndGet();
+                }
+                battles.incrementAndGet();
+            }
+            send(writer, "4");
+        } catch (IOException exception) {
+            failures.incrementAndGet();
+            if (!counted) {
+                allConnected.countDown();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connected.decrementAndGet();
+        }
+    }
+
+    private void send(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Reads until the server's prompt, which ends every reply.
+     */
+    private String readReply(Reader reader) throws IOException {
+        StringBuilder reply = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+            reply.append((char) c);
+            int length = reply.length();
+            if (length >= 2 && reply.charAt(length - 2) == '>' && reply.charAt(length - 1) == ' ') {
+                return reply.toString();
+            }
+        }
+        throw new EOFException("Server closed the connection");
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : ArenaServer.DEFAULT_PORT;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int battlesPerPlayer = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        new ArenaLoadGenerator(host, port, players, battlesPerPlayer).run();
+    }
+}
@@ -0,0 +1,140 @@
+package ArenaGame.server;
+
+import ArenaGame.database.*;
+import ArenaGame.matchmaking.PowerIndex;
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ArenaServer is the headless, multi-player mode of the ARENA game.
+ * Players connect over a plain TCP text protocol on localhost (e.g. with
+ * telnet or the ArenaLoadGenerator) and each connection is served by its
+ * own virtual thread running an ArenaSession.
+ *
+ * Responsibilities:
+ * - Accept connections and hand each one to a virtual thread
+ * - Share one set of DAOs and one enemy roster between all sessions
+ * - Report how many sessions are connected
+ */
+public class ArenaServer {
+
+    public static final int DEFAULT_PORT = 7777;
+
+    private final int port;
+    private final PlayerDAO playerDAO;
+    private final BattleLogDAO battleLogDAO;
+    private final InventoryDAO inventoryDAO;
+    private final PowerIndex roster;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Create a server on the given port, loading the roster once.
+     *
+     * @param port TCP port to listen on (localhost only)
+     */
+    public ArenaServer(int port) {
+        this.port = port;
+        this.playerDAO = new PlayerDAO();
+        this.battleLogDAO = new BattleLogDAO();
+        this.inventoryDAO = new InventoryDAO();
+        this.roster = new PowerIndex(new GladiatorDAO().getAllGladiators());
+    }
+
+    /**
+     * Accepts players until stop() is called.
+     */
+    public void start() throws IOException {
+        try (ServerSocket socket = new ServerSocket(port, 4096, InetAddress.getLoopbackAddress());
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            serverSocket = socket;
+            System.out.println("ARENA server listening on " + socket.getLocalSocketAddress());
+            while (!socket.isClosed()) {
+                try {
+                    Socket client = socket.accept();
+                    executor.submit(() -> serve(client));
+                } catch (SocketException exception) {
+                    if (!socket.isClosed()) {
+                        System.err.println("Failed to accept player: " + exception.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting players. Connected sessions finish on their own.
+     */
+    public void stop() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException exception) {
+            System.err.println("Failed to stop server: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * @return number of players currently connected
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Runs one player's session on the calling (virtual) thread.
+     */
+    private void serve(Socket client) {
+        activeSessions.incrementAndGet();
+        ArenaSession session = new ArenaSession(playerDAO, battleLogDAO, inventoryDAO, roster);
+        try (client;
+                BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+                Writer writer = new BufferedWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            writer.write(session.start());
+            writer.flush();
+            String line;
+            while (session.isOpen() && (line = reader.readLine()) != null) {
+                writer.write(reply(session, line));
+                writer.flush();
+            }
+        } catch (IOException exception) {
+            // player disconnected, nothing to clean up beyond the session
+        } finally {
+            Runnable save = session.close();
+            if (save != null) {
+                save.run();
+            }
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Handles one line, running the session's database calls on this
+     * player's own thread
+     */
+    private static String reply(ArenaSession session, String line) {
+        StringBuilder reply = new StringBuilder(session.handle(line));
+        while (session.isAwaitingDatabase()) {
+            session.pendingCall().run();
+            reply.append(session.resume());
+        }
+        return reply.toString();
+    }
+
+    /**
+     * Starts the server.
+     *
+     * @param args optional port number
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ArenaServer server = new ArenaServer(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+    }
+}
@@ -0,0 +1,426 @@
+package ArenaGame.server;
+
+import ArenaGame.CombatRules;
+import ArenaGame.EnemyGladiator;
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.Inventory;
+import ArenaGame.PlayerGladiator;
+import ArenaGame.database.*;
+import ArenaGame.matchmaking.PowerIndex;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * ArenaSession holds the state of one connected player on the server.
+ * It replaces the static GameMenu.running flag and the blocking Scanner
+ * reads with a line-driven state machine: every line the player sends is
+ * passed to handle() and the returned text is written back.
+ *
+ * Responsibilities:
+ * - Ask for and validate the player's name
+ * - Show the menu, scores and recent battle logs
+ * - Run a battle one player action at a time using the CLI combat rules
+ * - Record results through the shared DAOs, saving the player's items once per battle
+ *
+ * The session never calls the database itself. A step that needs it
+ * (naming, scores, logs, starting or finishing a battle) leaves the session
+ * awaiting a DatabaseCall: the server runs the call wherever it likes (the
+ * player's own thread, or a database pool for the NIO reactors) and then
+ * calls resume() for the rest of the reply. Input is not read meanwhile.
+ */
+public class ArenaSession {
+
+    /**
+     * Marks the end of every reply that expects input.
+     */
+    public static final String PROMPT = "> ";
+
+    private enum State { NAME, MENU, BATTLE, ITEM, AWAITING, CLOSED }
+
+    /**
+     * Database work the session is waiting for. run() may be called on any
+     * thread; the session continues in resume() on its own thread, which
+     * must see run() complete first (e.g. through a concurrent queue).
+     *
+     * @param <T> what the work reads
+     */
+    public final class DatabaseCall<T> implements Runnable {
+
+        private final Supplier<T> work;
+        private final State fallback;
+        private final BiConsumer<T, StringBuilder> then;
+        private T result;
+        private RuntimeException failure;
+
+        private DatabaseCall(Supplier<T> work, State fallback, BiConsumer<T, StringBuilder> then) {
+            this.work = work;
+            this.fallback = fallback;
+            this.then = then;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result = work.get();
+            } catch (RuntimeException exception) {
+                failure = exception;
+            }
+        }
+
+        /**
+         * Records that the work could not run, e.g. its executor refused it
+         */
+        public void fail(RuntimeException exception) {
+            failure = exception;
+        }
+
+        private void finish(StringBuilder out) {
+            if (failure != null) {
+                System.err.println("Database call failed for " + playerName + ": " + failure);
+                state = fallback;
+                out.append("The ARENA's records are unavailable, try again.\n");
+                if (fallback == State.MENU) {
+                    appendMenu(out);
+                }
+                return;
+            }
+            then.accept(result, out);
+        }
+    }
+
+    private final PlayerDAO playerDAO;
+    private final BattleLogDAO battleLogDAO;
+    private final InventoryDAO inventoryDAO;
+    private final PowerIndex roster;
+    private final Random random = new Random();
+
+    private State state = State.NAME;
+    private DatabaseCall<?> call;
+    private String playerName;
+    private PlayerGladiator player;
+    private EnemyGladiator enemy;
+
+    /**
+     * Create a session sharing the server's DAOs and roster.
+     *
+     * @param playerDAO    shared player DAO
+     * @param battleLogDAO shared battle log DAO
+     * @param inventoryDAO shared inventory DAO
+     * @param roster       enemy gladiators by power, spawned fresh for every battle
+     */
+    public ArenaSession(PlayerDAO playerDAO, BattleLogDAO battleLogDAO, InventoryDAO inventoryDAO, PowerIndex roster) {
+        this.playerDAO = playerDAO;
+        this.battleLogDAO = battleLogDAO;
+        this.inventoryDAO = inventoryDAO;
+        this.roster = roster;
+    }
+
+    /**
+     * @return the greeting sent when a player connects
+     */
+    public String start() {
+        return "Welcome to the ARENA, warrior!\nWho dares enter the ARENA?\n" + PROMPT;
+    }
+
+    /**
+     * @return false once the player has left
+     */
+    public boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /**
+     * @return true while the reply waits for pendingCall()
+     */
+    public boolean isAwaitingDatabase() {
+        return state == State.AWAITING;
+    }
+
+    /**
+     * @return the database work to run before resume(), or null
+     */
+    public DatabaseCall<?> pendingCall() {
+        return call;
+    }
+
+    /**
+     * Processes one line of input from the player. Input sent while the
+     * session awaits the database is ignored.
+     *
+     * @param line text entered by the player
+     * @return text to send back to the player, the start of it if the
+     *         session now awaits the database
+     */
+    public String handle(String line) {
+        String input = line == null ? "" : line.trim();
+        StringBuilder out = new StringBuilder();
+        switch (state) {
+            case NAME -> handleName(input, out);
+            case MENU -> handleMenu(input, out);
+            case BATTLE -> handleBattle(input, out);
+            case ITEM -> handleItem(input, out);
+            case AWAITING, CLOSED -> { }
+        }
+        return prompt(out);
+    }
+
+    /**
+     * Continues the reply once pendingCall() has run.
+     *
+     * @return the rest of the reply, the session may await another call
+     */
+    public String resume() {
+        DatabaseCall<?> finished = call;
+        call = null;
+        StringBuilder out = new StringBuilder();
+        finished.finish(out);
+        return prompt(out);
+    }
+
+    /**
+     * Ends the session, forfeiting any battle in progress.
+     *
+     * @return saving the items of the battle in progress, to run like a
+     *         DatabaseCall, or null
+     */
+    public Runnable close() {
+        Runnable save = null;
+        if (player != null) {
+            String name = playerName;
+            Inventory inventory = player.getInventory();
+            save = () -> inventoryDAO.saveInventory(name, inventory);
+        }
+        state = State.CLOSED;
+        call = null;
+        player = null;
+        enemy = null;
+        return save;
+    }
+
+    private String prompt(StringBuilder out) {
+        if (state != State.CLOSED && state != State.AWAITING) {
+            out.append(PROMPT);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Leaves the session awaiting work on the database
+     *
+     * @param work     runs off the session's thread, must not touch the session
+     * @param fallback state to return to if the work fails
+     * @param then     continues the reply with the work's result
+     */
+    private <T> void await(Supplier<T> work, State fallback, BiConsumer<T, StringBuilder> then) {
+        call = new DatabaseCall<>(work, fallback, then);
+        state = State.AWAITING;
+    }
+
+    // ========== MENU ==========
+
+    private void handleName(String input, StringBuilder out) {
+        if (input.isEmpty()) {
+            out.append("Name cannot be empty.\n");
+        } else if (input.length() > 20) {
+            out.append("Name too long. Max 20 characters.\n");
+        } else if (!input.matches("[a-zA-Z0-9_]+")) {
+            out.append("Only letters, numbers, and underscores allowed.\n");
+        } else {
+            playerName = input;
+            await(() -> {
+                if (!playerDAO.playerExists(input)) {
+                    playerDAO.addPlayer(input);
+                }
+                return null;
+            }, State.NAME, (none, reply) -> {
+                state = State.MENU;
+                appendMenu(reply);
+            });
+        }
+    }
+
+    private void handleMenu(String input, StringBuilder out) {
+        switch (input) {
+            case "1" -> startBattle(out);
+            case "2" -> await(playerDAO::getAllPlayers, State.MENU, (scores, reply) -> {
+                reply.append("===== Player Scores =====\n");
+                scores.entrySet().stream().limit(10)
+                        .forEach(entry -> reply.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n'));
+                state = State.MENU;
+                appendMenu(reply);
+            });
+            case "3" -> await(() -> battleLogDAO.getRecentLogs(10), State.MENU, (logs, reply) -> {
+                reply.append("===== Battle Log =====\n");
+                logs.forEach(log -> reply.append(log).append('\n'));
+                state = State.MENU;
+                appendMenu(reply);
+            });
+            case "4" -> {
+                out.append("Thank you for playing!\n");
+                close();
+            }
+            default -> out.append("Enter a valid number between 1 and 4.\n");
+        }
+    }
+
+    private void appendMenu(StringBuilder out) {
+        out.append("\n===== ARENA MENU =====\n")
+                .append("1. Enter Battle\n")
+                .append("2. View Scores\n")
+                .append("3. View Battle Logs\n")
+                .append("4. Exit\n");
+    }
+
+    // ========== BATTLE ==========
+
+    private void startBattle(StringBuilder out) {
+        if (roster.isEmpty()) {
+            out.append("No enemies await...\n");
+            appendMenu(out);
+            return;
+        }
+        PlayerGladiator fighter = new PlayerGladiator(playerName, 100, 100, 50, 5);
+        EnemyGladiator opponent = roster.sampleNear(GladiatorTemplate.power(fighter), random).spawn(random); // an even fight
+        String name = playerName;
+        await(() -> inventoryDAO.loadPlayer(name).inventory(), State.MENU, (inventory, reply) -> {
+            fighter.setInventory(inventory); // items are kept in memory until the battle ends
+            player = fighter;
+            enemy = opponent;
+            state = State.BATTLE;
+            reply.append(enemy.getName()).append(" stands to face you in the ARENA!\n");
+            appendTurnPrompt(reply);
+        });
+    }
+
+    private void handleBattle(String input, StringBuilder out) {
+        player.setBlocking(false);
+        switch (input) {
+            case "1" -> {
+                int dealt = enemy.applyDamage(player.getAttack());
+                out.append("You attack. ").append(enemy.getName()).append(" has taken ").append(dealt)
+                        .append(" damage.\n");
+            }
+            case "2" -> {
+                player.setBlocking(true);
+                out.append("You guard.\n");
+            }
+            case "3" -> {
+                Inventory inventory = player.getInventory();
+                if (inventory.isEmpty()) {
+                    out.append("You have no items to use!\n");
+                    appendTurnPrompt(out);
+                    return;
+                }
+                int kinds = inventory.kinds();
+                for (int i = 0; i < kinds; i++) {
+                    out.append(i + 1).append(". ").append(inventory.describe(inventory.idAt(i))).append('\n');
+                }
+                out.append("Select an item (1-").append(kinds).append("):\n");
+                state = State.ITEM;
+                return;
+            }
+            case "4" -> {
+                out.append("You taunt.\n");
+                CombatRules.Taunt taunt = CombatRules.console().taunt(enemy, random);
+                if (taunt != null) {
+                    out.append(enemy.getName()).append(" loses -").append(taunt.attackLoss()).append(" ATK and -")
+                            .append(taunt.defenseLoss()).append(" DEF permanently!\n");
+                }
+            }
+            case "5" -> {
+                out.append("You flee the ARENA.\n");
+                finishBattle(false, out);
+                return;
+            }
+            default -> {
+                out.append("Invalid choice. Please enter a number between 1-5.\n");
+                appendTurnPrompt(out);
+                return;
+            }
+        }
+        enemyTurn(out);
+    }
+
+    private void handleItem(String input, StringBuilder out) {
+        int index;
+        try {
+            index = Integer.parseInt(input) - 1;
+        } catch (NumberFormatException exception) {
+            index = -1;
+        }
+        Inventory inventory = player.getInventory();
+        if (index < 0 || index >= inventory.kinds()) {
+            out.append("Select an item (1-").append(inventory.kinds()).append("):\n");
+            return;
+        }
+        out.append(player.applyItem(inventory.useItem(index))).append('\n');
+        state = State.BATTLE;
+        enemyTurn(out);
+    }
+
+    /**
+     * Resolves the enemy's reply to the player's action and checks for a winner.
+     */
+    private void enemyTurn(StringBuilder out) {
+        if (!enemy.isAlive()) {
+            finishBattle(true, out);
+            return;
+        }
+        enemy.setBlocking(false);
+        switch (enemy.chooseAction(player)) {
+            case EnemyGladiator.ATTACK -> {
+                int dealt = player.applyDamage(enemy.getAttack());
+                out.append(enemy.getName()).append(" attacks. You have taken ").append(dealt).append(" damage.\n");
+            }
+            case EnemyGladiator.GUARD -> {
+                enemy.setBlocking(true);
+                out.append(enemy.getName()).append(" prepares to guard your attack.\n");
+            }
+            default -> {
+                out.append(enemy.getName()).append(" taunts you.\n");
+                CombatRules.Taunt taunt = CombatRules.console().taunt(player, random);
+                if (taunt != null) {
+                    out.append("You lose -").append(taunt.attackLoss()).append(" ATK and -")
+                            .append(taunt.defenseLoss()).append(" DEF permanently!\n");
+                }
+            }
+        }
+        if (!player.isAlive()) {
+            finishBattle(false, out);
+            return;
+        }
+        appendTurnPrompt(out);
+    }
+
+    private void finishBattle(boolean playerWon, StringBuilder out) {
+        String name = playerName;
+        String enemyName = enemy.getName();
+        Inventory inventory = player.getInventory();
+        player = null; // the battle is over, close() has nothing left to save
+        enemy = null;
+        await(() -> {
+            int score = playerWon ? playerDAO.incrementScore(name) : -1;
+            battleLogDAO.addBattleLog(name, enemyName, playerWon ? "WIN" : "LOSS");
+            inventoryDAO.saveInventory(name, inventory);
+            return score;
+        }, State.MENU, (score, reply) -> {
+            if (playerWon) {
+                reply.append("\nYou stand victorious. Your score is: ").append(score).append('\n');
+            } else {
+                reply.append("\nYou lose the battle\n");
+            }
+            state = State.MENU;
+            appendMenu(reply);
+        });
+    }
+
+    private void appendTurnPrompt(StringBuilder out) {
+        out.append("======= ARENA STATUS =======\n")
+                .append(String.format("%-10s HP: %-4d/%-4d%n", player.getName(), player.getHealth(), player.getMaxHealth()))
+                .append(String.format("%-10s HP: %-4d %s%n", enemy.getName(), Math.max(enemy.getHealth(), 0),
+                        enemy.isBlocking() ? "(Guarding)" : ""))
+                .append("============================\n")
+                .append("Your turn. Select an action:\n")
+                .append("1. Attack. 2. Guard. 3. Use item. 4. Taunt. 5. Exit\n");
+    }
+}
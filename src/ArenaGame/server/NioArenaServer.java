@@ -0,0 +1,452 @@
+package ArenaGame.server;
+
+import ArenaGame.database.*;
+import ArenaGame.matchmaking.PowerIndex;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NioArenaServer is a selector-driven alternative to ArenaServer.
+ * A small fixed set of reactor threads multiplexes every terminal session
+ * (e.g. telnet): no thread ever waits on a single player, so idle or slow
+ * players cost only their buffers and their ArenaSession state machine.
+ *
+ * Responsibilities:
+ * - Accept connections without blocking and spread them over the reactors
+ * - Split incoming bytes into lines and feed them to the player's ArenaSession
+ * - Queue replies and write them as the socket accepts them
+ *
+ * A failing session only closes its own connection, and a player whose
+ * unread replies pass MAX_QUEUED_BYTES (sending but never reading) is
+ * disconnected instead of growing the queue without limit.
+ *
+ * Reactors never call the database: a session awaiting one of its
+ * DatabaseCalls is handed to a small bounded pool, stops reading until the
+ * call is done, and is resumed on its own reactor once the result is posted
+ * back. When the pool is full the call fails and the player is told to try
+ * again rather than stalling every other player on that reactor.
+ */
+public class NioArenaServer {
+
+    public static final int DEFAULT_PORT = 7778;
+
+    private static final int MAX_LINE_LENGTH = 1024;
+    static final int MAX_QUEUED_BYTES = 256 * 1024;
+    private static final int DATABASE_THREADS = 2;
+    private static final int MAX_QUEUED_CALLS = 1024;
+
+    private final int port;
+    private final Reactor[] reactors;
+    private final PlayerDAO playerDAO;
+    private final BattleLogDAO battleLogDAO;
+    private final InventoryDAO inventoryDAO;
+    private final PowerIndex roster;
+    private final ExecutorService database;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private ServerSocketChannel serverChannel;
+    private volatile boolean running;
+
+    /**
+     * Create a server with a fixed number of reactor threads.
+     *
+     * @param port     TCP port to listen on (localhost only)
+     * @param reactors number of selector threads
+     */
+    public NioArenaServer(int port, int reactors) throws IOException {
+        this.port = port;
+        this.playerDAO = new PlayerDAO();
+        this.battleLogDAO = new BattleLogDAO();
+        this.inventoryDAO = new InventoryDAO();
+        this.roster = new PowerIndex(new GladiatorDAO().getAllGladiators());
+        this.database = createDatabasePool();
+        this.reactors = new Reactor[Math.max(1, reactors)];
+        for (int i = 0; i < this.reactors.length; i++) {
+            this.reactors[i] = new Reactor(i);
+        }
+    }
+
+    /**
+     * A few daemon threads for the sessions' database calls, with a bounded
+     * queue so a slow database rejects work instead of piling it up.
+     */
+    private static ExecutorService createDatabasePool() {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(DATABASE_THREADS, DATABASE_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_CALLS), task -> {
+                    Thread thread = new Thread(task, "arena-db-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Binds the port and starts the reactor threads. The first reactor
+     * also accepts new connections.
+     */
+    public void start() throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        serverChannel.configureBlocking(false);
+        running = true;
+        reactors[0].acceptFrom(serverChannel);
+        for (Reactor reactor : reactors) {
+            reactor.thread.start();
+        }
+        System.out.println("ARENA NIO server listening on " + serverChannel.getLocalAddress()
+                + " with " + reactors.length + " reactor threads");
+    }
+
+    /**
+     * Stops all reactors, closes every connection and lets the pending
+     * inventory saves finish.
+     */
+    public void stop() {
+        running = false;
+        for (Reactor reactor : reactors) {
+            reactor.selector.wakeup();
+        }
+        for (Reactor reactor : reactors) {
+            try {
+                reactor.thread.join(2000);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            serverChannel.close();
+        } catch (IOException exception) {
+            System.err.println("Failed to stop server: " + exception.getMessage());
+        }
+        database.shutdown();
+        try {
+            database.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of players currently connected
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * One selector and the thread that services it.
+     */
+    private class Reactor implements Runnable {
+
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> completed = new ConcurrentLinkedQueue<>();
+        private int nextReactor;
+
+        Reactor(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "arena-reactor-" + index);
+        }
+
+        void acceptFrom(ServerSocketChannel channel) throws ClosedChannelException {
+            channel.register(selector, SelectionKey.OP_ACCEPT);
+        }
+
+        /**
+         * Hands a new connection to this reactor from another thread.
+         */
+        void assign(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        /**
+         * Runs the task on this reactor's thread, e.g. when a database call
+         * made for one of its connections is done.
+         */
+        void post(Runnable task) {
+            completed.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    registerPending();
+                    runCompleted();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            try {
+                                if (key.isReadable()) {
+                                    connection.read();
+                                }
+                                if (key.isValid() && key.isWritable()) {
+                                    connection.write();
+                                }
+                            } catch (IOException exception) {
+                                connection.close();
+                            } catch (RuntimeException exception) {
+                                System.err.println("Session error, closing connection: " + exception);
+                                connection.close(); // keep the reactor and its other players running
+                            }
+                        }
+                    }
+                } catch (IOException exception) {
+                    System.err.println("Reactor error: " + exception.getMessage());
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException exception) {
+                System.err.println("Failed to close selector: " + exception.getMessage());
+            }
+        }
+
+        private void accept() throws IOException {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                reactors[nextReactor].assign(channel);
+                nextReactor = (nextReactor + 1) % reactors.length;
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    Connection connection = new Connection(this, channel, key);
+                    key.attach(connection);
+                    connection.send(connection.session.start());
+                } catch (IOException | RuntimeException exception) {
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                        // already closing
+                    }
+                }
+            }
+        }
+
+        private void runCompleted() {
+            Runnable task;
+            while ((task = completed.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException exception) {
+                    System.err.println("Session error after database call: " + exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Per-player buffers and state machine, only touched by its reactor thread.
+     */
+    private class Connection {
+
+        private final Reactor reactor;
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ArenaSession session;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(512);
+        private final CharBuffer chars = CharBuffer.allocate(512);
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder line = new StringBuilder();
+        private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        private int queuedBytes;
+        private boolean closed;
+
+        Connection(Reactor reactor, SocketChannel channel, SelectionKey key) {
+            this.reactor = reactor;
+            this.channel = channel;
+            this.key = key;
+            this.session = new ArenaSession(playerDAO, battleLogDAO, inventoryDAO, roster);
+            activeSessions.incrementAndGet();
+        }
+
+        void read() throws IOException {
+            int count = channel.read(readBuffer);
+            if (count < 0) {
+                close();
+                return;
+            }
+            processLines();
+        }
+
+        /**
+         * Feeds the received lines to the session until it runs out of input
+         * or has to wait for the database; the rest stays buffered.
+         */
+        private void processLines() throws IOException {
+            while (!closed && !session.isAwaitingDatabase()) {
+                readBuffer.flip();
+                decoder.decode(readBuffer, chars, false);
+                readBuffer.compact();
+                if (chars.position() == 0) {
+                    break;
+                }
+                chars.flip();
+                while (chars.hasRemaining() && session.isOpen() && !session.isAwaitingDatabase()) {
+                    char c = chars.get();
+                    if (c == '\n') {
+                        send(session.handle(line.toString()));
+                        line.setLength(0);
+                    } else if (line.length() < MAX_LINE_LENGTH) {
+                        line.append(c);
+                    }
+                }
+                chars.compact();
+                if (!session.isOpen()) {
+                    break;
+                }
+            }
+            if (!closed && session.isAwaitingDatabase()) {
+                dispatch();
+            }
+        }
+
+        /**
+         * Runs the session's database call on the pool and resumes the
+         * session on this reactor once it is done.
+         */
+        private void dispatch() throws IOException {
+            ArenaSession.DatabaseCall<?> call = session.pendingCall();
+            updateInterest();
+            try {
+                database.execute(() -> {
+                    call.run();
+                    reactor.post(this::resumeSession);
+                });
+            } catch (RejectedExecutionException exception) {
+                call.fail(exception);
+                send(session.resume());
+                processLines();
+                if (!closed) {
+                    updateInterest();
+                }
+            }
+        }
+
+        private void resumeSession() {
+            if (closed) {
+                return;
+            }
+            try {
+                send(session.resume());
+                processLines();
+                if (!closed) {
+                    updateInterest();
+                }
+            } catch (IOException exception) {
+                close();
+            }
+        }
+
+        /**
+         * Reads only while the session is not awaiting the database and
+         * writes only while replies are queued.
+         */
+        private void updateInterest() {
+            int ops = session.isAwaitingDatabase() ? 0 : SelectionKey.OP_READ;
+            if (!output.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(ops);
+        }
+
+        void send(String text) throws IOException {
+            if (closed) {
+                return;
+            }
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(text);
+            if (queuedBytes + bytes.remaining() > MAX_QUEUED_BYTES) {
+                System.err.println("Player is not reading replies, closing connection");
+                close();
+                return;
+            }
+            output.add(bytes);
+            queuedBytes += bytes.remaining();
+            write();
+        }
+
+        void write() throws IOException {
+            while (!output.isEmpty()) {
+                ByteBuffer buffer = output.peek();
+                queuedBytes -= channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    updateInterest();
+                    return;
+                }
+                output.poll();
+            }
+            if (!session.isOpen()) {
+                close();
+                return;
+            }
+            updateInterest();
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            activeSessions.decrementAndGet();
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException exception) {
+                // player already gone
+            }
+            Runnable save = session.close();
+            if (save != null) {
+                try {
+                    database.execute(save);
+                } catch (RejectedExecutionException exception) {
+                    System.err.println("Failed to save inventory on disconnect: " + exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the server.
+     *
+     * @param args optional port number and reactor thread count
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        NioArenaServer server = new NioArenaServer(port, threads);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+    }
+}
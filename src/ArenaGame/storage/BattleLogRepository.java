@@ -0,0 +1,59 @@
+package ArenaGame.storage;
+
+import ArenaGame.database.BattleLogDAO;
+import java.util.*;
+
+/**
+ * BattleLogRepository stores battle log rows (who did what to whom),
+ * whatever the backend. BattleLogDAO is the Derby implementation,
+ * FileBattleLogRepository keeps battles.log and MemoryBattleLogRepository
+ * keeps everything in this JVM. Implementations must be safe to share
+ * between threads.
+ */
+public interface BattleLogRepository {
+
+    /**
+     * @param playerName gladiator who acted
+     * @param enemyName  their opponent
+     * @param result     what happened, e.g. ATTACK, WIN or LOSS
+     */
+    void addBattleLog(String playerName, String enemyName, String result);
+
+    /**
+     * Adds several rows in one write
+     *
+     * @param entries rows in the order they happened
+     */
+    void addBattleLogs(List<LogEntry> entries);
+
+    void clearLogs();
+
+    /**
+     * @return every entry formatted as "[time] player vs enemy → result", newest first
+     */
+    List<String> getLogs();
+
+    /**
+     * @param limit maximum number of entries to return
+     * @return the newest entries formatted like getLogs, newest first
+     */
+    List<String> getRecentLogs(int limit);
+
+    /**
+     * Reads one page of battle logs after the last row of the previous page
+     *
+     * @param after        last row of the previous page, or null for the first page
+     * @param sortColumn   one of BattleLogDAO.SORT_COLUMNS
+     * @param ascending    sort direction
+     * @param playerPrefix only rows whose player name starts with this, or null/blank for all
+     * @param limit        page size
+     * @return up to limit rows
+     */
+    List<LogRow> getLogPage(LogRow after, String sortColumn, boolean ascending,
+            String playerPrefix, int limit);
+
+    /**
+     * @return number of stored entries
+     */
+    int numLogs();
+}
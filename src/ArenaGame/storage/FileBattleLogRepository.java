@@ -0,0 +1,148 @@
+package ArenaGame.storage;
+
+import ArenaGame.ConsoleRenderer;
+import ArenaGame.FileManager;
+import ArenaGame.database.BattleLogDAO;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Battle logs kept in battles.log, one "[time] player vs enemy → result"
+ * line per row, the same text BattleLogDAO.getLogs shows. Rows are
+ * numbered by their position in the file. Lines in any other format, such
+ * as those written by older versions, are shown as they are by getLogs and
+ * getRecentLogs and counted by numLogs, but have no fields to page by.
+ * Calls are synchronized so appends from different threads do not mix.
+ */
+public class FileBattleLogRepository implements BattleLogRepository {
+
+    private static final String VERSUS = " vs ";
+    private static final String ARROW = " → ";
+
+    private final Path path;
+
+    public FileBattleLogRepository() {
+        this(Paths.get(FileManager.BATTLE_LOG));
+    }
+
+    /**
+     * @param path log file to use instead of battles.log
+     */
+    FileBattleLogRepository(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public void addBattleLog(String playerName, String enemyName, String result) {
+        addBattleLogs(List.of(new LogEntry(playerName, enemyName, result)));
+    }
+
+    @Override
+    public synchronized void addBattleLogs(List<LogEntry> entries) {
+        String time = LocalDateTime.now().withNano(0).toString();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (LogEntry entry : entries) {
+                writer.write("[" + time + "] " + entry.playerName() + VERSUS + entry.enemyName() + ARROW + entry.result());
+                writer.newLine();
+            }
+        } catch (IOException error) {
+            ConsoleRenderer.get().println("Error writing battles.log: " + error.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void clearLogs() {
+        try {
+            Files.write(path, new byte[0]); // creates or truncates
+        } catch (IOException error) {
+            ConsoleRenderer.get().println("Could not clear battles.log: " + error.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> getLogs() {
+        return getRecentLogs(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<String> getRecentLogs(int limit) {
+        List<String> lines = readLines();
+        List<String> logs = new ArrayList<>();
+        for (int i = lines.size() - 1; i >= 0 && logs.size() < limit; i--) {
+            LogRow row = parse(0, lines.get(i));
+            logs.add(row == null ? lines.get(i) : Pages.format(row)); // older lines as written
+        }
+        return logs;
+    }
+
+    @Override
+    public List<LogRow> getLogPage(LogRow after, String sortColumn, boolean ascending,
+            String playerPrefix, int limit) {
+        return Pages.logPage(readRows().stream(), after, sortColumn, ascending, playerPrefix, limit);
+    }
+
+    @Override
+    public int numLogs() {
+        return readLines().size();
+    }
+
+    /**
+     * @return every row in this format, in file order
+     */
+    private List<LogRow> readRows() {
+        List<LogRow> rows = new ArrayList<>();
+        for (String line : readLines()) {
+            LogRow row = parse(rows.size() + 1, line);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * @return every non-blank line in file order
+     */
+    private synchronized List<String> readLines() {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return lines;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException error) {
+            ConsoleRenderer.get().println("Error reading battles.log: " + error.getMessage());
+        }
+        return lines;
+    }
+
+    /**
+     * @return the row, or null if the line is not in this format
+     */
+    private static LogRow parse(int logId, String line) {
+        int timeEnd = line.indexOf("] ");
+        int versus = line.indexOf(VERSUS, timeEnd + 1);
+        int arrow = line.lastIndexOf(ARROW);
+        if (!line.startsWith("[") || timeEnd < 0 || versus < 0 || arrow < versus) {
+            return null;
+        }
+        try {
+            return new LogRow(logId, Timestamp.valueOf(LocalDateTime.parse(line.substring(1, timeEnd))),
+                    line.substring(timeEnd + 2, versus), line.substring(versus + VERSUS.length(), arrow),
+                    line.substring(arrow + ARROW.length()));
+        } catch (DateTimeParseException skipped) {
+            return null; // older line, e.g. "[Mon Oct 19 ...] text"
+        }
+    }
+}
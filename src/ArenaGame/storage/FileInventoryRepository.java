@@ -0,0 +1,116 @@
+package ArenaGame.storage;
+
+import ArenaGame.ConsoleRenderer;
+import ArenaGame.Inventory;
+import ArenaGame.ItemRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Inventories kept in inventories.txt, one "name:count,count,..." line per
+ * player with a count per ItemRegistry id, in the style of scores.txt.
+ * Every call reads the file and every save rewrites it, so calls are
+ * synchronized to keep concurrent read-modify-write cycles apart. Scores
+ * come from the players of the same backend.
+ */
+public class FileInventoryRepository implements InventoryRepository {
+
+    public static final String INVENTORY_FILE = "inventories.txt";
+
+    private final Path path;
+    private final PlayerRepository players;
+
+    /**
+     * @param players where loadPlayer reads scores
+     */
+    public FileInventoryRepository(PlayerRepository players) {
+        this(Paths.get(INVENTORY_FILE), players);
+    }
+
+    /**
+     * @param path file to use instead of inventories.txt
+     */
+    FileInventoryRepository(Path path, PlayerRepository players) {
+        this.path = path;
+        this.players = players;
+    }
+
+    @Override
+    public Loadout loadPlayer(String name) {
+        String counts = readInventories().get(name);
+        if (counts == null) {
+            return new Loadout(players.getScore(name), Inventory.starter());
+        }
+        Inventory inventory = new Inventory();
+        String[] parts = counts.split(",");
+        try {
+            for (int id = 0; id < Math.min(parts.length, ItemRegistry.count()); id++) { // skip items no longer in the game
+                inventory.add(id, Integer.parseInt(parts[id].trim()));
+            }
+        } catch (NumberFormatException error) {
+            ConsoleRenderer.get().println("Damaged inventory for " + name + ", starting over");
+            return new Loadout(players.getScore(name), Inventory.starter());
+        }
+        inventory.markSaved();
+        return new Loadout(players.getScore(name), inventory);
+    }
+
+    @Override
+    public synchronized void saveInventory(String name, Inventory inventory) {
+        if (!inventory.isChanged()) {
+            return;
+        }
+        StringJoiner counts = new StringJoiner(",");
+        for (int id = 0; id < ItemRegistry.count(); id++) {
+            counts.add(Integer.toString(inventory.count(id)));
+        }
+        Map<String, String> inventories = readInventories();
+        inventories.put(name, counts.toString());
+        if (writeInventories(inventories)) {
+            inventory.markSaved();
+        }
+    }
+
+    @Override
+    public synchronized void clearInventories() {
+        writeInventories(Map.of());
+    }
+
+    /**
+     * @return each player's counts as written, in file order
+     */
+    private synchronized Map<String, String> readInventories() {
+        Map<String, String> inventories = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return inventories;
+        }
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                int colon = line.lastIndexOf(':');
+                if (colon > 0) {
+                    inventories.put(line.substring(0, colon).trim(), line.substring(colon + 1));
+                }
+            }
+        } catch (IOException error) {
+            ConsoleRenderer.get().println("Error reading " + path + ": " + error.getMessage());
+        }
+        return inventories;
+    }
+
+    /**
+     * @return true if the file was written
+     */
+    private boolean writeInventories(Map<String, String> inventories) {
+        List<String> lines = new ArrayList<>(inventories.size());
+        inventories.forEach((name, counts) -> lines.add(name + ":" + counts));
+        try {
+            Files.write(path, lines, StandardCharsets.UTF_8);
+            return true;
+        } catch (IOException error) {
+            ConsoleRenderer.get().println("Error writing " + path + ": " + error.getMessage());
+            return false;
+        }
+    }
+}
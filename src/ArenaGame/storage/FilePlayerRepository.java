@@ -0,0 +1,69 @@
+package ArenaGame.storage;
+
+import ArenaGame.FileManager;
+import java.util.*;
+
+/**
+ * Players kept in scores.txt through FileManager, the v1 format. Every
+ * call reads the file and every write rewrites it, so calls are
+ * synchronized to keep concurrent read-modify-write cycles apart.
+ */
+public class FilePlayerRepository implements PlayerRepository {
+
+    @Override
+    public synchronized void addPlayer(String name) {
+        Map<String, Integer> scores = FileManager.readScores();
+        if (scores.putIfAbsent(name, 0) == null) {
+            FileManager.writeScores(scores);
+        }
+    }
+
+    @Override
+    public synchronized void updateScore(String name, int newScore) {
+        Map<String, Integer> scores = FileManager.readScores();
+        if (scores.replace(name, newScore) != null) {
+            FileManager.writeScores(scores);
+        }
+    }
+
+    @Override
+    public synchronized int incrementScore(String name) {
+        Map<String, Integer> scores = FileManager.readScores();
+        Integer score = scores.computeIfPresent(name, (player, old) -> old + 1);
+        if (score == null) {
+            return -1;
+        }
+        FileManager.writeScores(scores);
+        return score;
+    }
+
+    @Override
+    public synchronized void resetScores() {
+        Map<String, Integer> scores = FileManager.readScores();
+        scores.replaceAll((player, old) -> 0);
+        FileManager.writeScores(scores);
+    }
+
+    @Override
+    public synchronized int getScore(String name) {
+        return FileManager.readScores().getOrDefault(name, -1);
+    }
+
+    @Override
+    public synchronized boolean playerExists(String name) {
+        return FileManager.readScores().containsKey(name);
+    }
+
+    @Override
+    public synchronized Map<String, Integer> getAllPlayers() {
+        return Pages.byScore(FileManager.readScores());
+    }
+
+    @Override
+    public synchronized List<PlayerRow> getPlayerPage(PlayerRow after, String sortColumn,
+            boolean ascending, String namePrefix, int limit) {
+        return Pages.playerPage(FileManager.readScores().entrySet().stream()
+                .map(entry -> new PlayerRow(entry.getKey(), entry.getValue())),
+                after, sortColumn, ascending, namePrefix, limit);
+    }
+}
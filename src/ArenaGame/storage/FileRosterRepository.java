@@ -0,0 +1,54 @@
+package ArenaGame.storage;
+
+import ArenaGame.FileManager;
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.matchmaking.PowerIndex;
+import java.util.*;
+
+/**
+ * Roster kept in gladiators.txt through FileManager, the v1 format. The
+ * file is read once and the roster and its PowerIndex are cached until
+ * this repository writes the file again.
+ */
+public class FileRosterRepository implements RosterRepository {
+
+    private List<GladiatorTemplate> roster;
+    private PowerIndex index;
+
+    @Override
+    public synchronized List<GladiatorTemplate> getAllGladiators() {
+        if (roster == null) {
+            cache(FileManager.readGladiators());
+        }
+        return roster;
+    }
+
+    @Override
+    public synchronized PowerIndex getPowerIndex() {
+        getAllGladiators();
+        return index;
+    }
+
+    @Override
+    public synchronized boolean updateGladiators(Collection<GladiatorTemplate> gladiators) {
+        Map<String, GladiatorTemplate> changes = new HashMap<>();
+        gladiators.forEach(gladiator -> changes.put(gladiator.name(), gladiator));
+        List<GladiatorTemplate> updated = new ArrayList<>();
+        for (GladiatorTemplate gladiator : getAllGladiators()) {
+            updated.add(changes.getOrDefault(gladiator.name(), gladiator));
+        }
+        FileManager.writeGladiators(updated);
+        cache(updated);
+        return true;
+    }
+
+    @Override
+    public synchronized void resetGladiators() {
+        cache(FileManager.resetGladiators());
+    }
+
+    private void cache(List<GladiatorTemplate> gladiators) {
+        roster = List.copyOf(gladiators);
+        index = new PowerIndex(roster);
+    }
+}
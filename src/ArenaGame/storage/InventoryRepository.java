@@ -0,0 +1,36 @@
+package ArenaGame.storage;
+
+import ArenaGame.Inventory;
+
+/**
+ * InventoryRepository keeps each player's items between battles, whatever
+ * the backend. InventoryDAO is the Derby implementation,
+ * FileInventoryRepository keeps inventories.txt and
+ * MemoryInventoryRepository keeps everything in this JVM. A player who
+ * never saved an inventory starts with Inventory.starter(). Implementations
+ * must be safe to share between threads.
+ */
+public interface InventoryRepository {
+
+    /**
+     * Reads a player's score and saved items when a battle starts
+     *
+     * @param name player name
+     * @return score and inventory, the inventory is unchanged until used
+     */
+    Loadout loadPlayer(String name);
+
+    /**
+     * Writes a player's items back when a battle ends. Does nothing if the
+     * inventory did not change since it was loaded or last saved.
+     *
+     * @param name      player name
+     * @param inventory the player's inventory
+     */
+    void saveInventory(String name, Inventory inventory);
+
+    /**
+     * Removes all saved inventories, players start over with the starter items
+     */
+    void clearInventories();
+}
@@ -0,0 +1,11 @@
+package ArenaGame.storage;
+
+import ArenaGame.Inventory;
+
+/**
+ * A player's score and inventory, read together at battle start
+ *
+ * @param score     player score, or -1 if the player is not known
+ * @param inventory saved items, or the starter items if none were saved
+ */
+public record Loadout(int score, Inventory inventory) { }
@@ -0,0 +1,10 @@
+package ArenaGame.storage;
+
+/**
+ * One battle log entry before it is stored, used for batched writes
+ *
+ * @param playerName acting gladiator
+ * @param enemyName  their opponent
+ * @param result     what happened
+ */
+public record LogEntry(String playerName, String enemyName, String result) { }
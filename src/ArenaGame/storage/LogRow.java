@@ -0,0 +1,14 @@
+package ArenaGame.storage;
+
+import java.sql.Timestamp;
+
+/**
+ * One stored battle log row, used for paged reads
+ *
+ * @param logId      position in the log, oldest first
+ * @param timestamp  when the row was stored
+ * @param playerName acting gladiator
+ * @param enemyName  their opponent
+ * @param result     what happened
+ */
+public record LogRow(int logId, Timestamp timestamp, String playerName, String enemyName, String result) { }
@@ -0,0 +1,66 @@
+package ArenaGame.storage;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Battle logs kept in this JVM only, for tests and simulations.
+ * <p>
+ * Rows are keyed by an id from an AtomicInteger in a
+ * ConcurrentSkipListMap, the same time order as the LOG_ID column, so
+ * appends from many battles never block each other or the readers, and
+ * the newest rows are read from the end of the map without sorting.
+ */
+public class MemoryBattleLogRepository implements BattleLogRepository {
+
+    private final ConcurrentSkipListMap<Integer, LogRow> rows = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    @Override
+    public void addBattleLog(String playerName, String enemyName, String result) {
+        int id = nextId.incrementAndGet();
+        rows.put(id, new LogRow(id, new Timestamp(System.currentTimeMillis()), playerName, enemyName, result));
+    }
+
+    @Override
+    public void addBattleLogs(List<LogEntry> entries) {
+        for (LogEntry entry : entries) {
+            addBattleLog(entry.playerName(), entry.enemyName(), entry.result());
+        }
+    }
+
+    @Override
+    public void clearLogs() {
+        rows.clear();
+    }
+
+    @Override
+    public List<String> getLogs() {
+        return getRecentLogs(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<String> getRecentLogs(int limit) {
+        List<String> logs = new ArrayList<>();
+        for (LogRow row : rows.descendingMap().values()) {
+            if (logs.size() >= limit) {
+                break;
+            }
+            logs.add(Pages.format(row));
+        }
+        return logs;
+    }
+
+    @Override
+    public List<LogRow> getLogPage(LogRow after, String sortColumn, boolean ascending,
+            String playerPrefix, int limit) {
+        return Pages.logPage(rows.values().stream(), after, sortColumn, ascending, playerPrefix, limit);
+    }
+
+    @Override
+    public int numLogs() {
+        return rows.size();
+    }
+}
@@ -0,0 +1,55 @@
+package ArenaGame.storage;
+
+import ArenaGame.Inventory;
+import ArenaGame.ItemRegistry;
+import java.util.concurrent.*;
+
+/**
+ * Inventories kept in this JVM only, for tests and simulations. Saved
+ * item counts are copied in and out, so an inventory in use never changes
+ * the stored one. Scores come from the players of the same backend.
+ */
+public class MemoryInventoryRepository implements InventoryRepository {
+
+    private final ConcurrentMap<String, int[]> saved = new ConcurrentHashMap<>();
+    private final PlayerRepository players;
+
+    /**
+     * @param players where loadPlayer reads scores
+     */
+    public MemoryInventoryRepository(PlayerRepository players) {
+        this.players = players;
+    }
+
+    @Override
+    public Loadout loadPlayer(String name) {
+        int[] counts = saved.get(name);
+        if (counts == null) {
+            return new Loadout(players.getScore(name), Inventory.starter());
+        }
+        Inventory inventory = new Inventory();
+        for (int id = 0; id < Math.min(counts.length, ItemRegistry.count()); id++) {
+            inventory.add(id, counts[id]);
+        }
+        inventory.markSaved();
+        return new Loadout(players.getScore(name), inventory);
+    }
+
+    @Override
+    public void saveInventory(String name, Inventory inventory) {
+        if (!inventory.isChanged()) {
+            return;
+        }
+        int[] counts = new int[ItemRegistry.count()];
+        for (int id = 0; id < counts.length; id++) {
+            counts[id] = inventory.count(id);
+        }
+        saved.put(name, counts);
+        inventory.markSaved();
+    }
+
+    @Override
+    public void clearInventories() {
+        saved.clear();
+    }
+}
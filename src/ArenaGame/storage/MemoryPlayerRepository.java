@@ -0,0 +1,59 @@
+package ArenaGame.storage;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Players kept in this JVM only, for tests and simulations.
+ * <p>
+ * Scores live in a ConcurrentSkipListMap, so reads never block and every
+ * write is a compare-and-set on one entry: concurrent increments for the
+ * same player are never lost and no thread ever holds a lock.
+ */
+public class MemoryPlayerRepository implements PlayerRepository {
+
+    private final ConcurrentSkipListMap<String, Integer> scores = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void addPlayer(String name) {
+        scores.putIfAbsent(name, 0);
+    }
+
+    @Override
+    public void updateScore(String name, int newScore) {
+        scores.replace(name, newScore);
+    }
+
+    @Override
+    public int incrementScore(String name) {
+        Integer score = scores.computeIfPresent(name, (player, old) -> old + 1);
+        return score == null ? -1 : score;
+    }
+
+    @Override
+    public void resetScores() {
+        scores.replaceAll((player, old) -> 0);
+    }
+
+    @Override
+    public int getScore(String name) {
+        return scores.getOrDefault(name, -1);
+    }
+
+    @Override
+    public boolean playerExists(String name) {
+        return scores.containsKey(name);
+    }
+
+    @Override
+    public Map<String, Integer> getAllPlayers() {
+        return Pages.byScore(scores);
+    }
+
+    @Override
+    public List<PlayerRow> getPlayerPage(PlayerRow after, String sortColumn, boolean ascending,
+            String namePrefix, int limit) {
+        return Pages.playerPage(scores.entrySet().stream().map(entry -> new PlayerRow(entry.getKey(), entry.getValue())),
+                after, sortColumn, ascending, namePrefix, limit);
+    }
+}
@@ -0,0 +1,61 @@
+package ArenaGame.storage;
+
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.matchmaking.PowerIndex;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Roster kept in this JVM only, for tests and simulations. Starts with
+ * DEFAULT_ROSTER.
+ * <p>
+ * The roster and its PowerIndex are one immutable value behind an
+ * AtomicReference: readers never block, and a write builds the new roster
+ * and swaps it in with compare-and-set, retrying if another write won.
+ */
+public class MemoryRosterRepository implements RosterRepository {
+
+    /**
+     * A roster and the power index built from it
+     */
+    private record Indexed(List<GladiatorTemplate> roster, PowerIndex index) {
+
+        Indexed(List<GladiatorTemplate> roster) {
+            this(List.copyOf(roster), new PowerIndex(roster));
+        }
+    }
+
+    private final AtomicReference<Indexed> current = new AtomicReference<>(new Indexed(DEFAULT_ROSTER));
+
+    @Override
+    public List<GladiatorTemplate> getAllGladiators() {
+        return current.get().roster();
+    }
+
+    @Override
+    public PowerIndex getPowerIndex() {
+        return current.get().index();
+    }
+
+    @Override
+    public boolean updateGladiators(Collection<GladiatorTemplate> gladiators) {
+        Map<String, GladiatorTemplate> changes = new HashMap<>();
+        gladiators.forEach(gladiator -> changes.put(gladiator.name(), gladiator));
+        Indexed old;
+        Indexed updated;
+        do {
+            old = current.get();
+            List<GladiatorTemplate> roster = new ArrayList<>(old.roster().size());
+            for (GladiatorTemplate gladiator : old.roster()) {
+                roster.add(changes.getOrDefault(gladiator.name(), gladiator));
+            }
+            updated = new Indexed(roster);
+        } while (!current.compareAndSet(old, updated));
+        return true;
+    }
+
+    @Override
+    public void resetGladiators() {
+        current.set(new Indexed(DEFAULT_ROSTER));
+    }
+}
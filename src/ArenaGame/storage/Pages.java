@@ -0,0 +1,79 @@
+package ArenaGame.storage;
+
+import ArenaGame.database.BattleLogDAO;
+import ArenaGame.database.PlayerDAO;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Paging, sorting and formatting shared by the file and memory backends,
+ * giving the same rows in the same order as the SQL in PlayerDAO and
+ * BattleLogDAO
+ */
+final class Pages {
+
+    private Pages() {
+    }
+
+    /**
+     * Same page as PlayerDAO.getPlayerPage, ties on score broken by name
+     */
+    static List<PlayerRow> playerPage(Stream<PlayerRow> rows, PlayerRow after,
+            String sortColumn, boolean ascending, String namePrefix, int limit) {
+        if (!PlayerDAO.SORT_COLUMNS.contains(sortColumn)) {
+            throw new IllegalArgumentException("Cannot sort players by " + sortColumn);
+        }
+        Comparator<PlayerRow> order = "SCORE".equals(sortColumn)
+                ? Comparator.comparingInt(PlayerRow::score).thenComparing(PlayerRow::name)
+                : Comparator.comparing(PlayerRow::name);
+        return page(rows.filter(row -> matches(row.name(), namePrefix)), after, ascending ? order : order.reversed(), limit);
+    }
+
+    /**
+     * Same page as BattleLogDAO.getLogPage, ties broken by log id
+     */
+    static List<LogRow> logPage(Stream<LogRow> rows, LogRow after,
+            String sortColumn, boolean ascending, String playerPrefix, int limit) {
+        if (!BattleLogDAO.SORT_COLUMNS.contains(sortColumn)) {
+            throw new IllegalArgumentException("Cannot sort battle logs by " + sortColumn);
+        }
+        Comparator<LogRow> byId = Comparator.comparingInt(LogRow::logId);
+        Comparator<LogRow> order = switch (sortColumn) {
+            case "PLAYER_NAME" -> Comparator.comparing(LogRow::playerName).thenComparing(byId);
+            case "ENEMY_NAME" -> Comparator.comparing(LogRow::enemyName).thenComparing(byId);
+            case "RESULT" -> Comparator.comparing(LogRow::result).thenComparing(byId);
+            default -> byId;
+        };
+        return page(rows.filter(row -> matches(row.playerName(), playerPrefix)), after, ascending ? order : order.reversed(), limit);
+    }
+
+    private static <R> List<R> page(Stream<R> rows, R after, Comparator<R> order, int limit) {
+        if (after != null) {
+            rows = rows.filter(row -> order.compare(row, after) > 0);
+        }
+        return rows.sorted(order).limit(limit).collect(Collectors.toList());
+    }
+
+    private static boolean matches(String name, String prefix) {
+        return prefix == null || prefix.isBlank() || name.startsWith(prefix.trim());
+    }
+
+    /**
+     * @return players highest score first, as PlayerDAO.getAllPlayers
+     */
+    static Map<String, Integer> byScore(Map<String, Integer> scores) {
+        Map<String, Integer> players = new LinkedHashMap<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> players.put(entry.getKey(), entry.getValue()));
+        return players;
+    }
+
+    /**
+     * Formats a row like BattleLogDAO.getLogs
+     */
+    static String format(LogRow row) {
+        return String.format("[%s] %s vs %s → %s", row.timestamp().toLocalDateTime().withNano(0),
+                row.playerName(), row.enemyName(), row.result());
+    }
+}
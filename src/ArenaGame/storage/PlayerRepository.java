@@ -0,0 +1,69 @@
+package ArenaGame.storage;
+
+import ArenaGame.database.PlayerDAO;
+import java.util.*;
+
+/**
+ * PlayerRepository stores players and their scores, whatever the backend.
+ * PlayerDAO is the Derby implementation, FilePlayerRepository keeps
+ * scores.txt and MemoryPlayerRepository keeps everything in this JVM.
+ * Implementations must be safe to share between threads.
+ */
+public interface PlayerRepository {
+
+    /**
+     * Adds a player with a score of zero, does nothing if they exist
+     *
+     * @param name player name
+     */
+    void addPlayer(String name);
+
+    /**
+     * @param name     player name
+     * @param newScore new score value
+     */
+    void updateScore(String name, int newScore);
+
+    /**
+     * Adds one to a player's score without losing concurrent updates
+     *
+     * @param name player name
+     * @return the new score or -1 if the player was not found
+     */
+    int incrementScore(String name);
+
+    /**
+     * Sets every score to zero, players are kept
+     */
+    void resetScores();
+
+    /**
+     * @param name player name
+     * @return player score or -1 if the player was not found
+     */
+    int getScore(String name);
+
+    /**
+     * @param name player name
+     * @return true if player exists
+     */
+    boolean playerExists(String name);
+
+    /**
+     * @return player names and scores, highest score first
+     */
+    Map<String, Integer> getAllPlayers();
+
+    /**
+     * Reads one page of players after the last row of the previous page
+     *
+     * @param after      last row of the previous page, or null for the first page
+     * @param sortColumn one of PlayerDAO.SORT_COLUMNS
+     * @param ascending  sort direction
+     * @param namePrefix only players whose name starts with this, or null/blank for all
+     * @param limit      page size
+     * @return up to limit rows
+     */
+    List<PlayerRow> getPlayerPage(PlayerRow after, String sortColumn, boolean ascending,
+            String namePrefix, int limit);
+}
@@ -0,0 +1,9 @@
+package ArenaGame.storage;
+
+/**
+ * One player and their score, used for paged reads
+ *
+ * @param name  player name
+ * @param score player score
+ */
+public record PlayerRow(String name, int score) { }
@@ -0,0 +1,58 @@
+package ArenaGame.storage;
+
+import ArenaGame.database.BattleLogDAO;
+import ArenaGame.database.GladiatorDAO;
+import ArenaGame.database.InventoryDAO;
+import ArenaGame.database.PlayerDAO;
+
+/**
+ * Repositories is one backend's set of repositories, shared by a frontend
+ * and everything it starts.
+ *
+ * The backend is chosen with the "arena.storage" system property:
+ * "derby" (the DAOs, default for the GUI), "file" (the v1 text files,
+ * default for the console game) or "memory" (this JVM only, for tests and
+ * simulations). Each call to open("memory") starts from an empty store
+ * with the default roster.
+ *
+ * @param players     player names and scores
+ * @param roster      enemy gladiators
+ * @param logs        battle log rows
+ * @param inventories players' items between battles
+ */
+public record Repositories(PlayerRepository players, RosterRepository roster, BattleLogRepository logs,
+        InventoryRepository inventories) {
+
+    public static final String DERBY = "derby";
+    public static final String FILE = "file";
+    public static final String MEMORY = "memory";
+
+    /**
+     * @param storage DERBY, FILE or MEMORY
+     * @return new repositories for that backend, Derby is booted if needed
+     */
+    public static Repositories open(String storage) {
+        return switch (storage) {
+            case DERBY -> new Repositories(new PlayerDAO(), new GladiatorDAO(), new BattleLogDAO(), new InventoryDAO());
+            case FILE -> {
+                PlayerRepository players = new FilePlayerRepository();
+                yield new Repositories(players, new FileRosterRepository(), new FileBattleLogRepository(),
+                        new FileInventoryRepository(players));
+            }
+            case MEMORY -> {
+                PlayerRepository players = new MemoryPlayerRepository();
+                yield new Repositories(players, new MemoryRosterRepository(), new MemoryBattleLogRepository(),
+                        new MemoryInventoryRepository(players));
+            }
+            default -> throw new IllegalArgumentException("Unknown storage " + storage);
+        };
+    }
+
+    /**
+     * @param fallback backend used unless another one is configured
+     * @return new repositories for the configured backend
+     */
+    public static Repositories configured(String fallback) {
+        return open(System.getProperty("arena.storage", fallback).trim().toLowerCase());
+    }
+}
@@ -0,0 +1,70 @@
+package ArenaGame.storage;
+
+import ArenaGame.Gladiator;
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.matchmaking.PowerIndex;
+import java.util.*;
+
+/**
+ * RosterRepository stores the enemy gladiators, whatever the backend.
+ * GladiatorDAO is the Derby implementation, FileRosterRepository keeps
+ * gladiators.txt and MemoryRosterRepository keeps everything in this JVM.
+ * Implementations must be safe to share between threads.
+ */
+public interface RosterRepository {
+
+    /**
+     * Roster every backend starts with and returns to on reset
+     */
+    List<GladiatorTemplate> DEFAULT_ROSTER = List.of(
+            new GladiatorTemplate("Spartacus", 100, 100, 35, 5),
+            new GladiatorTemplate("Maximus", 120, 120, 45, 10),
+            new GladiatorTemplate("Commodus", 90, 90, 30, 3));
+
+    /**
+     * @return immutable list of gladiator templates, in stored order
+     */
+    List<GladiatorTemplate> getAllGladiators();
+
+    /**
+     * @return the roster sorted by power, rebuilt only when the roster changes
+     */
+    PowerIndex getPowerIndex();
+
+    /**
+     * Writes the stats of several gladiators, matched by name, all or none
+     *
+     * @param gladiators new stats
+     * @return true if the stats were saved
+     */
+    boolean updateGladiators(Collection<GladiatorTemplate> gladiators);
+
+    /**
+     * Replaces the roster with DEFAULT_ROSTER
+     */
+    void resetGladiators();
+
+    /**
+     * Creates a fresh enemy for one battle from a random roster entry
+     *
+     * @return new enemy gladiator, or null if the roster is empty
+     */
+    default Gladiator getRandomGladiator() {
+        Random random = new Random();
+        GladiatorTemplate template = getPowerIndex().sample(Integer.MIN_VALUE, Integer.MAX_VALUE, random);
+        return template == null ? null : template.spawn(random);
+    }
+
+    /**
+     * Creates a fresh enemy for one battle whose power is close to the
+     * player's (see PowerIndex.sampleNear)
+     *
+     * @param player the gladiator the enemy will fight
+     * @param random random generator for the pick and the enemy's decisions
+     * @return new enemy gladiator, or null if the roster is empty
+     */
+    default Gladiator getMatchedGladiator(Gladiator player, Random random) {
+        GladiatorTemplate template = getPowerIndex().sampleNear(GladiatorTemplate.power(player), random);
+        return template == null ? null : template.spawn(random);
+    }
+}
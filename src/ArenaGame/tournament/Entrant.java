@@ -0,0 +1,27 @@
+package ArenaGame.tournament;
+
+import ArenaGame.EnemyGladiator;
+import java.util.Random;
+
+/**
+ * A tournament entrant: the stats a fresh gladiator is created from for
+ * every match, so no match sees damage from an earlier one.
+ *
+ * @param name      entrant name (also written to the battle log)
+ * @param maxHealth starting and maximum health
+ * @param attack    attack power
+ * @param defense   defense value
+ * @param player    true if the entrant is a row in PLAYERS and earns score
+ */
+public record Entrant(String name, int maxHealth, int attack, int defense, boolean player) {
+
+    /**
+     * Creates a fresh AI-controlled gladiator for one match.
+     *
+     * @param random random generator for the gladiator's decisions
+     * @return a gladiator at full health
+     */
+    public EnemyGladiator spawn(Random random) {
+        return new EnemyGladiator(name, maxHealth, maxHealth, attack, defense, random);
+    }
+}
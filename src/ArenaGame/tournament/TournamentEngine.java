@@ -0,0 +1,297 @@
+package ArenaGame.tournament;
+
+import ArenaGame.CombatRules;
+import ArenaGame.EnemyGladiator;
+import ArenaGame.Gladiator;
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.database.*;
+import ArenaGame.storage.LogEntry;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * TournamentEngine runs single- or double-elimination brackets between AI
+ * controlled gladiators using the CLI combat rules.
+ * <p>
+ * Every match in a round is independent, so a round is fought in parallel
+ * on the common fork/join pool. Each match gets its own random seed, which
+ * keeps a tournament reproducible no matter how the matches are scheduled.
+ * Results of a round are written to the database as one batch.
+ *
+ * Responsibilities:
+ * - Seed a bracket from the GLADIATORS roster, the PLAYERS table or generated AI entrants
+ * - Run winners, losers and grand final rounds
+ * - Persist each round's battle logs (and player wins) in batches
+ */
+public class TournamentEngine {
+
+    public enum Format { SINGLE, DOUBLE }
+
+    /**
+     * Outcome of a whole tournament.
+     */
+    public record Result(Entrant champion, int rounds, long matches, long elapsedMillis) { }
+
+    // Matches that reach this many turns are decided on remaining health
+    private static final int MAX_TURNS = 200;
+
+    private final BattleLogDAO battleLogDAO;
+    private final PlayerDAO playerDAO;
+    private final long seed;
+
+    private int round;
+    private long matches;
+
+    /**
+     * Create an engine.
+     *
+     * @param battleLogDAO where match results are written, or null to skip persistence
+     * @param playerDAO    where player entrants' wins are scored, or null to skip
+     * @param seed         base random seed for every match
+     */
+    public TournamentEngine(BattleLogDAO battleLogDAO, PlayerDAO playerDAO, long seed) {
+        this.battleLogDAO = battleLogDAO;
+        this.playerDAO = playerDAO;
+        this.seed = seed;
+    }
+
+    // ========== ENTRANTS ==========
+    /**
+     * @return every gladiator in the roster, in roster order
+     */
+    public static List<Entrant> fromRoster(GladiatorDAO gladiatorDAO) {
+        List<Entrant> entrants = new ArrayList<>();
+        for (GladiatorTemplate gladiator : gladiatorDAO.getAllGladiators()) {
+            entrants.add(new Entrant(gladiator.name(), gladiator.maxHealth(),
+                    gladiator.attack(), gladiator.defense(), false));
+        }
+        return entrants;
+    }
+
+    /**
+     * @return every player with the CLI's starting stats, seeded by score (highest first)
+     */
+    public static List<Entrant> fromPlayers(PlayerDAO playerDAO) {
+        List<Entrant> entrants = new ArrayList<>();
+        for (String name : playerDAO.getAllPlayers().keySet()) {
+            entrants.add(new Entrant(name, 100, 50, 5, true));
+        }
+        return entrants;
+    }
+
+    /**
+     * Generates AI entrants with varied stats, strongest expected first.
+     *
+     * @param count number of entrants
+     * @param seed  random seed for the stats
+     * @return generated entrants
+     */
+    public static List<Entrant> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Entrant> entrants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entrants.add(new Entrant("AI_" + i, 80 + random.nextInt(61), 25 + random.nextInt(26),
+                    random.nextInt(16), false));
+        }
+        return entrants;
+    }
+
+    // ========== BRACKETS ==========
+    /**
+     * Runs a tournament. Entrants are treated as seeds in list order.
+     *
+     * @param entrants at least one entrant
+     * @param format   single or double elimination
+     * @return the champion and totals
+     */
+    public Result run(List<Entrant> entrants, Format format) {
+        if (entrants.isEmpty()) {
+            throw new IllegalArgumentException("A tournament needs at least one entrant");
+        }
+        long start = System.currentTimeMillis();
+        round = 0;
+        matches = 0;
+
+        List<Entrant> winners = seedBracket(entrants);
+        List<Entrant> losers = new ArrayList<>();
+        while (winners.size() > 1) {
+            List<Entrant> dropped = new ArrayList<>();
+            winners = playRound(winners, dropped, "WINNERS");
+            if (format == Format.DOUBLE) {
+                losers = playLosersRounds(losers, dropped);
+            }
+        }
+
+        Entrant champion = winners.get(0);
+        if (format == Format.DOUBLE && !losers.isEmpty()) {
+            Entrant challenger = losers.get(0);
+            Entrant finalWinner = playRound(List.of(champion, challenger), new ArrayList<>(), "GRAND FINAL").get(0);
+            if (finalWinner == challenger) { // champion's first loss, bracket reset
+                finalWinner = playRound(List.of(champion, challenger), new ArrayList<>(), "GRAND FINAL").get(0);
+            }
+            champion = finalWinner;
+        }
+        return new Result(champion, round, matches, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Losers bracket step after a winners round: halve the losers bracket
+     * if it is larger than the group dropping in, then play it against them.
+     */
+    private List<Entrant> playLosersRounds(List<Entrant> losers, List<Entrant> dropped) {
+        if (losers.isEmpty()) {
+            return dropped;
+        }
+        if (losers.size() > dropped.size()) {
+            losers = playRound(losers, new ArrayList<>(), "LOSERS");
+        }
+        List<Entrant> crossed = new ArrayList<>(losers.size() + dropped.size());
+        int pairs = Math.max(losers.size(), dropped.size());
+        for (int i = 0; i < pairs; i++) {
+            crossed.add(i < losers.size() ? losers.get(i) : null);
+            crossed.add(i < dropped.size() ? dropped.get(dropped.size() - 1 - i) : null);
+        }
+        return playRound(crossed, new ArrayList<>(), "LOSERS");
+    }
+
+    /**
+     * Plays neighbouring pairs (0 v 1, 2 v 3, ...) in parallel. A null
+     * opponent or an odd entrant out is a bye.
+     *
+     * @param bracket entrants in bracket order, may contain nulls
+     * @param dropped receives the loser of every match played
+     * @param stage   label written to the battle log
+     * @return winners in bracket order
+     */
+    private List<Entrant> playRound(List<Entrant> bracket, List<Entrant> dropped, String stage) {
+        int pairs = (bracket.size() + 1) / 2;
+        Entrant[] winners = new Entrant[pairs];
+        Entrant[] losers = new Entrant[pairs];
+        long roundSeed = seed * 31 + (++round);
+
+        IntStream.range(0, pairs).parallel().forEach(i -> {
+            Entrant first = bracket.get(2 * i);
+            Entrant second = 2 * i + 1 < bracket.size() ? bracket.get(2 * i + 1) : null;
+            if (first == null || second == null) {
+                winners[i] = first != null ? first : second;
+                return;
+            }
+            boolean firstWins = fight(first, second, roundSeed * 1_000_003L + i);
+            winners[i] = firstWins ? first : second;
+            losers[i] = firstWins ? second : first;
+        });
+
+        List<Entrant> advancing = new ArrayList<>(pairs);
+        List<LogEntry> logs = new ArrayList<>(pairs);
+        List<String> playerWins = new ArrayList<>();
+        for (int i = 0; i < pairs; i++) {
+            if (winners[i] != null) {
+                advancing.add(winners[i]);
+            }
+            if (losers[i] != null) {
+                dropped.add(losers[i]);
+                logs.add(new LogEntry(winners[i].name(), losers[i].name(), stage + " WIN"));
+                if (winners[i].player()) {
+                    playerWins.add(winners[i].name());
+                }
+            }
+        }
+        matches += logs.size();
+        persist(logs, playerWins);
+        return advancing;
+    }
+
+    /**
+     * Fights one match with fresh gladiators.
+     *
+     * @return true if the first entrant wins
+     */
+    static boolean fight(Entrant first, Entrant second, long matchSeed) {
+        Random random = new Random(matchSeed);
+        EnemyGladiator a = first.spawn(random);
+        EnemyGladiator b = second.spawn(random);
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            act(a, b, random);
+            if (!b.isAlive()) {
+                return true;
+            }
+            act(b, a, random);
+            if (!a.isAlive()) {
+                return false;
+            }
+        }
+        // Stalemate (e.g. both guarding at low health): higher remaining share wins
+        return (long) a.getHealth() * b.getMaxHealth() >= (long) b.getHealth() * a.getMaxHealth();
+    }
+
+    /**
+     * One silent AI turn, following EnemyGladiator.takeTurn.
+     */
+    private static void act(EnemyGladiator actor, Gladiator opponent, Random random) {
+        actor.setBlocking(false);
+        switch (actor.chooseAction(opponent)) {
+            case EnemyGladiator.ATTACK -> opponent.applyDamage(actor.getAttack());
+            case EnemyGladiator.GUARD -> actor.setBlocking(true);
+            default -> CombatRules.console().taunt(opponent, random); // no effect, and no roll, with the default rules
+        }
+    }
+
+    private void persist(List<LogEntry> logs, List<String> playerWins) {
+        if (battleLogDAO != null) {
+            battleLogDAO.addBattleLogs(logs);
+        }
+        if (playerDAO != null) {
+            playerDAO.incrementScores(playerWins);
+        }
+    }
+
+    /**
+     * Orders entrants so seed 1 meets the lowest seed and the top seeds can
+     * only meet in later rounds. Missing entrants (up to the next power of
+     * two) become byes for the top seeds.
+     */
+    private static List<Entrant> seedBracket(List<Entrant> entrants) {
+        int size = Integer.highestOneBit(entrants.size());
+        if (size < entrants.size()) {
+            size <<= 1;
+        }
+        int[] order = {0};
+        while (order.length < size) { // 1v2 -> 1v4,2v3 -> 1v8,4v5,2v7,3v6 ...
+            int[] next = new int[order.length * 2];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = order.length * 2 - 1 - order[i];
+            }
+            order = next;
+        }
+        List<Entrant> bracket = new ArrayList<>(size);
+        for (int seedIndex : order) {
+            bracket.add(seedIndex < entrants.size() ? entrants.get(seedIndex) : null);
+        }
+        return bracket;
+    }
+
+    /**
+     * Runs a tournament from the command line.
+     *
+     * @param args [ai|roster|players] [single|double] [entrants (ai only)] [persist true|false]
+     */
+    public static void main(String[] args) {
+        String source = args.length > 0 ? args[0] : "ai";
+        Format format = args.length > 1 ? Format.valueOf(args[1].toUpperCase()) : Format.SINGLE;
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : 65_536;
+        boolean persist = args.length <= 3 || Boolean.parseBoolean(args[3]);
+
+        List<Entrant> entrants = switch (source) {
+            case "roster" -> fromRoster(new GladiatorDAO());
+            case "players" -> fromPlayers(new PlayerDAO());
+            default -> generate(count, 42);
+        };
+        TournamentEngine engine = new TournamentEngine(persist ? new BattleLogDAO() : null,
+                persist && "players".equals(source) ? new PlayerDAO() : null, System.nanoTime());
+        Result result = engine.run(entrants, format);
+        System.out.printf("%s elimination, %d entrants: %s is champion after %d rounds and %d matches in %d ms%n",
+                format.name().toLowerCase(), entrants.size(), result.champion().name(),
+                result.rounds(), result.matches(), result.elapsedMillis());
+    }
+}
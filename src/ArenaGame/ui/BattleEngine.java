@@ -0,0 +1,198 @@
+package ArenaGame.ui;
+
+import ArenaGame.*;
+import ArenaGame.ai.*;
+import ArenaGame.storage.LogEntry;
+import java.util.*;
+
+/**
+ * BattleEngine runs the GUI's combat rules without touching any Swing
+ * component. Each player action resolves the enemy's reply too and returns
+ * one immutable TurnResult for BattleFrame to display.
+ * <p>
+ * Actions must all run on one thread, which owns both gladiators. After
+ * every turn the engine publishes an immutable BattleSnapshot through a
+ * volatile field, so any other thread can read a consistent state of the
+ * battle with snapshot() without locking and without touching the
+ * gladiators.
+ *
+ * Responsibilities:
+ * - Apply player attack, guard, item and taunt actions
+ * - Pick and apply the enemy 'ai' action
+ * - Decide when the battle is won or lost
+ */
+class BattleEngine {
+
+    private final PlayerGladiator playerGladiator;
+    private final Gladiator enemyGladiator;
+    private final Random random = new Random();
+    private final CombatRules rules = CombatRules.gui();
+    private final EnemyStrategy enemyStrategy;
+
+    // Collected during the current turn
+    private final List<String> log = new ArrayList<>();
+    private final List<LogEntry> records = new ArrayList<>();
+
+    // Last published state, replaced as a whole after every turn
+    private volatile BattleSnapshot snapshot;
+    private int turn;
+
+    BattleEngine(PlayerGladiator playerGladiator, Gladiator enemyGladiator) {
+        this.playerGladiator = playerGladiator;
+        this.enemyGladiator = enemyGladiator;
+        this.enemyStrategy = EnemyStrategy.configured(rules.strategy(random));
+        this.snapshot = BattleSnapshot.of(0, playerGladiator, enemyGladiator);
+    }
+
+    /**
+     * @return the current state with no messages, used for the first render
+     */
+    TurnResult current() {
+        return new TurnResult(snapshot, List.of(), List.of(), TurnResult.Outcome.ONGOING);
+    }
+
+    /**
+     * Safe to call from any thread.
+     *
+     * @return the state after the last completed turn
+     */
+    BattleSnapshot snapshot() {
+        return snapshot;
+    }
+
+    // ========= PLAYER ACTIONS ==========
+    /**
+     * Player attack, damage follows the GUI CombatRules
+     * (by default attack - defense, at least 1, halved if enemy is guarding)
+     */
+    TurnResult attack() {
+        int damage = rules.playerHit(playerGladiator.getAttack(), enemyGladiator.getDefense(), enemyGladiator.isBlocking());
+        enemyGladiator.setBlocking(false); // guard is used up by the hit
+        enemyGladiator.setHealth(Math.max(0, enemyGladiator.getHealth() - damage));
+        log("You hit " + enemyGladiator.getName() + " for " + damage + " damage.\n");
+        record(playerGladiator.getName(), enemyGladiator.getName(), "ATTACK");
+
+        playerGladiator.setBlocking(false); // reset at end combat if no damage taken
+        return endTurn();
+    }
+
+    /**
+     * Half damage received if attacked following turn
+     * uses ArenaV1 guard mechanic
+     */
+    TurnResult guard() {
+        playerGladiator.setBlocking(true);
+        log("You brace yourself for the next attack.\n");
+        record(enemyGladiator.getName(), playerGladiator.getName(), "GUARD");
+        return endTurn();
+    }
+
+    /**
+     * Uses an item picked by the player, uses ArenaV1 inventory system
+     *
+     * @param itemId ItemRegistry id chosen in the inventory dialog, or -1 if none was chosen
+     */
+    TurnResult useItem(int itemId) {
+        Inventory inventory = playerGladiator.getInventory();
+        if (inventory.isEmpty()) {
+            log("Your inventory is empty!\n");
+        } else { // if a held item is selected apply the effect
+            Item item = inventory.use(itemId);
+            if (item != null) {
+                playerGladiator.applyItem(item);
+                log("Successfully used " + item.getName() + ".\n");
+            }
+        }
+        return endTurn();
+    }
+
+    /**
+     * Try to taunt the enemy gladiator permanently lowering stats
+     * if successful (by default 70% chance to remove 20%)
+     */
+    TurnResult taunt() {
+        log("You taunt " + enemyGladiator.getName() + "!\n");
+        CombatRules.Taunt taunt = rules.taunt(enemyGladiator, random);
+        if (taunt != null) {
+            log(enemyGladiator.getName() + " loses -" + taunt.attackLoss() + " ATK and -" + taunt.defenseLoss() + " DEF permanently!\n");
+            record(playerGladiator.getName(), enemyGladiator.getName(), "TAUNT SUCCESS");
+        } else {
+            log(enemyGladiator.getName() + " shrugs off your taunt!\n");
+            record(playerGladiator.getName(), enemyGladiator.getName(), "TAUNT FAIL");
+        }
+        return endTurn();
+    }
+
+    // ========= ENEMY TURN ==========
+    /**
+     * Determine the enemy 'ai' action with the configured strategy,
+     * by default weighted so attack has priority over guarding or taunting
+     * (60% attack, 20% guard, 20% taunt, see gui.ai.weights in rules.properties)
+     */
+    private void enemyTurn() {
+        int action = enemyStrategy.chooseAction(BattleState.of(enemyGladiator, playerGladiator));
+
+        switch (action) {
+            case EnemyGladiator.ATTACK -> { // attack
+                int damage = rules.enemyHit(enemyGladiator.getAttack(), playerGladiator.getDefense(), playerGladiator.isBlocking());
+
+                playerGladiator.setHealth(Math.max(0, playerGladiator.getHealth() - damage)); // subtract damage from health
+                log(enemyGladiator.getName() + " hits you for " + damage + " damage!\n");
+                playerGladiator.setBlocking(false); // clear player guard status
+                record(enemyGladiator.getName(), playerGladiator.getName(), "ATTACK");
+            }
+
+            case EnemyGladiator.GUARD -> { // guard
+                enemyGladiator.setBlocking(true); // set enemy guard status
+                log(enemyGladiator.getName() + " braces for the next incoming attack.\n");
+                record(enemyGladiator.getName(), playerGladiator.getName(), "GUARD");
+            }
+
+            case EnemyGladiator.TAUNT -> { // taunt (debuffs player def and atk)
+                log(enemyGladiator.getName() + " taunts you! \n");
+                CombatRules.Taunt taunt = rules.taunt(playerGladiator, random); // same rules as the player
+                if (taunt != null) {
+                    log("You lose -" + taunt.attackLoss() + " ATK and -" + taunt.defenseLoss() + " DEF permanently!\n");
+                    record(enemyGladiator.getName(), playerGladiator.getName(), "TAUNT SUCCESS");
+                } else {
+                    log("You shrug off the taunt!\n");
+                    record(enemyGladiator.getName(), playerGladiator.getName(), "TAUNT FAIL");
+                }
+            }
+        }
+    }
+
+    /**
+     * Lets the enemy reply unless it was defeated, decides the outcome
+     * and packages the turn
+     */
+    private TurnResult endTurn() {
+        TurnResult.Outcome outcome = TurnResult.Outcome.ONGOING;
+        if (enemyGladiator.isAlive()) {
+            enemyTurn();
+        }
+        if (!enemyGladiator.isAlive()) {
+            log("\n You defeated " + enemyGladiator.getName() + " !\n");
+            record(playerGladiator.getName(), enemyGladiator.getName(), "WIN");
+            outcome = TurnResult.Outcome.WON;
+        } else if (!playerGladiator.isAlive()) {
+            log("\n You were defeated by " + enemyGladiator.getName() + "!\n");
+            record(playerGladiator.getName(), enemyGladiator.getName(), "LOSS");
+            outcome = TurnResult.Outcome.LOST;
+        }
+        BattleSnapshot state = BattleSnapshot.of(++turn, playerGladiator, enemyGladiator);
+        snapshot = state; // publish, readers see either the previous turn or this one
+        TurnResult result = new TurnResult(state, List.copyOf(log), List.copyOf(records), outcome);
+        log.clear();
+        records.clear();
+        return result;
+    }
+
+    private void log(String message) {
+        log.add(message);
+    }
+
+    private void record(String playerName, String enemyName, String result) {
+        records.add(new LogEntry(playerName, enemyName, result));
+    }
+}
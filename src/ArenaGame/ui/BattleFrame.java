@@ -1,31 +1,32 @@
 package ArenaGame.ui;
 
 import ArenaGame.*;
-import ArenaGame.database.*;
+import ArenaGame.storage.Loadout;
+import ArenaGame.storage.Repositories;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.util.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 /**
  *
  * BattleFrame is GUI implementation of the precursor classes battlemanager and
  * PlayerGladiator in v1. 
- * BattleFrame also handles turn-based combat and the enemy action algorithm.
+ * Combat rules and the enemy action algorithm live in BattleEngine, the
+ * frame applies each turn's result in one pass.
  *
  * Responsibilities:
  * - Handles turn-based combat loop.
  * - Display player/enemy stats and log messages.
- * - Write battle data to the database via DAO classes
+ * - Write battle data and items through the menu's Repositories
  * 
  */
 public class BattleFrame extends JFrame {
 
-    // == Database Objects ==
-    // imported from .database for usage during database read/writes
-    private final PlayerDAO playerDAO;
-    private final GladiatorDAO gladiatorDAO;
-    private final BattleLogDAO battleLogDAO;
+    // == Storage Objects ==
+    // shared with the menu, every write goes to the backend it was opened with
+    private final Repositories repositories;
 
     // == Gladiator Objects ==
     // imported from base packages, contains functions used for combat back-end
@@ -34,47 +35,66 @@ public class BattleFrame extends JFrame {
     
     // == UI Elements ==
     private final JTextArea battleLogArea;
+    private final BoundedLogDocument battleLog;
     private final JLabel playerStats;
     private final JLabel enemyStats;
     private final JButton buttonAttack, buttonGuard, buttonUseItem, buttonTaunt, buttonExit;
 
+    // == Combat ==
+    // runs the rules, the frame only displays each turn's result
+    private final BattleEngine battleEngine;
+    // stats currently on the labels, null before the first turn
+    private GladiatorSnapshot shownPlayerStats;
+    private GladiatorSnapshot shownEnemyStats;
+
     /**
-     * Create a new BattleFrame window fetching data from the DAOs
+     * Create a new BattleFrame window fetching data from the repositories
      *
-     * @param playerName to use in battle and in DB writes
+     * @param playerName   to use in battle and in storage writes
+     * @param repositories storage opened by the menu
      */
-    public BattleFrame(String playerName) {
-        // == DAO setups ==
-        this.playerDAO = new PlayerDAO();
-        this.gladiatorDAO = new GladiatorDAO();
-        this.battleLogDAO = new BattleLogDAO();
+    public BattleFrame(String playerName, Repositories repositories) {
+        // == Storage setups ==
+        this.repositories = repositories;
 
         // == Gladiator setups ==
-        // Contains default stats, also select an enemy 
-        // gladiator at random
+        // Contains default stats, also select an enemy gladiator
+        // at random from those close to the player's power. Saved items are read once,
+        // items stay in memory until the battle ends
         this.playerGladiator = new PlayerGladiator(playerName, 120, 120, 35, 10, new java.util.Scanner(System.in));
-        this.enemyGladiator = gladiatorDAO.getRandomGladiator();
+        Loadout loadout = repositories.inventories().loadPlayer(playerName);
+        this.playerGladiator.setInventory(loadout.inventory());
+        this.enemyGladiator = repositories.roster().getMatchedGladiator(playerGladiator, new java.util.Random());
+        this.battleEngine = new BattleEngine(playerGladiator, enemyGladiator);
         
         // == Battle Frame setups ==
         setTitle("ARENAv2 - Battle");
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        // closing from the title bar skips the exit prompt, items still need saving
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent event) {
+                saveInventory();
+            }
+        });
         setSize(1100, 700);
         setLocationRelativeTo(null);
         setResizable(false);
         
         // == Base Gradient Background ==
-        JPanel basePanel = new GradientPanel();
+        // gradient for battle ambience, cached and painted beneath the children
+        JPanel basePanel = new GradientPanel(new Color(50, 30, 40), new Color(100, 20, 20));
         basePanel.setLayout(new BorderLayout(20, 20));
         basePanel.setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
-        basePanel.setOpaque(false);
         
         // == Stats Panel ==
         JPanel topPanel = new JPanel(new GridLayout(1, 2, 10, 10));
         topPanel.setOpaque(false);
         
         //Player and enemy stats font and colour
-        playerStats = new JLabel(formatStats(playerGladiator), SwingConstants.CENTER);
-        enemyStats = new JLabel(formatStats(enemyGladiator), SwingConstants.CENTER);
+        playerStats = new JLabel("", SwingConstants.CENTER);
+        enemyStats = new JLabel("", SwingConstants.CENTER);
+        updateStats(battleEngine.current());
         
         playerStats.setFont(new Font("Courier New", Font.BOLD, 22));
         enemyStats.setFont(new Font("Courier New", Font.BOLD, 22));
@@ -93,7 +113,9 @@ public class BattleFrame extends JFrame {
         topPanel.add(enemyStats);
 
         // Log Display Centering
-        battleLogArea = new JTextArea();
+        // Keeps the last 500 lines, appends within a turn become one update
+        battleLog = new BoundedLogDocument(500);
+        battleLogArea = new JTextArea(battleLog);
         battleLogArea.setEditable(false);
         battleLogArea.setLineWrap(true);
         battleLogArea.setWrapStyleWord(true);
@@ -104,6 +126,7 @@ public class BattleFrame extends JFrame {
         battleLogArea.setCaretColor(Color.WHITE);
         battleLogArea.setSelectionColor(new Color(255, 255, 255, 60));
         battleLogArea.setOpaque(true);
+        battleLog.setAfterFlush(() -> battleLogArea.setCaretPosition(battleLog.getLength())); // one scroll per flush
         
         JScrollPane scrollPane = new JScrollPane(battleLogArea);
         scrollPane.setOpaque(true);
@@ -145,32 +168,6 @@ public class BattleFrame extends JFrame {
         setVisible(true);
     }
     
-    // ===== Custom Components ======
-    /*
-    *gradient background for battle ambience.
-    */
-    private static class GradientPanel extends JPanel {
-        public GradientPanel() {
-            setDoubleBuffered(true);
-            setOpaque(true);
-        }
-    @Override
-    protected void paintComponent(Graphics g) {
-        
-        super.paintChildren(g);
-        
-        Graphics2D g2d = (Graphics2D) g.create();
-        int w = getWidth(), h = getHeight();
-        GradientPaint gp = new GradientPaint(
-                0, 0, new Color(50, 30, 40),
-                0, h, new Color(100, 20, 20)
-        );
-        g2d.setPaint(gp);
-        g2d.fillRect(0, 0, w, h);        
-
-        }
-    }
-
     /**
      * Creates a themed button consistent with the ARENA visual style.
      */
@@ -198,26 +195,13 @@ public class BattleFrame extends JFrame {
     
     // ========= BATTLE ACTIONS ==========
     /**
-     * Handles player attack event, calculates damage
-     * check if enemy is blocking and update damage formula
+     * Handles player attack event, the engine resolves the
+     * attack and the enemy's reply
      * 
      * @param event 
      */
     private void attackAction(ActionEvent event) {
-        int damage = enemyGladiator.getDefense() < playerGladiator.getAttack() // if enemy defense < attack, damage = attack - defense
-                ? playerGladiator.getAttack() - enemyGladiator.getDefense() : 1; // if attack < defense set damage = 1
-        if (enemyGladiator.isBlocking()) {
-            damage /= 2; // half damage if guarding is true
-            enemyGladiator.setBlocking(false); // reset after damage
-        }
-        enemyGladiator.setHealth(Math.max(0, enemyGladiator.getHealth() - damage));
-        appendLog("You hit " + enemyGladiator.getName() + " for " + damage + " damage.\n");
-        battleLogDAO.addBattleLog(playerGladiator.getName(), enemyGladiator.getName(), "ATTACK");
-
-        playerGladiator.setBlocking(false); // reset at end combat if no damage taken
-        updateStats(); // update both gladiator values
-        checkBattleOutcome(); // check if a gladiator has won
-        enemyTurn(); // pass turn to enemy if no gladiator has won
+        applyTurn(battleEngine.attack());
     }
 
     /**
@@ -227,10 +211,7 @@ public class BattleFrame extends JFrame {
      * @param event 
      */
     private void guardAction(ActionEvent event) {
-        playerGladiator.setBlocking(true);
-        appendLog("You brace yourself for the next attack.\n");
-        battleLogDAO.addBattleLog(enemyGladiator.getName(), playerGladiator.getName(), "GUARD");
-        enemyTurn();
+        applyTurn(battleEngine.guard());
     }
     
     /**
@@ -240,27 +221,24 @@ public class BattleFrame extends JFrame {
      * @param event 
      */
     private void itemAction(ActionEvent event) {
-        if (playerGladiator.getInventory().isEmpty()) { // check inventory has no zero elements inside
-            appendLog("Your inventory is empty!\n");
-            enemyTurn();
-            return;
-        }
-
-        var inventory = playerGladiator.getInventory(); // get the list of items in inventory and display them
-        String[] itemNames = inventory.getItems().stream().map(Item::getName).toArray(String[]::new);
-        String selectedItem = (String) JOptionPane.showInputDialog(this,
-                "Select and item to use:", "Inventory",
-                JOptionPane.PLAIN_MESSAGE, null, itemNames, itemNames[0]);
-
-        if (selectedItem != null) { // if a valid item is selected get the name and apply the effect
-            Item item = inventory.getItemByName(selectedItem);
-            if (item != null) {
-                playerGladiator.useItem(item);
-                appendLog("Successfully used " + selectedItem + ".\n"); // write action to log
+        int selectedItem = -1;
+        var inventory = playerGladiator.getInventory();
+        if (!inventory.isEmpty()) { // list each held item once with its count
+            String[] itemNames = new String[inventory.kinds()];
+            for (int i = 0; i < itemNames.length; i++) {
+                int id = inventory.idAt(i);
+                itemNames[i] = ItemRegistry.get(id).getName() + " (" + inventory.count(id) + ")";
+            }
+            Object selected = JOptionPane.showInputDialog(this,
+                    "Select and item to use:", "Inventory",
+                    JOptionPane.PLAIN_MESSAGE, null, itemNames, itemNames[0]);
+            for (int i = 0; i < itemNames.length; i++) {
+                if (itemNames[i] == selected) {
+                    selectedItem = inventory.idAt(i);
+                }
             }
         }
-        updateStats(); // update both gladiator values - needed to reflect stat updates from items
-        enemyTurn();
+        applyTurn(battleEngine.useItem(selectedItem));
     }
 
     /**
@@ -271,146 +249,101 @@ public class BattleFrame extends JFrame {
      * @param event 
      */
     private void tauntAction(ActionEvent event) {
-        appendLog("You taunt " + enemyGladiator.getName() + "!\n");
-        if (new Random().nextInt(10) >= 3) { // 70% effective chance
-            int attackDebuff = (int) (enemyGladiator.getAttack() * 0.2); // lower values relative to total instead of fixed value
-            int defenseDebuff = (int) (enemyGladiator.getDefense() * 0.2);
-            enemyGladiator.setAttack(Math.max(1, enemyGladiator.getAttack() - attackDebuff));
-            enemyGladiator.setDefense(Math.max(0, enemyGladiator.getDefense() - defenseDebuff));
-            appendLog(enemyGladiator.getName() + " loses -" + attackDebuff + " ATK and -" + defenseDebuff + " DEF permanently!\n");
-            battleLogDAO.addBattleLog(playerGladiator.getName(), enemyGladiator.getName(), "TAUNT SUCCESS"); // write action to log
-        } else {
-            appendLog(enemyGladiator.getName() + " shrugs off your taunt!\n");
-            battleLogDAO.addBattleLog(playerGladiator.getName(), enemyGladiator.getName(), "TAUNT FAIL");
-        }
-        updateStats();
-        enemyTurn();
+        applyTurn(battleEngine.taunt());
     }
 
     /**
-     * Randomly determine the enemy 'ai' action 
-     * using a combat algorithm derived from ArenaV1
-     * weighted so attack has priority over guarding or taunting
-     * can change roll values to change difficulty
-     */
-    private void enemyTurn() {
-        if (!enemyGladiator.isAlive()) {
-            return;
-        }
-
-        int roll = new Random().nextInt(10); // roll between 0-9 (10)
-        int action;
-        if (roll <= 5) {
-            action = 0;   // 60% pick attack
-        } else if (roll <= 7) {
-            action = 1;   // 20% pick guard
-        } else {
-            action = 2;   // 20% taunt
-        } 
-
-        switch (action) {
-            case 0 -> { // attack
-                int damage = playerGladiator.isBlocking()
-                        ? Math.max(1, enemyGladiator.getAttack() / 2)
-                        : enemyGladiator.getAttack();
-
-                playerGladiator.setHealth(Math.max(0, playerGladiator.getHealth() - damage)); // subtract damage from health
-                appendLog(enemyGladiator.getName() + " hits you for " + damage + " damage!\n");
-                playerGladiator.setBlocking(false); // clear player guard status
-                battleLogDAO.addBattleLog(enemyGladiator.getName(), playerGladiator.getName(), "ATTACK"); // write action to log
-            }
-
-            case 1 -> { // guard
-                enemyGladiator.setBlocking(true); // set enemy guard status
-                appendLog(enemyGladiator.getName() + " braces for the next incoming attack.\n");
-                battleLogDAO.addBattleLog(enemyGladiator.getName(), playerGladiator.getName(), "GUARD");
-            }
-
-            case 2 -> { // taunt (debuffs player def and atk)
-                appendLog(enemyGladiator.getName() + " taunts you! \n");
-                if (new Random().nextInt(10) >= 3) { // same 70% as player 
-                    int atkLoss = (int) (playerGladiator.getAttack() * 0.2); // relative to player stats not fixed value
-                    int defLoss = (int) (playerGladiator.getDefense() * 0.2);
-                    playerGladiator.setAttack(Math.max(1, playerGladiator.getAttack() - atkLoss));
-                    playerGladiator.setDefense(Math.max(0, playerGladiator.getDefense() - defLoss));
-                    appendLog("You lose -" + atkLoss + " ATK and -" + defLoss + " DEF permanently!\n");
-                    battleLogDAO.addBattleLog(enemyGladiator.getName(), playerGladiator.getName(), "TAUNT SUCCESS"); // write action to log
-                } else {
-                    appendLog("You shrug off the taunt!\n");
-                    battleLogDAO.addBattleLog(enemyGladiator.getName(), playerGladiator.getName(), "TAUNT FAIL");
-                }
-            }
-        }
-
-        updateStats();
-        checkBattleOutcome(); // check if any actions made a gladiator win
-    }
-
-    /**
-     * Determine if either party has one the match
-     * write to DB log and display a message depending
-     * on outcome
+     * Show one turn in a single pass: queue the log lines, re-render
+     * only the stat labels whose values changed, write the turn's
+     * battle log rows in one batch and handle a finished battle
      * 
+     * @param turn result of the player's action and the enemy's reply
      */
-    private void checkBattleOutcome() {
-        if (!enemyGladiator.isAlive()) {
-            appendLog("\n You defeated " + enemyGladiator.getName() + " !\n");
-            battleLogDAO.addBattleLog(playerGladiator.getName(), enemyGladiator.getName(), "WIN");
+    private void applyTurn(TurnResult turn) {
+        turn.log().forEach(this::appendLog);
+        updateStats(turn);
+        repositories.logs().addBattleLogs(turn.records());
 
-            int newScore = playerDAO.getScore(playerGladiator.getName()) + 1;
-            playerDAO.updateScore(playerGladiator.getName(), newScore);
+        if (turn.outcome() != TurnResult.Outcome.ONGOING) {
+            saveInventory();
+        }
+        if (turn.outcome() == TurnResult.Outcome.WON) {
+            int newScore = repositories.players().incrementScore(playerGladiator.getName());
             JOptionPane.showMessageDialog(this, "You stand victorious! Your score is: " + newScore);
             dispose();
-            new MainMenuFrame().setVisible(true); // battle frame -> menu
-        } else if (!playerGladiator.isAlive()) {
-            appendLog("\n You were defeated by " + enemyGladiator.getName() + "!\n");
-            battleLogDAO.addBattleLog(playerGladiator.getName(), enemyGladiator.getName(), "LOSS");
+            new MainMenuFrame(repositories).setVisible(true); // battle frame -> menu
+        } else if (turn.outcome() == TurnResult.Outcome.LOST) {
             JOptionPane.showMessageDialog(this, "Defeat!");
             dispose();
-            new MainMenuFrame().setVisible(true); // battle frame -> menu
+            new MainMenuFrame(repositories).setVisible(true); // battle frame -> menu
         }
     }
 
     // =========== UTIL/HELPER METHODS ==========
     /**
-     * Adds text to the log and scrolls to next message
-     * position
+     * Queues text for the log, messages from the same turn are written
+     * and scrolled to together
      * 
      * @param message contains the string of text to write to log
      */
     private void appendLog(String message) {
-        battleLogArea.append(message); // write
-        battleLogArea.setCaretPosition(battleLogArea.getDocument().getLength()); // move to next pos
+        battleLog.append(message);
     }
 
     /**
-     * Refresh stat display and reflect changes
-     * uses formatStats to write them in correct order
+     * Refresh stat display from the turn's snapshot, the text is only
+     * formatted and the labels re-rendered (and re-laid out) when a shown
+     * stat changed
      * 
+     * @param turn latest turn result
      */
-    private void updateStats() {
-        playerStats.setText(formatStats(playerGladiator));
-        enemyStats.setText(formatStats(enemyGladiator));
+    private void updateStats(TurnResult turn) {
+        GladiatorSnapshot player = turn.state().player();
+        GladiatorSnapshot enemy = turn.state().enemy();
+        if (!sameStats(player, shownPlayerStats)) {
+            shownPlayerStats = player;
+            playerStats.setText(formatStats(player));
+        }
+        if (!sameStats(enemy, shownEnemyStats)) {
+            shownEnemyStats = enemy;
+            enemyStats.setText(formatStats(enemy));
+        }
     }
 
     /**
-     * Format gladiator stats into frame compatible data
-     * 
-     * @param gladiator
-     * @return 
+     * @return true if both snapshots show the same label text, blocking
+     *         is not displayed and ignored
      */
-    private String formatStats(Gladiator gladiator) {
-        return String.format("%s HP: %d/%d  ATK: %d  DEF: %d",
-                gladiator.getName(), gladiator.getHealth(), gladiator.getMaxHealth(), gladiator.getAttack(), gladiator.getDefense());
+    private static boolean sameStats(GladiatorSnapshot stats, GladiatorSnapshot shown) {
+        return shown != null && stats.health() == shown.health() && stats.maxHealth() == shown.maxHealth()
+                && stats.attack() == shown.attack() && stats.defense() == shown.defense()
+                && stats.name().equals(shown.name());
+    }
+
+    /**
+     * @param stats immutable stats of one gladiator
+     * @return frame compatible stat text
+     */
+    private static String formatStats(GladiatorSnapshot stats) {
+        return String.format("%s HP: %d/%d  ATK: %d  DEF: %d", stats.name(), stats.health(), stats.maxHealth(),
+                stats.attack(), stats.defense());
     }
     
+    /**
+     * Writes the items used during the battle back in one batch
+     */
+    private void saveInventory() {
+        repositories.inventories().saveInventory(playerGladiator.getName(), playerGladiator.getInventory());
+    }
+
     private void exitBattlePrompt() {
         int choice = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to leave the ARENA?",
                 "Exit Battle", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
         if (choice == JOptionPane.YES_OPTION) {
+            saveInventory();
             dispose();
-            new MainMenuFrame().setVisible(true);
+            new MainMenuFrame(repositories).setVisible(true);
         }
     }    
 
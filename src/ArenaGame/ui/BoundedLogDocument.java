@@ -0,0 +1,87 @@
+package ArenaGame.ui;
+
+import javax.swing.*;
+import javax.swing.text.*;
+
+/**
+ * Battle log text model that keeps only the most recent lines.
+ * <p>
+ * Messages appended during one EDT event (e.g. a whole turn) are buffered
+ * and inserted as one document update on the next EDT pass, followed by a
+ * single scroll. Old lines are dropped from the head in chunks, so trimming
+ * happens once every few turns instead of on every append.
+ * Must be used from the Event Dispatch Thread.
+ */
+class BoundedLogDocument extends PlainDocument {
+
+    private final int maxLines;
+    private final int trimSlack;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean flushScheduled;
+    private Runnable afterFlush = () -> { };
+
+    /**
+     * @param maxLines number of lines to keep
+     */
+    BoundedLogDocument(int maxLines) {
+        this.maxLines = maxLines;
+        this.trimSlack = Math.max(1, maxLines / 4);
+    }
+
+    /**
+     * Sets what runs after each flush (e.g. scroll to the newest line).
+     */
+    void setAfterFlush(Runnable afterFlush) {
+        this.afterFlush = afterFlush;
+    }
+
+    /**
+     * Queues a message. The first append in an EDT event schedules a flush,
+     * later appends in the same event join it.
+     *
+     * @param message text to add (include the trailing newline)
+     */
+    void append(String message) {
+        pending.append(message);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    /**
+     * Writes all queued messages as one insert and trims the head once it
+     * has grown past the line limit plus some slack.
+     */
+    void flush() {
+        flushScheduled = false;
+        if (pending.length() == 0) {
+            return;
+        }
+        try {
+            insertString(getLength(), pending.toString(), null);
+            pending.setLength(0);
+
+            int lines = getLineCount();
+            if (lines > maxLines + trimSlack) {
+                int end = getDefaultRootElement().getElement(lines - maxLines - 1).getEndOffset();
+                remove(0, end);
+            }
+        } catch (BadLocationException exception) {
+            pending.setLength(0); // offsets come from the document itself, should never happen
+        }
+        afterFlush.run();
+    }
+
+    /**
+     * @return number of lines of text currently held, not counting the
+     *         empty paragraph after a trailing newline
+     */
+    int getLineCount() {
+        Element root = getDefaultRootElement();
+        int elements = root.getElementCount();
+        Element last = root.getElement(elements - 1);
+        // the last paragraph only holds the document's implied newline when the text ends with one
+        return last.getEndOffset() - last.getStartOffset() == 1 && getLength() > 0 ? elements - 1 : elements;
+    }
+}
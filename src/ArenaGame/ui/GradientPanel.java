@@ -0,0 +1,58 @@
+package ArenaGame.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Vertical gradient background shared by the ARENA frames.
+ * <p>
+ * The gradient is rendered once per panel size into a cached image and
+ * copied into place on each paint, clipped to the dirty region. The panel is
+ * opaque and children paint on top of it, so a label or button update only
+ * repaints that component's area rather than the whole frame.
+ */
+class GradientPanel extends JPanel {
+
+    private final Color top;
+    private final Color bottom;
+    private BufferedImage background;
+
+    /**
+     * @param top    colour at the top edge
+     * @param bottom colour at the bottom edge
+     */
+    GradientPanel(Color top, Color bottom) {
+        this.top = top;
+        this.bottom = bottom;
+        setOpaque(true);
+        setDoubleBuffered(true);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int w = getWidth(), h = getHeight();
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        if (background == null || background.getWidth() != w || background.getHeight() != h) {
+            background = renderBackground(w, h);
+        }
+        g.drawImage(background, 0, 0, null);
+    }
+
+    /**
+     * Draws the gradient into an image matching the screen's pixel format
+     */
+    private BufferedImage renderBackground(int w, int h) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(w, h, Transparency.OPAQUE)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, top, 0, h, bottom));
+        g2d.fillRect(0, 0, w, h);
+        g2d.dispose();
+        return image;
+    }
+}
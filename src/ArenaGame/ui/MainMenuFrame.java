@@ -1,9 +1,14 @@
 package ArenaGame.ui;
 
 import ArenaGame.database.*;
+import ArenaGame.storage.LogRow;
+import ArenaGame.storage.PlayerRow;
+import ArenaGame.storage.Repositories;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * MainMenuFrame is the J Frame based main GUI - this class replaces the CUI
@@ -12,27 +17,51 @@ import java.awt.event.ActionEvent;
  * Responsibilities: 
  * - Display main menu selections 
  * - Handle user inputs via GUI elements 
- * - Connect to DAO (data access object) classes when data operations needed
- * 
+ * - Connect to the configured Repositories when data operations needed
+ *
+ * The window is shown straight away from the StartupSnapshot file while
+ * the storage (Derby unless -Darena.storage says otherwise) opens on a
+ * background thread. Buttons that need it wait for the boot only if it has
+ * not finished yet.
  */
 public class MainMenuFrame extends JFrame {
 
-    // Database objects
-    private final PlayerDAO playerDAO;
-    private final GladiatorDAO gladiatorDAO;
-    private final BattleLogDAO battleLogDAO;
+    // Storage, set once the boot has finished
+    private Repositories repositories;
+    private final SwingWorker<Repositories, Void> boot;
+
+    private final JLabel leaderboard = new JLabel("", SwingConstants.CENTER);
 
     /**
-     * Builds main menu frame and initializes components.
-     * Setup DAO instances so values can be accessed
+     * Builds main menu frame and initializes components from the startup
+     * snapshot, then opens the configured storage in the background
      * 
      */
     public MainMenuFrame() {
-        // default constructor initialization of DAOs
-        this.playerDAO = new PlayerDAO();
-        this.gladiatorDAO = new GladiatorDAO();
-        this.battleLogDAO = new BattleLogDAO();
-        
+        this(null);
+    }
+
+    /**
+     * Builds main menu frame on storage that is already open, e.g. when a
+     * battle returns to the menu
+     *
+     * @param repositories open storage, or null to open the configured one
+     */
+    public MainMenuFrame(Repositories repositories) {
+        showLeaders(StartupSnapshot.read(StartupSnapshot.DEFAULT_FILE));
+        this.boot = new SwingWorker<>() {
+            @Override
+            protected Repositories doInBackground() {
+                // the first DAO boots Derby through DatabaseManager.getInstance()
+                Repositories opened = repositories != null ? repositories : Repositories.configured(Repositories.DERBY);
+                StartupSnapshot snapshot = StartupSnapshot.capture(opened.players(), opened.roster());
+                snapshot.write(StartupSnapshot.DEFAULT_FILE);
+                SwingUtilities.invokeLater(() -> showLeaders(snapshot));
+                return opened;
+            }
+        };
+        boot.execute();
+
         setIconImage(new ImageIcon("assets/icon_arena.png").getImage());
         setTitle("ARENAv2 - Main Menu Frame");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -47,7 +76,8 @@ public class MainMenuFrame extends JFrame {
      * Initializes GUI elements.
      */
     private void initElements() {
-        JPanel panel = new GradientPanel();
+        // Smooth gradient from dark steel to deep red
+        JPanel panel = new GradientPanel(new Color(30, 30, 40), new Color(90, 0, 0));
         panel.setLayout(new GridLayout(9, 1, 10, 10));
         panel.setBorder(BorderFactory.createEmptyBorder(30, 40, 30, 40));
 
@@ -55,6 +85,9 @@ public class MainMenuFrame extends JFrame {
         title.setFont(new Font("Trajan Pro", Font.BOLD, 24));
         title.setForeground(new Color(230, 200, 170));
 
+        leaderboard.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        leaderboard.setForeground(new Color(230, 200, 170));
+
         JButton buttonBattle = makeButton("Enter the ARENA");
         JButton buttonScores = makeButton("View Scores");
         JButton buttonLogs = makeButton("View Logs");
@@ -81,10 +114,61 @@ public class MainMenuFrame extends JFrame {
         panel.add(buttonResetLogs);
         panel.add(buttonResetGladiators);
         panel.add(buttonExit);
+        panel.add(leaderboard);
 
         add(panel);
     }
 
+    /**
+     * Shows the head of the leaderboard and the roster size
+     *
+     * @param snapshot leaders and roster, or null while nothing is known yet
+     */
+    private void showLeaders(StartupSnapshot snapshot) {
+        if (snapshot == null) {
+            leaderboard.setText("The arena is waking up...");
+            return;
+        }
+        StringBuilder text = new StringBuilder("<html><center>");
+        if (snapshot.leaders().isEmpty()) {
+            text.append("No champions yet");
+        } else {
+            text.append("Champions: ");
+            for (int i = 0; i < snapshot.leaders().size(); i++) {
+                PlayerRow leader = snapshot.leaders().get(i);
+                text.append(i > 0 ? " · " : "").append(escape(leader.name())).append(" (").append(leader.score()).append(')');
+            }
+        }
+        text.append("<br>").append(snapshot.rosterSize()).append(" gladiators await</center></html>");
+        leaderboard.setText(text.toString());
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Makes the repositories available, waiting for the background boot if
+     * it is still running
+     *
+     * @return false if the database could not be opened
+     */
+    private boolean awaitDatabase() {
+        if (repositories != null) {
+            return true;
+        }
+        try {
+            repositories = boot.get();
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            System.err.println("Failed to open the database: " + exception.getCause());
+        }
+        JOptionPane.showMessageDialog(this, "The database could not be opened.");
+        return false;
+    }
+
     // ========= LISTENER METHODS =========
      /**
      * Launches a new battle window
@@ -92,13 +176,16 @@ public class MainMenuFrame extends JFrame {
      * 
      */
     private void enterBattle(ActionEvent event) {
+        if (!awaitDatabase()) {
+            return;
+        }
         String playerName = JOptionPane.showInputDialog(this, "Enter the name of your gladiator: ");
         if (playerName == null || playerName.isBlank()) { // if invalid or blank take player back to entry
             JOptionPane.showMessageDialog(this, "Please enter a valid name!");
             return;
         }
 
-        if (playerDAO.playerExists(playerName)) { // if player exists continue with data
+        if (repositories.players().playerExists(playerName)) { // if player exists continue with data
             int choice = JOptionPane.showConfirmDialog(this,
                     "A gladiator named '" + playerName + "' already exists. Continue?",
                     "Existing Player",
@@ -108,56 +195,119 @@ public class MainMenuFrame extends JFrame {
                 return;
             }
         } else {
-            playerDAO.addPlayer(playerName); // if player doesnt exist add to DB
+            repositories.players().addPlayer(playerName); // if player doesnt exist add to DB
         }
 
         dispose(); // close the menu
-        BattleFrame battleFrame = new BattleFrame(playerName); // launch battle
+        BattleFrame battleFrame = new BattleFrame(playerName, repositories); // launch battle
     }
 
      /**
-     * Displays all player names and scores stored in the database
-     * in a pop up window
+     * Displays player names and scores stored in the database in a
+     * table that reads one page at a time as it scrolls, best first
      * 
      */
     private void viewScores(ActionEvent event) {
-        var scores = playerDAO.getAllPlayers(); // fetch scores from DB
-        
-        if (scores.isEmpty()) {
+        if (!awaitDatabase()) {
+            return;
+        }
+        PagedTableModel<PlayerRow> model = new PagedTableModel<>(new String[]{"Player", "Score"}, 1, false,
+                new PagedTableModel.PageSource<>() {
+            @Override
+            public List<PlayerRow> fetch(PlayerRow after, int sortColumn, boolean ascending, String filter, int limit) {
+                return repositories.players().getPlayerPage(after, sortColumn == 0 ? "NAME" : "SCORE", ascending, filter, limit);
+            }
+
+            @Override
+            public Object valueAt(PlayerRow row, int column) {
+                return column == 0 ? row.name() : row.score();
+            }
+        });
+
+        if (!model.loadFirstPage()) {
             JOptionPane.showMessageDialog(this, "Failed to find scores.");
         } else {
-            StringBuilder stringBuilder = new StringBuilder("===== Player Scores =====\n");
-            scores.forEach((name, score)
-                    -> stringBuilder.append(String.format("%s → %d%n", name, score)));
-            JOptionPane.showMessageDialog(this, stringBuilder.toString(), "Scores", JOptionPane.INFORMATION_MESSAGE);
+            showPagedTable("Scores", model, "Player name starts with:", new Dimension(500, 500));
         }
     }
 
      /**
-     * Opens a scrollable window showing the recorded 
-     * battle logs, time stamps and appends
+     * Opens a scrollable table showing the recorded battle logs, newest
+     * first, read one page at a time as it scrolls
      */
     private void viewLogs(ActionEvent event) {
-        var logs = battleLogDAO.getLogs();
-        
-        if (logs.isEmpty()) { // if no logs found
+        if (!awaitDatabase()) {
+            return;
+        }
+        PagedTableModel<LogRow> model = new PagedTableModel<>(
+                new String[]{"Time", "Player", "Opponent", "Result"}, 0, false,
+                new PagedTableModel.PageSource<>() {
+            @Override
+            public List<LogRow> fetch(LogRow after, int sortColumn, boolean ascending, String filter, int limit) {
+                return repositories.logs().getLogPage(after, BattleLogDAO.SORT_COLUMNS.get(sortColumn), ascending, filter, limit);
+            }
+
+            @Override
+            public Object valueAt(LogRow row, int column) {
+                return switch (column) {
+                    case 0 -> row.timestamp();
+                    case 1 -> row.playerName();
+                    case 2 -> row.enemyName();
+                    default -> row.result();
+                };
+            }
+        });
+
+        if (!model.loadFirstPage()) { // if no logs found
             JOptionPane.showMessageDialog(this, "Failed to find logs.");
         } else {
-            JTextArea textArea = new JTextArea();
-            logs.forEach(log -> textArea.append(log + "\n"));
-            textArea.setEditable(false);
-            JScrollPane scrollPane = new JScrollPane(textArea);
-            scrollPane.setPreferredSize(new Dimension(1000, 500));
-            JOptionPane.showMessageDialog(this, scrollPane, "Battle Logs", JOptionPane.INFORMATION_MESSAGE);
+            showPagedTable("Battle Logs", model, "Player name starts with:", new Dimension(1000, 500));
         }
     }
 
+    /**
+     * Shows a paged table with a filter box, clicking a column header
+     * sorts by it (again to flip), both are done by the database
+     */
+    private void showPagedTable(String title, PagedTableModel<?> model, String filterText, Dimension size) {
+        JTable table = new JTable(model);
+        table.setFillsViewportHeight(true);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.getTableHeader().addMouseListener(new java.awt.event.MouseAdapter() {
+            @Override
+            public void mouseClicked(java.awt.event.MouseEvent e) {
+                int column = table.columnAtPoint(e.getPoint());
+                if (column >= 0) {
+                    model.sortBy(table.convertColumnIndexToModel(column));
+                }
+            }
+        });
+
+        JTextField filterField = new JTextField(20);
+        filterField.addActionListener(e -> model.setFilter(filterField.getText())); // filter on enter
+
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterPanel.add(new JLabel(filterText));
+        filterPanel.add(filterField);
+
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setPreferredSize(size);
+
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.add(filterPanel, BorderLayout.NORTH);
+        panel.add(scrollPane, BorderLayout.CENTER);
+        JOptionPane.showMessageDialog(this, panel, title, JOptionPane.INFORMATION_MESSAGE);
+    }
+
     /**
      * Clear scores in database, show a confirmation
      * to prevent player from accidentally clearing
      * 
      */
     private void resetScores(ActionEvent event) {
+        if (!awaitDatabase()) {
+            return;
+        }
         int userChoice = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to reset all player scores?",
                 "Warning: This action cannot be undone!",
@@ -165,7 +315,7 @@ public class MainMenuFrame extends JFrame {
                 JOptionPane.WARNING_MESSAGE);
 
         if (userChoice == JOptionPane.YES_OPTION) {
-            playerDAO.resetScores();
+            repositories.players().resetScores();
             JOptionPane.showMessageDialog(this, "Successfully cleared stored scores.");
         }
     }
@@ -176,6 +326,9 @@ public class MainMenuFrame extends JFrame {
      * 
      */
     private void resetLogs(ActionEvent event) {
+        if (!awaitDatabase()) {
+            return;
+        }
         int userChoice = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to reset all database logs?",
                 "Warning: This action cannot be undone!",
@@ -183,7 +336,7 @@ public class MainMenuFrame extends JFrame {
                 JOptionPane.WARNING_MESSAGE);
 
         if (userChoice == JOptionPane.YES_OPTION) {
-            battleLogDAO.clearLogs();
+            repositories.logs().clearLogs();
             JOptionPane.showMessageDialog(this, "Successfully cleared stored logs.");
         }
     }
@@ -194,6 +347,9 @@ public class MainMenuFrame extends JFrame {
      * 
      */
     private void resetGladiators(ActionEvent event) {
+        if (!awaitDatabase()) {
+            return;
+        }
         int userChoice = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to reset gladiators to default?",
                 "Warning: This action cannot be undone!",
@@ -201,31 +357,11 @@ public class MainMenuFrame extends JFrame {
                 JOptionPane.WARNING_MESSAGE);
 
         if (userChoice == JOptionPane.YES_OPTION) {
-            gladiatorDAO.resetGladiators();
+            repositories.roster().resetGladiators();
             JOptionPane.showMessageDialog(this, "Successfully reset gladiators to default.");
         }
     }
     
-    /*
-    *Custom gradient panel background
-    */
-    private static class GradientPanel extends JPanel {
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        int w = getWidth();
-        int h = getHeight();
-
-        // Smooth gradient from dark steel to deep red
-        Color top = new Color(30, 30, 40);
-        Color bottom = new Color(90, 0, 0);
-        GradientPaint gp = new GradientPaint(0, 0, top, 0, h, bottom);
-        g2d.setPaint(gp);
-        g2d.fillRect(0, 0, w, h);
-        }
-    }   
-    
     /*
     *Styled buttons to give colour, border and hover feedback
     */
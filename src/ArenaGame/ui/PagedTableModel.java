@@ -0,0 +1,235 @@
+package ArenaGame.ui;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table model that fetches its rows from a DAO one page at a time as the
+ * JTable asks for them, so opening a table costs one small query whether
+ * the database holds ten rows or ten million.
+ * <p>
+ * Pages are read with keyset paging: each page starts after the last row of
+ * the page before it, which the model remembers. Only a bounded number of
+ * pages is cached, older ones are dropped and re-read when scrolled back to.
+ * The row count grows as pages arrive, with one placeholder row at the end
+ * while more rows may exist; rendering that row requests the next page.
+ * Sorting and filtering are passed to the DAO and reset the model.
+ * Must be used from the Event Dispatch Thread, queries run on a SwingWorker.
+ *
+ * @param <R> row type returned by the DAO
+ */
+class PagedTableModel<R> extends AbstractTableModel {
+
+    static final int PAGE_SIZE = 100;
+    static final int MAX_CACHED_PAGES = 20;
+    static final String LOADING = "Loading...";
+
+    /**
+     * Reads rows from the database.
+     */
+    interface PageSource<R> {
+
+        /**
+         * @param after      last row of the previous page, or null for the first page
+         * @param sortColumn model column to sort by
+         * @param ascending  sort direction
+         * @param filter     filter text, empty for none
+         * @param limit      page size
+         * @return up to limit rows
+         */
+        List<R> fetch(R after, int sortColumn, boolean ascending, String filter, int limit);
+
+        /**
+         * @return the value shown in the given column
+         */
+        Object valueAt(R row, int column);
+    }
+
+    private final String[] columnNames;
+    private final PageSource<R> source;
+
+    // Least recently used pages are dropped first
+    private final Map<Integer, List<R>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<R>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    private final List<R> pageEnds = new ArrayList<>(); // last row of each page read so far
+    private final Set<Integer> loading = new HashSet<>();
+
+    private int sortColumn;
+    private boolean ascending;
+    private String filter = "";
+    private int loadedRows;
+    private boolean complete;
+    private int generation; // bumped on reset so late pages from an old query are ignored
+
+    /**
+     * @param columnNames column headers
+     * @param sortColumn  initial sort column
+     * @param ascending   initial sort direction
+     * @param source      where rows come from
+     */
+    PagedTableModel(String[] columnNames, int sortColumn, boolean ascending, PageSource<R> source) {
+        this.columnNames = columnNames.clone();
+        this.sortColumn = sortColumn;
+        this.ascending = ascending;
+        this.source = source;
+    }
+
+    @Override
+    public int getRowCount() {
+        return complete ? loadedRows : loadedRows + 1;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        int page = rowIndex / PAGE_SIZE;
+        List<R> rows = pages.get(page);
+        if (rows == null) {
+            request(page);
+            return columnIndex == 0 ? LOADING : "";
+        }
+        int offset = rowIndex % PAGE_SIZE;
+        return offset < rows.size() ? source.valueAt(rows.get(offset), columnIndex) : "";
+    }
+
+    /**
+     * Reads the first page on the calling thread, so a caller can tell
+     * straight away whether there is anything to show.
+     *
+     * @return true if at least one row exists
+     */
+    boolean loadFirstPage() {
+        int page = 0;
+        loading.add(page);
+        pageLoaded(generation, page, source.fetch(null, sortColumn, ascending, filter, PAGE_SIZE));
+        return loadedRows > 0;
+    }
+
+    /**
+     * Sorts by a column, clicking the current sort column flips the direction.
+     */
+    void sortBy(int column) {
+        if (column == sortColumn) {
+            ascending = !ascending;
+        } else {
+            sortColumn = column;
+        }
+        reset();
+    }
+
+    /**
+     * Shows only rows matching the filter text, blank shows everything.
+     */
+    void setFilter(String text) {
+        filter = text == null ? "" : text.trim();
+        reset();
+    }
+
+    int getSortColumn() {
+        return sortColumn;
+    }
+
+    boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * @return number of pages currently held in memory
+     */
+    int getCachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Drops every cached page and starts again from the first page.
+     */
+    void reset() {
+        generation++;
+        pages.clear();
+        pageEnds.clear();
+        loading.clear();
+        loadedRows = 0;
+        complete = false;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Starts reading a page in the background unless it is already on its
+     * way or its start point is not known yet.
+     */
+    private void request(int page) {
+        if (loading.contains(page) || page > pageEnds.size()) {
+            return;
+        }
+        R after = page == 0 ? null : pageEnds.get(page - 1);
+        int requestGeneration = generation;
+        int column = sortColumn;
+        boolean direction = ascending;
+        String text = filter;
+        loading.add(page);
+
+        new SwingWorker<List<R>, Void>() {
+            @Override
+            protected List<R> doInBackground() {
+                return source.fetch(after, column, direction, text, PAGE_SIZE);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    pageLoaded(requestGeneration, page, get());
+                } catch (InterruptedException | ExecutionException exception) {
+                    System.err.println("Failed to load table page: " + exception.getMessage());
+                    loading.remove(page);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Stores a page and tells the table which rows changed.
+     */
+    private void pageLoaded(int requestGeneration, int page, List<R> rows) {
+        if (requestGeneration != generation) {
+            return; // sort or filter changed while this page was loading
+        }
+        loading.remove(page);
+        pages.put(page, rows);
+        if (page == pageEnds.size() && !rows.isEmpty()) {
+            pageEnds.add(rows.get(rows.size() - 1));
+        }
+
+        int oldCount = getRowCount();
+        int start = page * PAGE_SIZE;
+        loadedRows = Math.max(loadedRows, start + rows.size());
+        if (page == pageEnds.size() - 1 || rows.isEmpty()) {
+            complete = complete || rows.size() < PAGE_SIZE;
+        }
+        int newCount = getRowCount();
+
+        int updatedEnd = Math.min(Math.min(oldCount, newCount), start + PAGE_SIZE);
+        if (start < updatedEnd) {
+            fireTableRowsUpdated(start, updatedEnd - 1);
+        }
+        if (newCount > oldCount) {
+            fireTableRowsInserted(oldCount, newCount - 1);
+        } else if (newCount < oldCount) {
+            fireTableRowsDeleted(newCount, oldCount - 1);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ArenaGame.ui;
+
+import ArenaGame.BattleSnapshot;
+import ArenaGame.storage.LogEntry;
+import java.util.List;
+
+/**
+ * Everything a BattleFrame needs to show after one player action and the
+ * enemy's reply, produced by BattleEngine and applied in a single EDT pass.
+ *
+ * @param state   both gladiators' stats after the turn
+ * @param log     messages for the battle log, in order
+ * @param records rows for the BATTLE_LOGS table, in order
+ * @param outcome whether the battle continues
+ */
+record TurnResult(BattleSnapshot state, List<String> log,
+        List<LogEntry> records, Outcome outcome) {
+
+    enum Outcome { ONGOING, WON, LOST }
+}
@@ -15,10 +15,27 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+    ArenaGame.ai.MonteCarloStrategyTest.class,
     ArenaGame.database.BattleLogDAOTest.class,
     ArenaGame.database.DatabaseManagerTest.class,
+    ArenaGame.database.GameStateSnapshotTest.class,
+    ArenaGame.database.GladiatorDAOTest.class,
+    ArenaGame.database.GladiatorStatsCacheTest.class,
+    ArenaGame.database.InventoryDAOTest.class,
+    ArenaGame.database.RosterTransferTest.class,
+    ArenaGame.database.StartupSnapshotTest.class,
+    ArenaGame.CombatRulesTest.class,
+    ArenaGame.ConsoleRendererTest.class,
+    ArenaGame.DamageTableTest.class,
+    ArenaGame.GladiatorTemplateTest.class,
     ArenaGame.ItemTest.class,
     ArenaGame.InventoryTest.class,
-    ArenaGame.PlayerGladiatorTest.class
+    ArenaGame.PlayerGladiatorTest.class,
+    ArenaGame.matchmaking.MatchmakingQueueTest.class,
+    ArenaGame.matchmaking.PowerIndexTest.class,
+    ArenaGame.storage.RepositoriesTest.class,
+    ArenaGame.tournament.TournamentEngineTest.class,
+    ArenaGame.ui.BattleEngineTest.class,
+    ArenaGame.ui.BoundedLogDocumentTest.class
 })
 public class AllArenaTests { }
@@ -0,0 +1,93 @@
+package ArenaGame;
+
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class CombatRulesTest {
+
+    /**
+     * Test of playerHit and enemyHit methods, of class CombatRules.
+     * The default console rules must match the original formula.
+     */
+    @Test
+    public void testDefaultConsoleRulesMatchOriginalFormula() {
+        CombatRules rules = CombatRules.compile(new Properties(), CombatRules.CONSOLE);
+        for (int defense = 0; defense < 300; defense++) {
+            for (int attack = 0; attack < 300; attack++) {
+                for (boolean blocking : new boolean[]{false, true}) {
+                    int expected = DamageTable.referenceDamage(attack, defense, blocking);
+                    assertEquals(expected, rules.playerHit(attack, defense, blocking));
+                    assertEquals(expected, rules.enemyHit(attack, defense, blocking));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of playerHit and enemyHit methods, of class CombatRules.
+     * The default GUI rules must match the original battle window.
+     */
+    @Test
+    public void testDefaultGuiRulesMatchBattleWindow() {
+        CombatRules rules = CombatRules.compile(new Properties(), CombatRules.GUI);
+        for (int defense = 0; defense < 200; defense++) {
+            for (int attack = 1; attack < 200; attack++) {
+                int hit = defense < attack ? attack - defense : 1;
+                assertEquals(hit, rules.playerHit(attack, defense, false));
+                assertEquals(hit / 2, rules.playerHit(attack, defense, true));
+                assertEquals(attack, rules.enemyHit(attack, defense, false));
+                assertEquals(Math.max(1, attack / 2), rules.enemyHit(attack, defense, true));
+            }
+        }
+    }
+
+    /**
+     * Test of compile method, of class CombatRules.
+     */
+    @Test
+    public void testFileValuesOverrideDefaultsForBothSides() {
+        Properties file = new Properties();
+        file.setProperty("gui.damage.formula", "scaled");
+        file.setProperty("gui.damage.minimum", "1");
+        file.setProperty("gui.guard.rounding", "up");
+        CombatRules rules = CombatRules.compile(file, CombatRules.GUI);
+        int expected = DamageTable.referenceDamage(40, 10, true);
+        assertEquals("Player hits should use the file's formula", expected, rules.playerHit(40, 10, true));
+        assertEquals("A rule without an enemy override applies to the enemy too", expected, rules.enemyHit(40, 10, true));
+    }
+
+    /**
+     * Test of compile method, of class CombatRules.
+     */
+    @Test
+    public void testInvalidValuesFallBackToDefaults() {
+        Properties file = new Properties();
+        file.setProperty("console.damage.formula", "magic");
+        file.setProperty("console.damage.scale", "-3");
+        file.setProperty("console.ai.weights", "1,2");
+        CombatRules rules = CombatRules.compile(file, CombatRules.CONSOLE);
+        assertEquals(DamageTable.referenceDamage(55, 20, false), rules.playerHit(55, 20, false));
+        assertNotNull(rules.strategy(new Random(1)));
+    }
+
+    /**
+     * Test of taunt method, of class CombatRules.
+     */
+    @Test
+    public void testTauntLowersStatsOnlyWhenEnabled() {
+        Gladiator target = new EnemyGladiator("Spartacus", 100, 100, 50, 10, new Random(1));
+        Random random = new Random(3);
+        long before = new Random(3).nextLong();
+        assertNull("Console taunts have no effect by default",
+                CombatRules.compile(new Properties(), CombatRules.CONSOLE).taunt(target, random));
+        assertEquals("A taunt that cannot land should not roll", before, random.nextLong());
+
+        Properties file = new Properties();
+        file.setProperty("console.taunt.chance", "100");
+        CombatRules.Taunt taunt = CombatRules.compile(file, CombatRules.CONSOLE).taunt(target, random);
+        assertEquals(new CombatRules.Taunt(10, 2), taunt);
+        assertEquals(40, target.getAttack());
+        assertEquals(8, target.getDefense());
+    }
+}
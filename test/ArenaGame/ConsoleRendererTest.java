@@ -0,0 +1,76 @@
+package ArenaGame;
+
+import java.io.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class ConsoleRendererTest {
+
+    private ByteArrayOutputStream bytes;
+
+    @Before
+    public void setUp() {
+        bytes = new ByteArrayOutputStream();
+    }
+
+    @After
+    public void tearDown() {
+        bytes = null;
+    }
+
+    private ConsoleRenderer renderer(boolean ansi) {
+        return new ConsoleRenderer(new PrintStream(bytes, true), ansi);
+    }
+
+    /**
+     * Test of print and flush methods, of class ConsoleRenderer.
+     */
+    @Test
+    public void testPlainOutputIsBufferedUntilFlush() {
+        ConsoleRenderer renderer = renderer(false);
+        renderer.beginFrame();
+        renderer.println("You attack.");
+        renderer.print("> ");
+        assertEquals("Nothing should be written before a flush", 0, bytes.size());
+        renderer.awaitInput();
+        assertEquals("Plain output should have no ANSI codes", "You attack.\n> ", bytes.toString());
+    }
+
+    /**
+     * Test of beginFrame method, of class ConsoleRenderer.
+     */
+    @Test
+    public void testNextFrameOnlyRewritesChangedRows() {
+        ConsoleRenderer renderer = renderer(true);
+        renderer.beginFrame();
+        renderer.println("======= ARENA STATUS =======");
+        renderer.println("Fynn       HP: 100 /100");
+        renderer.awaitInput();
+
+        bytes.reset();
+        renderer.beginFrame();
+        renderer.println("======= ARENA STATUS =======");
+        renderer.println("Fynn       HP: 82  /100");
+        renderer.awaitInput();
+
+        String frame = bytes.toString();
+        assertFalse("Unchanged rows should not be written again", frame.contains("ARENA STATUS"));
+        assertTrue("Changed rows should be written in place", frame.contains("\033[2;1HFynn       HP: 82  /100"));
+    }
+
+    /**
+     * Test of pause method, of class Pacing.
+     */
+    @Test
+    public void testTurboPacingDoesNotSleep() {
+        Pacing previous = Pacing.current();
+        Pacing.set(Pacing.TURBO);
+        try {
+            long start = System.nanoTime();
+            Pacing.pause(5000);
+            assertTrue("Turbo pacing should return immediately", System.nanoTime() - start < 1_000_000_000L);
+        } finally {
+            Pacing.set(previous);
+        }
+    }
+}
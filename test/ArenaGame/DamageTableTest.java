@@ -0,0 +1,38 @@
+package ArenaGame;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class DamageTableTest {
+
+    /**
+     * Test of damage method, of class DamageTable.
+     * Every damage and defense value in the table range, blocking or not,
+     * must match the original floating-point formula exactly.
+     */
+    @Test
+    public void testMatchesFloatingPointFormulaExhaustively() {
+        for (int defense = 0; defense <= DamageTable.MAX_DEFENSE; defense++) {
+            for (int damage = 0; damage <= DamageTable.MAX_DAMAGE; damage++) {
+                for (boolean blocking : new boolean[]{false, true}) {
+                    int expected = DamageTable.referenceDamage(damage, defense, blocking);
+                    int actual = DamageTable.damage(damage, defense, blocking);
+                    if (expected != actual) {
+                        fail("damage " + damage + " defense " + defense + " blocking " + blocking
+                                + ": expected " + expected + " but was " + actual);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of damage method, of class DamageTable.
+     */
+    @Test
+    public void testOutsideTableUsesFormula() {
+        assertEquals("Large hits should fall back to the formula",
+                DamageTable.referenceDamage(5000, 2000, true), DamageTable.damage(5000, 2000, true));
+        assertEquals("Damage is always at least 1", 1, DamageTable.damage(0, 10, false));
+    }
+}
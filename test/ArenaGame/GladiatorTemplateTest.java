@@ -0,0 +1,49 @@
+package ArenaGame;
+
+import java.util.Random;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class GladiatorTemplateTest {
+
+    private GladiatorTemplate template;
+
+    @Before
+    public void setUp() {
+        template = new GladiatorTemplate("Maximus", 120, 120, 45, 10);
+    }
+
+    @After
+    public void tearDown() {
+        template = null;
+    }
+
+    /**
+     * Test of spawn method, of class GladiatorTemplate.
+     */
+    @Test
+    public void testSpawnCopiesTemplateStats() {
+        EnemyGladiator enemy = template.spawn(new Random(1));
+        assertEquals("Maximus", enemy.getName());
+        assertEquals(120, enemy.getHealth());
+        assertEquals(120, enemy.getMaxHealth());
+        assertEquals(45, enemy.getAttack());
+        assertEquals(10, enemy.getDefense());
+    }
+
+    /**
+     * Test of spawn method, of class GladiatorTemplate.
+     * Damage from one battle must not carry over to the next.
+     */
+    @Test
+    public void testEachBattleStartsAtFullHealth() {
+        EnemyGladiator first = template.spawn(new Random(1));
+        first.applyDamage(80);
+        first.setAttack(1);
+        EnemyGladiator second = template.spawn(new Random(2));
+        assertNotSame(first, second);
+        assertEquals("A new battle should start from the template's health", 120, second.getHealth());
+        assertEquals(45, second.getAttack());
+        assertEquals("The template itself never changes", 120, template.health());
+    }
+}
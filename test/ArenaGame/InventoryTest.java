@@ -68,5 +68,41 @@ public class InventoryTest {
         Item result = inventory.useItem(10);
         assertNull("Using invalid index should return null", result);
     }
+    /**
+     * Test of count method, of class Inventory.
+     */
+    @Test
+    public void testCopiesOfAnItemShareOneEntry() {
+        inventory.add(ItemRegistry.HEALTH_POTION);
+        inventory.addItem(new Item("health potion", "Restores 20 HP", "heal", 20));
+        inventory.add(ItemRegistry.BERSERK_POTION);
+        assertEquals("Every copy should count towards the size", 3, inventory.size());
+        assertEquals("Copies of an item should be listed once", 2, inventory.kinds());
+        assertEquals(2, inventory.count(ItemRegistry.HEALTH_POTION));
+        assertEquals(ItemRegistry.BERSERK_POTION, inventory.idAt(1));
+        assertSame(ItemRegistry.get(ItemRegistry.HEALTH_POTION), inventory.useItem(0));
+        assertEquals(1, inventory.count(ItemRegistry.HEALTH_POTION));
+    }
+
+    /**
+     * Test of getItemByName method, of class Inventory.
+     */
+    @Test
+    public void testGetItemByNameRemovesOneCopy() {
+        inventory.add(ItemRegistry.BERSERK_POTION);
+        assertEquals("Berserk Potion", inventory.getItemByName("BERSERK POTION").getName());
+        assertNull("An item that is no longer held should not be found", inventory.getItemByName("Berserk Potion"));
+        assertNull("An unknown item should not be found", inventory.getItemByName("Elixir"));
+        assertTrue(inventory.isEmpty());
+    }
+
+    /**
+     * Test of addItem method, of class Inventory.
+     */
+    @Test
+    public void testUnknownItemIsNotAdded() {
+        inventory.addItem(new Item("Elixir", "Not in the registry", "heal", 99));
+        assertTrue("Items missing from the registry cannot be held", inventory.isEmpty());
+    }
     
 }
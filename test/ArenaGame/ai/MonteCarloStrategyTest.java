@@ -0,0 +1,94 @@
+package ArenaGame.ai;
+
+import ArenaGame.EnemyGladiator;
+import java.util.concurrent.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class MonteCarloStrategyTest {
+
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        pool = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+        pool = null;
+    }
+
+    /**
+     * Test of chooseAction method, of class MonteCarloStrategy.
+     */
+    @Test
+    public void testAttacksWhenOneHitWins() {
+        // generous budget, a cold or busy pool may not start a 5 ms search in time
+        MonteCarloStrategy strategy = new MonteCarloStrategy(100_000_000L, 2, pool);
+        // both gladiators are one hit from defeat, the player hits hard
+        BattleState state = new BattleState(5, 100, 40, 0, false, 5, 100, 80, 0, false);
+        assertEquals("Enemy should take the winning hit", EnemyGladiator.ATTACK, strategy.chooseAction(state));
+    }
+
+    /**
+     * Test of chooseAction method, of class MonteCarloStrategy.
+     */
+    @Test
+    public void testDecisionStaysWithinBudget() {
+        long budget = 5_000_000L;
+        MonteCarloStrategy strategy = new MonteCarloStrategy(budget, 2, pool);
+        BattleState state = new BattleState(120, 120, 30, 10, false, 100, 100, 50, 5, false);
+        for (int i = 0; i < 5; i++) {
+            strategy.chooseAction(state); // warm up
+        }
+        long start = System.nanoTime();
+        strategy.chooseAction(state);
+        long elapsed = System.nanoTime() - start;
+        assertTrue("Decision took " + elapsed / 1_000_000.0 + " ms", elapsed < budget * 4);
+    }
+
+    /**
+     * Test of chooseAction method, of class MonteCarloStrategy.
+     */
+    @Test
+    public void testSaturatedPoolFallsBackWithinBudget() {
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor busy = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        try {
+            busy.execute(() -> {
+                try {
+                    release.await(); // holds the only worker, no search can start
+                } catch (InterruptedException stopped) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            long budget = MonteCarloStrategy.DEFAULT_BUDGET_NANOS;
+            MonteCarloStrategy strategy = new MonteCarloStrategy(budget, 2, busy);
+            BattleState state = new BattleState(120, 120, 30, 10, false, 100, 100, 50, 5, false);
+            // the first decision queues a search that misses its deadline, later ones are refused outright
+            for (int i = 0; i < 10; i++) {
+                long start = System.nanoTime();
+                int action = strategy.chooseAction(state);
+                long elapsed = System.nanoTime() - start;
+                assertTrue("Decision took " + elapsed / 1_000_000.0 + " ms", elapsed < budget * 4);
+                assertTrue("Fallback should pick a valid action, got " + action,
+                        action == EnemyGladiator.ATTACK || action == EnemyGladiator.GUARD || action == EnemyGladiator.TAUNT);
+            }
+        } finally {
+            release.countDown();
+            busy.shutdownNow();
+        }
+    }
+
+    /**
+     * Test of chooseAction method, of class WeightedRandomStrategy.
+     */
+    @Test
+    public void testWeightedStrategyGuardsWhenLow() {
+        EnemyStrategy strategy = WeightedRandomStrategy.standard(new java.util.Random(1));
+        BattleState state = new BattleState(10, 100, 30, 10, false, 100, 100, 50, 5, false);
+        assertEquals("Cautious enemy should guard below 30% health", EnemyGladiator.GUARD, strategy.chooseAction(state));
+    }
+}
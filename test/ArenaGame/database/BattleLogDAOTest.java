@@ -1,5 +1,6 @@
 package ArenaGame.database;
 
+import ArenaGame.storage.LogRow;
 import java.util.*;
 import org.junit.*;
 import static org.junit.Assert.*;
@@ -8,6 +9,11 @@ public class BattleLogDAOTest {
 
     private BattleLogDAO BLdao;
 
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
     @Before
     public void setUp() {
         BLdao = new BattleLogDAO();
@@ -75,4 +81,36 @@ public class BattleLogDAOTest {
         int num = BLdao.numLogs();
         assertEquals("Log count should be 0 after clearing", 0, num);
     }
+
+    /**
+     * Test of getLogPage method, of class BattleLogDAO.
+     */
+    @Test
+    public void testGetLogPageWalksAllRowsNewestFirst() {
+        for (int i = 0; i < 5; i++) {
+            BLdao.addBattleLog("Fynn" + i, "Spartacus", "WIN");
+        }
+        List<LogRow> first = BLdao.getLogPage(null, "LOG_ID", false, null, 2);
+        List<LogRow> second = BLdao.getLogPage(first.get(1), "LOG_ID", false, null, 2);
+        List<LogRow> third = BLdao.getLogPage(second.get(1), "LOG_ID", false, null, 2);
+        assertEquals("Newest log should come first", "Fynn4", first.get(0).playerName());
+        assertEquals("Second page should continue after the first", "Fynn2", second.get(0).playerName());
+        assertEquals("Last page should hold the remaining row", 1, third.size());
+        assertEquals("Oldest log should come last", "Fynn0", third.get(0).playerName());
+    }
+
+    /**
+     * Test of getLogPage method, of class BattleLogDAO.
+     */
+    @Test
+    public void testGetLogPageFiltersAndSortsInDatabase() {
+        BLdao.addBattleLog("Devon", "Commodus", "LOSS");
+        BLdao.addBattleLog("Fynn", "Spartacus", "WIN");
+        BLdao.addBattleLog("Fynn", "Brutus", "WIN");
+        List<LogRow> rows = BLdao.getLogPage(null, "ENEMY_NAME", true, "Fy", 10);
+        assertEquals("Only Fynn's logs should match the filter", 2, rows.size());
+        assertEquals("Rows should be sorted by enemy name", "Brutus", rows.get(0).enemyName());
+        List<LogRow> next = BLdao.getLogPage(rows.get(0), "ENEMY_NAME", true, "Fy", 10);
+        assertEquals("Keyset page should start after the given row", "Spartacus", next.get(0).enemyName());
+    }
 }
@@ -8,6 +8,11 @@ public class DatabaseManagerTest {
 
     private DatabaseManager dbManager;
 
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
     @Before
     public void setUp() {
         dbManager = DatabaseManager.getInstance();
@@ -80,4 +85,67 @@ public class DatabaseManagerTest {
         Connection connection2 = DatabaseManager.getInstance().getConnection();
         assertSame("Both connection calls should return the same instance confirming singletion behaviour", connection1, connection2 );
     }
+
+    /**
+     * Test of useInMemory method, of class DatabaseManager.
+     */
+    @Test
+    public void testInMemoryProfile() throws SQLException {
+        assertEquals(DatabaseManager.MODE_MEMORY, dbManager.getMode());
+        assertTrue("Tests should not use the arenaDB directory",
+                dbManager.getConnection().getMetaData().getURL().startsWith("jdbc:derby:memory:"));
+    }
+
+    /**
+     * Test of useInMemory method, of class DatabaseManager.
+     */
+    @Test
+    public void testUseInMemoryStartsEmpty() throws SQLException {
+        try (Statement statement = dbManager.getConnection().createStatement()) {
+            statement.executeUpdate("CREATE TABLE SCRATCH (ID INT)");
+        }
+        dbManager = DatabaseManager.useInMemory();
+        try (ResultSet rs = dbManager.getConnection().getMetaData().getTables(null, "ARENA", "SCRATCH", null)) {
+            assertFalse("A fresh in-memory database should have no tables", rs.next());
+        }
+    }
+
+    /**
+     * Test of inTransaction method, of class DatabaseManager.
+     */
+    @Test
+    public void testInTransactionRollsBackOnFailure() throws SQLException {
+        Connection connection = dbManager.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE TX_CHECK (ID INT)");
+        }
+        try {
+            DatabaseManager.inTransaction(connection, () -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("INSERT INTO TX_CHECK VALUES (1)");
+                }
+                throw new IllegalStateException("fails after the insert");
+            });
+            fail("The work's exception should be rethrown");
+        } catch (IllegalStateException expected) {
+            // rolled back
+        }
+        int committed = DatabaseManager.inTransaction(connection, () -> {
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate("INSERT INTO TX_CHECK VALUES (2)");
+            }
+        });
+        assertEquals(1, committed);
+        assertTrue("Autocommit should be back on", connection.getAutoCommit());
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT ID FROM TX_CHECK")) {
+            assertTrue(rs.next());
+            assertEquals("Only the committed row should remain", 2, rs.getInt(1));
+            assertFalse(rs.next());
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DROP TABLE TX_CHECK");
+            }
+        }
+    }
 }
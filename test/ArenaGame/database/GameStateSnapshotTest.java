@@ -0,0 +1,134 @@
+package ArenaGame.database;
+
+import ArenaGame.Inventory;
+import ArenaGame.ItemRegistry;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class GameStateSnapshotTest {
+
+    private PlayerDAO playerDAO;
+    private GladiatorDAO gladiatorDAO;
+    private BattleLogDAO battleLogDAO;
+    private InventoryDAO inventoryDAO;
+    private GameStateSnapshot snapshot;
+    private Path directory;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        playerDAO = new PlayerDAO();
+        gladiatorDAO = new GladiatorDAO();
+        battleLogDAO = new BattleLogDAO();
+        inventoryDAO = new InventoryDAO();
+        snapshot = new GameStateSnapshot(DatabaseManager.getInstance().getConnection(), 2);
+        directory = Files.createTempDirectory("arena-snapshot");
+
+        playerDAO.resetScores();
+        battleLogDAO.clearLogs();
+        inventoryDAO.clearInventories();
+        gladiatorDAO.resetGladiators();
+        playerDAO.addPlayer("Fynn");
+        playerDAO.updateScore("Fynn", 3);
+        playerDAO.addPlayer("Devon");
+        battleLogDAO.addBattleLog("Fynn", "Spartacus", "WIN");
+        battleLogDAO.addBattleLog("Devon", "Maximus", "LOSS");
+        battleLogDAO.addBattleLog("Fynn", "Commodus", "WIN");
+        Inventory inventory = Inventory.starter();
+        inventory.add(ItemRegistry.BERSERK_POTION, 2);
+        inventoryDAO.saveInventory("Fynn", inventory);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Test of exportDatabase and restoreDatabase methods, of class GameStateSnapshot.
+     */
+    @Test
+    public void testDatabaseRoundTrip() throws Exception {
+        Path file = directory.resolve("game.snapshot");
+        Map<String, Integer> players = playerDAO.getAllPlayers();
+        List<String> logs = battleLogDAO.getLogs();
+        GameStateSnapshot.Result exported = snapshot.exportDatabase(file);
+        assertEquals(new GameStateSnapshot.Result(GameStateSnapshot.Source.DATABASE, 2, 3, 3, ItemRegistry.count()), exported);
+        java.sql.Connection connection = DatabaseManager.getInstance().getConnection();
+        assertTrue("The export's transaction should be closed", connection.getAutoCommit());
+        assertEquals("Isolation should be restored after the export",
+                java.sql.Connection.TRANSACTION_READ_COMMITTED, connection.getTransactionIsolation());
+
+        playerDAO.updateScore("Fynn", 99);
+        battleLogDAO.clearLogs();
+        gladiatorDAO.addGladiator("Brutus", 80, 80, 20, 2);
+
+        assertEquals(exported, snapshot.restoreDatabase(file));
+        assertEquals(players, playerDAO.getAllPlayers());
+        assertEquals("Logs and their timestamps should come back in order", logs, battleLogDAO.getLogs());
+        assertEquals(3, gladiatorDAO.getAllGladiators().size());
+        assertEquals(3, inventoryDAO.loadPlayer("Fynn").inventory().count(ItemRegistry.BERSERK_POTION));
+    }
+
+    /**
+     * Test of restoreDatabase method, of class GameStateSnapshot.
+     */
+    @Test
+    public void testDamagedSnapshotChangesNothing() throws Exception {
+        Path file = directory.resolve("game.snapshot");
+        snapshot.exportDatabase(file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(file, bytes);
+        playerDAO.updateScore("Fynn", 42);
+
+        try {
+            snapshot.restoreDatabase(file);
+            fail("A damaged snapshot should be refused");
+        } catch (IOException expected) {
+            // gzip or snapshot checksum mismatch
+        }
+        assertEquals("The failed restore should be rolled back", 42, playerDAO.getScore("Fynn"));
+        assertEquals(3, battleLogDAO.numLogs());
+    }
+
+    /**
+     * Test of exportFiles and restoreFiles methods, of class GameStateSnapshot.
+     */
+    @Test
+    public void testFilesRoundTripAndKindCheck() throws Exception {
+        Path scores = directory.resolve("scores.txt");
+        Path battles = directory.resolve("battles.log");
+        Files.writeString(scores, "Fynn:3\nDevon:0\n");
+        Files.writeString(battles, "[today] Fynn defeated Spartacus\n");
+        Path file = directory.resolve("files.snapshot");
+        GameStateSnapshot.Result exported = GameStateSnapshot.exportFiles(directory, file);
+        assertEquals(new GameStateSnapshot.Result(GameStateSnapshot.Source.FILES, 2, 0, 1, 0), exported);
+
+        Files.writeString(scores, "Someone:100\n");
+        Files.delete(battles);
+        assertEquals(exported, GameStateSnapshot.restoreFiles(file, directory));
+        assertEquals("Fynn:3\nDevon:0\n", Files.readString(scores).replace(System.lineSeparator(), "\n"));
+        assertTrue(Files.exists(battles));
+
+        try {
+            snapshot.restoreDatabase(file);
+            fail("A file snapshot should not be restored into the database");
+        } catch (IOException expected) {
+            // wrong kind
+        }
+        assertEquals(3, playerDAO.getScore("Fynn"));
+    }
+}
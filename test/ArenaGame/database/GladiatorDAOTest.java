@@ -0,0 +1,74 @@
+package ArenaGame.database;
+
+import ArenaGame.Gladiator;
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.PlayerGladiator;
+import java.sql.*;
+import java.util.Random;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class GladiatorDAOTest {
+
+    private GladiatorDAO gladiatorDAO;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() {
+        gladiatorDAO = new GladiatorDAO();
+        gladiatorDAO.resetGladiators(); // Spartacus 215, Maximus 275, Commodus 186 power
+    }
+
+    @After
+    public void tearDown() {
+        gladiatorDAO.resetGladiators();
+        gladiatorDAO = null;
+    }
+
+    /**
+     * Test of the POWER column, of class GladiatorDAO.
+     */
+    @Test
+    public void testPowerColumnMatchesTemplates() throws SQLException {
+        Connection connection = DatabaseManager.getInstance().getConnection();
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT NAME, POWER FROM GLADIATORS")) {
+            int rows = 0;
+            while (rs.next()) {
+                for (GladiatorTemplate gladiator : gladiatorDAO.getAllGladiators()) {
+                    if (gladiator.name().equals(rs.getString("NAME"))) {
+                        assertEquals(gladiator.power(), rs.getInt("POWER"));
+                        rows++;
+                    }
+                }
+            }
+            assertEquals(3, rows);
+        }
+    }
+
+    /**
+     * Test of countGladiatorsInBand and getGladiatorInBand methods, of class GladiatorDAO.
+     */
+    @Test
+    public void testBandQueries() {
+        assertEquals(2, gladiatorDAO.countGladiatorsInBand(180, 220));
+        assertEquals("Maximus", gladiatorDAO.getGladiatorInBand(250, 300, new Random()).name());
+        assertNull(gladiatorDAO.getGladiatorInBand(300, 400, new Random()));
+    }
+
+    /**
+     * Test of getMatchedGladiator method, of class GladiatorDAO.
+     */
+    @Test
+    public void testMatchedGladiatorIsNearPlayerPower() {
+        Gladiator player = new PlayerGladiator("Hero", 120, 120, 45, 10); // power 275
+        Random random = new Random(3);
+        for (int i = 0; i < 20; i++) {
+            assertEquals("Maximus", gladiatorDAO.getMatchedGladiator(player, random).getName());
+        }
+    }
+}
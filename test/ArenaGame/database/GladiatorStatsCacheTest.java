@@ -0,0 +1,103 @@
+package ArenaGame.database;
+
+import ArenaGame.GladiatorTemplate;
+import java.sql.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class GladiatorStatsCacheTest {
+
+    private GladiatorDAO gladiatorDAO;
+    private GladiatorStatsCache cache;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() {
+        gladiatorDAO = new GladiatorDAO();
+        gladiatorDAO.resetGladiators();
+        cache = GladiatorStatsCache.get();
+    }
+
+    @After
+    public void tearDown() {
+        cache.stopFlushing();
+        gladiatorDAO.resetGladiators();
+        gladiatorDAO = null;
+    }
+
+    /**
+     * Reads a gladiator's attack straight from the table, past every cache
+     */
+    private static int storedAttack(String name) throws SQLException {
+        Connection connection = DatabaseManager.getInstance().getConnection();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ATTACK FROM GLADIATORS WHERE NAME = ?")) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue("Gladiator should be in the table", rs.next());
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Test of updateGladiator method, of class GladiatorDAO.
+     */
+    @Test
+    public void testUpdateGladiatorIsSaved() throws SQLException {
+        gladiatorDAO.updateGladiator("Maximus", 120, 50, 12);
+        assertEquals(50, storedAttack("Maximus"));
+    }
+
+    /**
+     * Test of update and flush methods, of class GladiatorStatsCache.
+     */
+    @Test
+    public void testChangesAreMergedAndWrittenOnFlush() throws SQLException {
+        for (int win = 0; win < 5; win++) { // five battles, one pending row
+            cache.update("Spartacus", stats -> new GladiatorTemplate(stats.name(), stats.health(),
+                    stats.maxHealth(), stats.attack() + 1, stats.defense()));
+        }
+        assertEquals(1, cache.pendingCount());
+        assertEquals("Nothing should be written before a flush", 35, storedAttack("Spartacus"));
+        assertEquals("The roster should already show the change", 40, gladiatorDAO.getAllGladiators().get(0).attack());
+
+        assertTrue(cache.flush());
+        assertFalse(cache.isDirty());
+        assertEquals(40, storedAttack("Spartacus"));
+        assertEquals(40, gladiatorDAO.getAllGladiators().get(0).attack());
+    }
+
+    /**
+     * Test of update method, of class GladiatorStatsCache.
+     */
+    @Test
+    public void testUnknownGladiatorIsNotRecorded() {
+        assertNull(cache.update("Nobody", stats -> stats));
+        assertFalse(cache.isDirty());
+    }
+
+    /**
+     * Test of flush method, of class GladiatorStatsCache.
+     */
+    @Test
+    public void testFlushUpdatesCachedRosterWithoutReload() throws SQLException {
+        gladiatorDAO.getPowerIndex(); // roster and index cached
+        try (Statement statement = DatabaseManager.getInstance().getConnection().createStatement()) {
+            // written behind the DAO's back, only a reload would show it
+            statement.executeUpdate("UPDATE GLADIATORS SET ATTACK = 1 WHERE NAME = 'Commodus'");
+        }
+        cache.update("Maximus", stats -> new GladiatorTemplate(stats.name(), stats.health(),
+                stats.maxHealth(), 60, stats.defense()));
+        assertTrue(cache.flush());
+
+        assertEquals(60, gladiatorDAO.getStoredGladiators().get(1).attack());
+        assertEquals("The roster should not be read again after a flush", 30, gladiatorDAO.getStoredGladiators().get(2).attack());
+        GladiatorTemplate maximus = gladiatorDAO.getStoredGladiators().get(1);
+        assertEquals("The power index should hold the flushed stats",
+                maximus, gladiatorDAO.getPowerIndex().sample(maximus.power(), maximus.power(), new java.util.Random()));
+    }
+}
@@ -0,0 +1,76 @@
+package ArenaGame.database;
+
+import ArenaGame.Inventory;
+import ArenaGame.ItemRegistry;
+import ArenaGame.storage.Loadout;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class InventoryDAOTest {
+
+    private static final String PLAYER = "InventoryDAOTest";
+
+    private InventoryDAO inventoryDAO;
+    private PlayerDAO playerDAO;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() {
+        inventoryDAO = new InventoryDAO();
+        playerDAO = new PlayerDAO();
+        playerDAO.addPlayer(PLAYER);
+        playerDAO.updateScore(PLAYER, 7);
+        inventoryDAO.clearInventories();
+    }
+
+    @After
+    public void tearDown() {
+        inventoryDAO.clearInventories();
+        inventoryDAO = null;
+        playerDAO = null;
+    }
+
+    /**
+     * Test of loadPlayer method, of class InventoryDAO.
+     */
+    @Test
+    public void testNewPlayerLoadsScoreAndStarterItems() {
+        Loadout loadout = inventoryDAO.loadPlayer(PLAYER);
+        assertEquals("Score should be read with the items", 7, loadout.score());
+        assertEquals(1, loadout.inventory().count(ItemRegistry.HEALTH_POTION));
+        assertEquals(1, loadout.inventory().count(ItemRegistry.BERSERK_POTION));
+        assertFalse("A freshly loaded inventory has nothing to save", loadout.inventory().isChanged());
+    }
+
+    /**
+     * Test of saveInventory method, of class InventoryDAO.
+     */
+    @Test
+    public void testSavedItemsLoadInTheNextBattle() {
+        Inventory inventory = inventoryDAO.loadPlayer(PLAYER).inventory();
+        inventory.use(ItemRegistry.HEALTH_POTION);
+        inventory.add(ItemRegistry.BERSERK_POTION, 2);
+        inventoryDAO.saveInventory(PLAYER, inventory);
+        assertFalse("Saving should clear the change flag", inventory.isChanged());
+
+        Inventory loaded = inventoryDAO.loadPlayer(PLAYER).inventory();
+        assertEquals("A used up item should stay used up", 0, loaded.count(ItemRegistry.HEALTH_POTION));
+        assertEquals(3, loaded.count(ItemRegistry.BERSERK_POTION));
+
+        loaded.use(ItemRegistry.BERSERK_POTION);
+        inventoryDAO.saveInventory(PLAYER, loaded); // second save updates the existing rows
+        assertEquals(2, inventoryDAO.loadPlayer(PLAYER).inventory().count(ItemRegistry.BERSERK_POTION));
+    }
+
+    /**
+     * Test of loadPlayer method, of class InventoryDAO.
+     */
+    @Test
+    public void testUnknownPlayerHasNoScore() {
+        assertEquals(-1, inventoryDAO.loadPlayer("NoSuchInventoryPlayer").score());
+    }
+}
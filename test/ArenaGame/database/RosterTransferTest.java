@@ -0,0 +1,101 @@
+package ArenaGame.database;
+
+import java.io.*;
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class RosterTransferTest {
+
+    private GladiatorDAO gladiatorDAO;
+    private RosterTransfer transfer;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() {
+        gladiatorDAO = new GladiatorDAO();
+        gladiatorDAO.resetGladiators();
+        transfer = new RosterTransfer(DatabaseManager.getInstance().getConnection(), 2);
+    }
+
+    @After
+    public void tearDown() {
+        gladiatorDAO.resetGladiators();
+        gladiatorDAO = null;
+        transfer = null;
+    }
+
+    /**
+     * Test of importRoster method, of class RosterTransfer.
+     */
+    @Test
+    public void testImportSkipsDuplicatesAndMalformedLines() throws Exception {
+        String csv = RosterTransfer.CSV_HEADER + "\n"
+                + "Crixus,110,110,40,8\n"
+                + "Spartacus,1,1,1,1\n" // already in the default roster
+                + "Flamma,95,95,42,6\n"
+                + "Crixus,1,1,1,1\n" // repeated in the same file
+                + "Verus,not a number,1,1,1\n"
+                + "Priscus,105,105,38,9\n";
+        List<RosterTransfer.Result> reports = new ArrayList<>();
+        RosterTransfer.Result result = transfer.importRoster(new BufferedReader(new StringReader(csv)), reports::add);
+
+        assertEquals(new RosterTransfer.Result(6, 3, 2, 1), result);
+        assertTrue("Progress should be reported for every chunk", reports.size() >= 3);
+        assertEquals(result, reports.get(reports.size() - 1));
+        assertEquals("Imported gladiators should show in the roster", 6, gladiatorDAO.getAllGladiators().size());
+        assertEquals("A duplicate must not overwrite the stored gladiator", 35, gladiatorDAO.getAllGladiators().get(0).attack());
+    }
+
+    /**
+     * Test of exportRoster method, of class RosterTransfer.
+     */
+    @Test
+    public void testExportWritesGladiatorsFileFormat() throws Exception {
+        StringWriter text = new StringWriter();
+        RosterTransfer.Result result = transfer.exportRoster(new BufferedWriter(text), RosterTransfer.Format.TEXT, null);
+        assertEquals(3, result.written());
+        assertEquals("Spartacus,100,100,35,5\nMaximus,120,120,45,10\nCommodus,90,90,30,3\n",
+                text.toString().replace(System.lineSeparator(), "\n"));
+
+        StringWriter csv = new StringWriter();
+        transfer.exportRoster(new BufferedWriter(csv), RosterTransfer.Format.CSV, null);
+        RosterTransfer.Result again = transfer.importRoster(new BufferedReader(new StringReader(csv.toString())), null);
+        assertEquals("Re-importing an export should only find duplicates", new RosterTransfer.Result(3, 0, 3, 0), again);
+    }
+
+    /**
+     * Test of importRoster method, of class RosterTransfer.
+     */
+    @Test
+    public void testImportReleasesConnectionBetweenChunks() throws Exception {
+        String csv = "Crixus,110,110,40,8\nFlamma,95,95,42,6\nPriscus,105,105,38,9\nVerus,100,100,36,7\n";
+        List<Integer> seen = new ArrayList<>();
+        transfer.importRoster(new BufferedReader(new StringReader(csv)), soFar -> {
+            // another player's query between chunks must not wait for the whole import
+            Thread reader = new Thread(() -> seen.add(countRows()));
+            reader.start();
+            try {
+                reader.join(5000);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            assertFalse("Reader was blocked by the import", reader.isAlive());
+        });
+        assertEquals("Each chunk should already be visible to other readers", Arrays.asList(5, 7, 7), seen);
+    }
+
+    private static int countRows() {
+        try (java.sql.Statement statement = DatabaseManager.getInstance().getConnection().createStatement();
+                java.sql.ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM GLADIATORS")) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (java.sql.SQLException error) {
+            throw new IllegalStateException(error);
+        }
+    }
+}
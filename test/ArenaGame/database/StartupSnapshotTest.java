@@ -0,0 +1,67 @@
+package ArenaGame.database;
+
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.storage.PlayerRow;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.List;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class StartupSnapshotTest {
+
+    private Path file;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("arena", ".snapshot");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        file = null;
+    }
+
+    /**
+     * Test of write and read methods, of class StartupSnapshot.
+     */
+    @Test
+    public void testWriteThenReadRoundTrips() {
+        StartupSnapshot snapshot = new StartupSnapshot(
+                List.of(new PlayerRow("Fynn", 12), new PlayerRow("Devon", 7)),
+                List.of(new GladiatorTemplate("Spartacus", 100, 100, 35, 5)), 250);
+        assertTrue(snapshot.write(file));
+        assertEquals(snapshot, StartupSnapshot.read(file));
+    }
+
+    /**
+     * Test of read method, of class StartupSnapshot.
+     */
+    @Test
+    public void testMissingOrDamagedFileIsIgnored() throws IOException {
+        assertNull(StartupSnapshot.read(file.resolveSibling("no-such.snapshot")));
+        Files.writeString(file, "ARENA-SNAPSHOT 1\nP\tFynn\ttwelve\n");
+        assertNull("A damaged snapshot should not be shown", StartupSnapshot.read(file));
+    }
+
+    /**
+     * Test of capture method, of class StartupSnapshot.
+     */
+    @Test
+    public void testCaptureReadsLeadersAndRoster() {
+        PlayerDAO playerDAO = new PlayerDAO();
+        GladiatorDAO gladiatorDAO = new GladiatorDAO();
+        playerDAO.addPlayer("Fynn");
+        playerDAO.updateScore("Fynn", 4);
+        StartupSnapshot snapshot = StartupSnapshot.capture(playerDAO, gladiatorDAO);
+        assertEquals("Fynn", snapshot.leaders().get(0).name());
+        assertEquals(gladiatorDAO.getAllGladiators().size(), snapshot.rosterSize());
+        assertEquals(snapshot.rosterSize(), snapshot.roster().size());
+    }
+}
@@ -0,0 +1,115 @@
+package ArenaGame.matchmaking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class MatchmakingQueueTest {
+
+    private AtomicLong now;
+    private MatchmakingQueue queue;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(0);
+        queue = new MatchmakingQueue(name -> 0, now::get, 2, 1.0, 50);
+    }
+
+    @After
+    public void tearDown() {
+        queue = null;
+    }
+
+    /**
+     * Test of findMatch method, of class MatchmakingQueue.
+     */
+    @Test
+    public void testPairsNearestScore() {
+        queue.enqueue("Far", 20);
+        MatchmakingQueue.Ticket near = queue.enqueue("Near", 11);
+        MatchmakingQueue.Ticket player = queue.enqueue("Fynn", 10);
+        Optional<MatchmakingQueue.Match> match = queue.findMatch(player);
+        assertTrue("Player should be matched with a score inside the window", match.isPresent());
+        assertEquals("Player should be matched with the nearest score", near, match.get().second());
+        assertEquals("Only the far player should still be waiting", 1, queue.getQueueDepth());
+    }
+
+    /**
+     * Test of findMatch method, of class MatchmakingQueue.
+     */
+    @Test
+    public void testWindowWidensOverTime() {
+        MatchmakingQueue.Ticket player = queue.enqueue("Fynn", 10);
+        queue.enqueue("Devon", 20);
+        assertFalse("Scores 10 apart should not match straight away", queue.findMatch(player).isPresent());
+        now.set(8000);
+        assertTrue("Scores 10 apart should match after waiting 8 seconds", queue.findMatch(player).isPresent());
+        assertEquals("Both players should have left the queue", 0, queue.getQueueDepth());
+    }
+
+    /**
+     * Test of cancel method, of class MatchmakingQueue.
+     */
+    @Test
+    public void testCancelledPlayerIsNotMatched() {
+        MatchmakingQueue.Ticket player = queue.enqueue("Fynn", 10);
+        MatchmakingQueue.Ticket other = queue.enqueue("Devon", 10);
+        assertTrue("Waiting player should be cancelled", queue.cancel(other));
+        assertFalse("Cancelled player should not be matched", queue.findMatch(player).isPresent());
+    }
+
+    /**
+     * Test of cancel and findMatch methods racing on the same ticket, of class MatchmakingQueue.
+     */
+    @Test
+    public void testCancelRacingMatchIsEitherCancelledOrMatched() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            for (int round = 0; round < 20000; round++) {
+                MatchmakingQueue race = new MatchmakingQueue(name -> 0, now::get, 2, 1.0, 50);
+                MatchmakingQueue.Ticket player = race.enqueue("Fynn", 10);
+                race.enqueue("Devon", 10);
+                MatchmakingQueue.Ticket rival = race.enqueue("Marcus", 10); // competes for Devon
+                CyclicBarrier start = new CyclicBarrier(3); // releases all three calls together
+                Future<Optional<MatchmakingQueue.Match>> playerMatch = pool.submit(() -> {
+                    start.await();
+                    return race.findMatch(player);
+                });
+                Future<Optional<MatchmakingQueue.Match>> rivalMatch = pool.submit(() -> {
+                    start.await();
+                    return race.findMatch(rival);
+                });
+                Future<Boolean> cancelled = pool.submit(() -> {
+                    start.await();
+                    return race.cancel(player);
+                });
+                boolean matched = playerMatch.get().isPresent() || rivalMatch.get()
+                        .filter(match -> match.first() == player || match.second() == player).isPresent();
+                assertTrue("Ticket should be matched or cancelled, not both or neither", matched ^ cancelled.get());
+                assertFalse("Ticket should have left the queue", race.cancel(player));
+                assertFalse("Ticket should never be matched again", race.findMatch(player).isPresent());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Test of getStats method, of class MatchmakingQueue.
+     */
+    @Test
+    public void testStatsTrackWaits() {
+        queue.enqueue("Fynn", 10);
+        queue.enqueue("Devon", 10);
+        queue.enqueue("Marcus", 40);
+        now.set(3000);
+        List<MatchmakingQueue.Match> matches = queue.matchAll();
+        MatchmakingQueue.Stats stats = queue.getStats();
+        assertEquals("One match should be made", 1, matches.size());
+        assertEquals("One player should still be waiting", 1, stats.queueDepth());
+        assertEquals("Matched players waited 3 seconds", 3000, stats.averageWaitMillis());
+        assertEquals("Oldest waiting player waited 3 seconds", 3000, stats.oldestWaitingMillis());
+    }
+}
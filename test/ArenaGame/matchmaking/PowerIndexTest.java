@@ -0,0 +1,80 @@
+package ArenaGame.matchmaking;
+
+import ArenaGame.GladiatorTemplate;
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class PowerIndexTest {
+
+    private PowerIndex index;
+
+    @Before
+    public void setUp() {
+        // powers 100, 200, 300, 400, 1000 given in no particular order
+        index = new PowerIndex(List.of(
+                new GladiatorTemplate("Four", 400, 400, 0, 0),
+                new GladiatorTemplate("One", 100, 100, 0, 0),
+                new GladiatorTemplate("Giant", 1000, 1000, 0, 0),
+                new GladiatorTemplate("Three", 300, 300, 0, 0),
+                new GladiatorTemplate("Two", 200, 200, 0, 0)));
+    }
+
+    @After
+    public void tearDown() {
+        index = null;
+    }
+
+    /**
+     * Test of countInBand method, of class PowerIndex.
+     */
+    @Test
+    public void testCountInBandIncludesBothEnds() {
+        assertEquals(3, index.countInBand(200, 400));
+        assertEquals(0, index.countInBand(401, 999));
+        assertEquals(5, index.countInBand(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, index.countInBand(400, 200));
+    }
+
+    /**
+     * Test of sample method, of class PowerIndex.
+     */
+    @Test
+    public void testSampleStaysInBand() {
+        Random random = new Random(7);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            GladiatorTemplate pick = index.sample(150, 350, random);
+            assertTrue(pick.power() >= 150 && pick.power() <= 350);
+            seen.add(pick.name());
+        }
+        assertEquals("Every gladiator in the band should be picked", Set.of("Two", "Three"), seen);
+        assertNull(index.sample(500, 900, random));
+    }
+
+    /**
+     * Test of sampleNear method, of class PowerIndex.
+     */
+    @Test
+    public void testSampleNearWidensBandWhenNobodyIsClose() {
+        Random random = new Random(7);
+        assertEquals("Three", index.sampleNear(310, random).name());
+        assertEquals("Nobody within 15%, the closest side should win", "Giant", index.sampleNear(900, random).name());
+        assertNull(new PowerIndex(List.of()).sampleNear(100, random));
+    }
+
+    /**
+     * Test of withReplaced method, of class PowerIndex.
+     */
+    @Test
+    public void testWithReplacedMovesChangedGladiators() {
+        PowerIndex updated = index.withReplaced(List.of(
+                new GladiatorTemplate("One", 350, 350, 0, 0),
+                new GladiatorTemplate("Giant", 50, 50, 0, 0)));
+        assertEquals(5, updated.size());
+        assertEquals("Giant", updated.sample(0, 60, new Random(7)).name());
+        assertEquals("One", updated.sample(350, 350, new Random(7)).name());
+        assertEquals(0, updated.countInBand(900, 1100));
+        assertEquals("The original index must not change", 1, index.countInBand(900, 1100));
+    }
+}
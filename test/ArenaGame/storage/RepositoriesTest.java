@@ -0,0 +1,193 @@
+package ArenaGame.storage;
+
+import ArenaGame.GladiatorTemplate;
+import ArenaGame.Inventory;
+import ArenaGame.ItemRegistry;
+import ArenaGame.database.BattleLogDAO;
+import ArenaGame.database.DatabaseManager;
+import ArenaGame.database.PlayerDAO;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class RepositoriesTest {
+
+    private Repositories memory;
+    private Repositories derby;
+
+    @BeforeClass
+    public static void setUpClass() {
+        DatabaseManager.useInMemory();
+    }
+
+    @Before
+    public void setUp() {
+        memory = Repositories.open(Repositories.MEMORY);
+        derby = Repositories.open(Repositories.DERBY);
+        derby.logs().clearLogs();
+    }
+
+    @After
+    public void tearDown() {
+        memory = null;
+        derby = null;
+    }
+
+    /**
+     * Test of getPlayerPage and getLogPage, memory against Derby.
+     */
+    @Test
+    public void testMemoryPagesMatchDerby() {
+        Map<String, Integer> scores = Map.of("rp_Ann", 3, "rp_Bob", 5, "rp_Cid", 3, "rp_Dee", 0, "xx_Eve", 9);
+        for (Repositories repositories : List.of(memory, derby)) {
+            for (String name : new TreeMap<>(scores).keySet()) {
+                repositories.players().addPlayer(name);
+                repositories.players().updateScore(name, scores.get(name));
+                repositories.logs().addBattleLog(name, "Maximus", scores.get(name) == 3 ? "WIN" : "LOSS");
+                repositories.logs().addBattleLog(name, "Commodus", "LOSS");
+            }
+        }
+        for (String sort : PlayerDAO.SORT_COLUMNS) {
+            assertEquals(sort, readPlayers(derby.players(), sort), readPlayers(memory.players(), sort));
+        }
+        for (String sort : BattleLogDAO.SORT_COLUMNS) {
+            assertEquals(sort, readLogs(derby.logs(), sort), readLogs(memory.logs(), sort));
+        }
+    }
+
+    /**
+     * Test of incrementScore method, of class MemoryPlayerRepository.
+     */
+    @Test
+    public void testConcurrentIncrementsAreNotLost() throws Exception {
+        PlayerRepository players = memory.players();
+        players.addPlayer("Fynn");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> done = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            done.add(pool.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    players.incrementScore("Fynn");
+                }
+            }));
+        }
+        for (Future<?> future : done) {
+            future.get();
+        }
+        pool.shutdown();
+        assertEquals(8000, players.getScore("Fynn"));
+        assertEquals(-1, players.incrementScore("Nobody"));
+    }
+
+    /**
+     * Test of updateGladiators and resetGladiators, of class MemoryRosterRepository.
+     */
+    @Test
+    public void testMemoryRosterUpdatesAndResets() {
+        RosterRepository roster = memory.roster();
+        assertEquals(RosterRepository.DEFAULT_ROSTER, roster.getAllGladiators());
+        GladiatorTemplate stronger = new GladiatorTemplate("Maximus", 500, 500, 90, 40);
+        assertTrue(roster.updateGladiators(List.of(stronger)));
+        assertEquals(stronger, roster.getAllGladiators().get(1));
+        assertEquals(stronger.power(), roster.getPowerIndex().sample(stronger.power(), stronger.power(), new Random()).power());
+        assertNotNull(roster.getMatchedGladiator(stronger.spawn(new Random()), new Random()));
+        roster.resetGladiators();
+        assertEquals(RosterRepository.DEFAULT_ROSTER, roster.getAllGladiators());
+    }
+
+    /**
+     * Test of addBattleLogs, getLogPage and getLogs, of class FileBattleLogRepository.
+     */
+    @Test
+    public void testFileLogPagesItsOwnLinesAndShowsOlderOnes() throws IOException {
+        Path file = Files.createTempFile("arena", ".log");
+        try {
+            Files.writeString(file, "[Mon Oct 19 10:00:00 NZDT 2026] Fynn attacks. for 35 damage.\n");
+            FileBattleLogRepository logs = new FileBattleLogRepository(file);
+            logs.addBattleLogs(List.of(new LogEntry("Fynn", "Spartacus", "ATTACK"),
+                    new LogEntry("Iron Maw", "Fynn", "TAUNT FAIL")));
+            logs.addBattleLog("Fynn", "Iron Maw", "WIN");
+
+            assertEquals("Older lines are still entries", 4, logs.numLogs());
+            List<LogRow> rows = logs.getLogPage(null, "LOG_ID", true, null, 10);
+            assertEquals(List.of(1, 2, 3), rows.stream().map(LogRow::logId).collect(Collectors.toList()));
+            assertEquals("Iron Maw", rows.get(1).playerName());
+            assertEquals("TAUNT FAIL", rows.get(1).result());
+            assertEquals(1, logs.getLogPage(null, "LOG_ID", true, "Iron", 10).size());
+            assertTrue(logs.getRecentLogs(1).get(0).endsWith("Fynn vs Iron Maw → WIN"));
+            List<String> all = logs.getLogs();
+            assertEquals(4, all.size());
+            assertEquals("Older lines should be shown as written",
+                    "[Mon Oct 19 10:00:00 NZDT 2026] Fynn attacks. for 35 damage.", all.get(3));
+
+            logs.clearLogs();
+            assertEquals(0, logs.numLogs());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test of saveInventory and loadPlayer, of every InventoryRepository.
+     */
+    @Test
+    public void testInventoriesRoundTripInEveryBackend() throws IOException {
+        Path file = Files.createTempFile("arena", ".txt");
+        try {
+            derby.inventories().clearInventories();
+            List<Repositories> backends = List.of(memory, derby, new Repositories(memory.players(), memory.roster(),
+                    memory.logs(), new FileInventoryRepository(file, memory.players())));
+            for (Repositories backend : backends) {
+                backend.players().addPlayer("inv_Fynn");
+                Loadout fresh = backend.inventories().loadPlayer("inv_Fynn");
+                assertEquals(0, fresh.score());
+                assertEquals(1, fresh.inventory().count(ItemRegistry.HEALTH_POTION));
+
+                fresh.inventory().use(ItemRegistry.HEALTH_POTION);
+                fresh.inventory().add(ItemRegistry.BERSERK_POTION, 2);
+                backend.inventories().saveInventory("inv_Fynn", fresh.inventory());
+                assertFalse(fresh.inventory().isChanged());
+
+                Inventory loaded = backend.inventories().loadPlayer("inv_Fynn").inventory();
+                assertEquals(0, loaded.count(ItemRegistry.HEALTH_POTION));
+                assertEquals(3, loaded.count(ItemRegistry.BERSERK_POTION));
+                assertEquals(-1, backend.inventories().loadPlayer("inv_Nobody").score());
+
+                backend.inventories().clearInventories();
+                assertEquals(1, backend.inventories().loadPlayer("inv_Fynn").inventory().count(ItemRegistry.HEALTH_POTION));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Reads every "rp_" player two rows at a time
+     */
+    private static List<PlayerRow> readPlayers(PlayerRepository players, String sort) {
+        List<PlayerRow> all = new ArrayList<>();
+        List<PlayerRow> page = players.getPlayerPage(null, sort, false, "rp_", 2);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            page = players.getPlayerPage(page.get(page.size() - 1), sort, false, "rp_", 2);
+        }
+        return all;
+    }
+
+    /**
+     * Reads every "rp_" log two rows at a time, without ids and times
+     */
+    private static List<String> readLogs(BattleLogRepository logs, String sort) {
+        List<String> all = new ArrayList<>();
+        List<LogRow> page = logs.getLogPage(null, sort, true, "rp_", 2);
+        while (!page.isEmpty()) {
+            page.forEach(row -> all.add(row.playerName() + "/" + row.enemyName() + "/" + row.result()));
+            page = logs.getLogPage(page.get(page.size() - 1), sort, true, "rp_", 2);
+        }
+        return all;
+    }
+}
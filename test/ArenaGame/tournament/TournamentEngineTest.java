@@ -0,0 +1,53 @@
+package ArenaGame.tournament;
+
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class TournamentEngineTest {
+
+    private TournamentEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = new TournamentEngine(null, null, 7);
+    }
+
+    @After
+    public void tearDown() {
+        engine = null;
+    }
+
+    /**
+     * Test of run method, of class TournamentEngine.
+     */
+    @Test
+    public void testSingleEliminationPlaysEveryoneOut() {
+        List<Entrant> entrants = TournamentEngine.generate(100, 1);
+        TournamentEngine.Result result = engine.run(entrants, TournamentEngine.Format.SINGLE);
+        assertEquals("Single elimination should play one match per eliminated entrant", 99, result.matches());
+        assertTrue("Champion should be one of the entrants", entrants.contains(result.champion()));
+    }
+
+    /**
+     * Test of run method, of class TournamentEngine.
+     */
+    @Test
+    public void testDoubleEliminationNeedsTwoLosses() {
+        List<Entrant> entrants = TournamentEngine.generate(64, 1);
+        TournamentEngine.Result result = engine.run(entrants, TournamentEngine.Format.DOUBLE);
+        assertTrue("Double elimination should play 2n-2 or 2n-1 matches",
+                result.matches() == 126 || result.matches() == 127);
+    }
+
+    /**
+     * Test of run method, of class TournamentEngine.
+     */
+    @Test
+    public void testSameSeedSameChampion() {
+        List<Entrant> entrants = TournamentEngine.generate(256, 3);
+        Entrant first = engine.run(entrants, TournamentEngine.Format.SINGLE).champion();
+        Entrant second = new TournamentEngine(null, null, 7).run(entrants, TournamentEngine.Format.SINGLE).champion();
+        assertEquals("Parallel rounds should not change a seeded tournament's result", first, second);
+    }
+}
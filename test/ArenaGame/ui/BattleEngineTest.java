@@ -0,0 +1,79 @@
+package ArenaGame.ui;
+
+import ArenaGame.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class BattleEngineTest {
+
+    private PlayerGladiator player;
+    private EnemyGladiator enemy;
+    private BattleEngine engine;
+
+    @Before
+    public void setUp() {
+        player = new PlayerGladiator("Fynn", 10_000, 10_000, 40, 10);
+        enemy = new EnemyGladiator("Commodus", 400, 400, 30, 3, new Random(5));
+        engine = new BattleEngine(player, enemy);
+    }
+
+    @After
+    public void tearDown() {
+        engine = null;
+    }
+
+    /**
+     * Test of snapshot method, of class BattleEngine.
+     */
+    @Test
+    public void testSnapshotIsNotChangedByLaterTurns() {
+        BattleSnapshot before = engine.snapshot();
+        TurnResult turn = engine.attack();
+        assertSame("The turn should carry the published snapshot", engine.snapshot(), turn.state());
+        assertEquals(1, turn.state().turn());
+        assertEquals(400, before.enemy().health());
+        assertEquals(0, before.turn());
+        assertEquals(enemy.getHealth(), turn.state().enemy().health());
+    }
+
+    /**
+     * Test of snapshot method, of class BattleEngine.
+     * A reader on another thread must only ever see whole published turns.
+     */
+    @Test
+    public void testConcurrentReaderSeesOnlyPublishedTurns() throws Exception {
+        List<BattleSnapshot> published = new ArrayList<>();
+        published.add(engine.snapshot());
+        List<BattleSnapshot> seen = new ArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            BattleSnapshot last = null;
+            while (!done.get()) {
+                BattleSnapshot current = engine.snapshot();
+                if (current != last) {
+                    seen.add(current);
+                    last = current;
+                }
+            }
+        });
+        reader.start();
+        TurnResult turn;
+        do {
+            turn = engine.attack();
+            published.add(turn.state());
+        } while (turn.outcome() == TurnResult.Outcome.ONGOING);
+        done.set(true);
+        reader.join();
+
+        assertEquals(TurnResult.Outcome.WON, turn.outcome());
+        assertTrue(turn.state().isOver());
+        int lastTurn = -1;
+        for (BattleSnapshot snapshot : seen) {
+            assertSame("Snapshots should be the ones published for their turn", published.get(snapshot.turn()), snapshot);
+            assertTrue("Turns should only move forward", snapshot.turn() > lastTurn);
+            lastTurn = snapshot.turn();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ArenaGame.ui;
+
+import javax.swing.SwingUtilities;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class BoundedLogDocumentTest {
+
+    private BoundedLogDocument document;
+    private int flushes;
+
+    @Before
+    public void setUp() {
+        document = new BoundedLogDocument(8);
+        flushes = 0;
+        document.setAfterFlush(() -> flushes++);
+    }
+
+    @After
+    public void tearDown() {
+        document = null;
+    }
+
+    /**
+     * Test of append method, of class BoundedLogDocument.
+     */
+    @Test
+    public void testAppendsInOneEventFlushOnce() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            document.append("You attack.\n");
+            document.append("Spartacus guards.\n");
+            document.append("Spartacus taunts.\n");
+        });
+        SwingUtilities.invokeAndWait(() -> { }); // let the queued flush run
+        assertEquals("Appends from one turn should be written in one flush", 1, flushes);
+        assertEquals("All appended text should be in the document",
+                "You attack.\nSpartacus guards.\nSpartacus taunts.\n", document.getText(0, document.getLength()));
+    }
+
+    /**
+     * Test of flush method, of class BoundedLogDocument.
+     */
+    @Test
+    public void testOldLinesAreTrimmed() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < 100; i++) {
+                document.append("line " + i + "\n");
+                document.flush();
+            }
+        });
+        assertTrue("Document should stay near its line limit", document.getLineCount() <= 8 + 2);
+        String text = document.getText(0, document.getLength());
+        assertTrue("Newest line should be kept", text.endsWith("line 99\n"));
+        assertFalse("Oldest lines should be dropped", text.contains("line 0\n"));
+    }
+
+    /**
+     * Test of flush method, of class BoundedLogDocument.
+     */
+    @Test
+    public void testTrimKeepsExactlyMaxLines() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < 11; i++) { // 8 lines plus 2 slack, the 11th triggers the trim
+                document.append("line " + i + "\n");
+                document.flush();
+            }
+        });
+        assertEquals(8, document.getLineCount());
+        assertEquals("line 3\nline 4\nline 5\nline 6\nline 7\nline 8\nline 9\nline 10\n",
+                document.getText(0, document.getLength()));
+    }
+}